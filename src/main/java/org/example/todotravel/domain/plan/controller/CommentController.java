@@ -11,6 +11,7 @@ import org.example.todotravel.domain.plan.service.PlanService;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.service.UserService;
 import org.example.todotravel.global.controller.ApiResponse;
+import org.example.todotravel.global.dto.PagedResponseDto;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -32,6 +33,15 @@ public class CommentController {
         return new ApiResponse<>(true, "댓글 생성 성공", commentResponseDto);
     }
 
+    //플랜 댓글 목록 조회 (커서 페이징, 작성 순)
+    @GetMapping("/{plan_id}/comments")
+    public ApiResponse<PagedResponseDto<CommentResponseDto>> getComments(@PathVariable("plan_id") Long planId,
+                                                                         @RequestParam(name = "lastCommentId", required = false) Long lastCommentId,
+                                                                         @RequestParam(name = "size", defaultValue = "20") int size){
+        PagedResponseDto<CommentResponseDto> commentList = commentService.getCommentsByPlan(planId, lastCommentId, size);
+        return new ApiResponse<>(true, "댓글 목록 조회 성공", commentList);
+    }
+
     //수정할 댓글 조회
     @GetMapping("/comment/{comment_id}")
     public ApiResponse<CommentResponseDto> getUpdateComment(@PathVariable("comment_id") Long commentId){
@@ -8,6 +8,8 @@ import org.example.todotravel.global.controller.ApiResponse;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/location")
@@ -23,6 +25,16 @@ public class LocationController {
         return new ApiResponse<>(true, "장소 저장 성공", location);
     }
 
+    //주변 여행 장소 검색하기 - 가까운 순
+    @GetMapping("/nearby")
+    public ApiResponse<List<Location>> getNearbyLocations(@RequestParam("latitude") double latitude,
+                                                          @RequestParam("longitude") double longitude,
+                                                          @RequestParam(name = "radius", defaultValue = "500") double radius,
+                                                          @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        List<Location> locations = locationService.getNearbyLocations(latitude, longitude, radius, limit);
+        return new ApiResponse<>(true, "주변 장소 검색 성공", locations);
+    }
+
     //여행 장소 검색하기
     @GetMapping("/{location_id}")
     public ApiResponse<Location> getByLocationId(@PathVariable("location_id") Long locationId) {
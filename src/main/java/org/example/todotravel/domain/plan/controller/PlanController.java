@@ -11,19 +11,30 @@ import org.example.todotravel.domain.plan.dto.response.PlanResponseDto;
 import org.example.todotravel.domain.plan.dto.response.PlanUserResponseDto;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.export.ExportFormat;
+import org.example.todotravel.domain.plan.service.PlanDetailReadService;
+import org.example.todotravel.domain.plan.service.PlanExportService;
 import org.example.todotravel.domain.plan.service.PlanService;
 import org.example.todotravel.domain.plan.service.PlanUserService;
-import org.example.todotravel.domain.plan.service.ScheduleService;
 import org.example.todotravel.domain.user.dto.response.UserListResponseDto;
 import org.example.todotravel.domain.user.entity.Follow;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.service.UserService;
 import org.example.todotravel.global.controller.ApiResponse;
+import org.example.todotravel.global.storage.UploadKeys;
 import org.example.todotravel.global.dto.PagedResponseDto;
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.example.todotravel.global.exception.UnsupportedImageException;
+import org.example.todotravel.global.image.ImagePipeline;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -40,7 +51,9 @@ public class PlanController {
     private final UserService userService;
     private final PlanUserService planUserService;
     private final ChatRoomService chatRoomService;
-    private final ScheduleService scheduleService;
+    private final PlanDetailReadService planDetailReadService;
+    private final PlanExportService planExportService;
+    private final ImagePipeline imagePipeline;
 
     //플랜 생성
     @PostMapping
@@ -60,13 +73,30 @@ public class PlanController {
     //플랜 가져오기(모든 플랜 관련 정보(플랜 정보, 북마크, 좋아요, 댓글, 일정))
     @GetMapping("/{plan_id}")
     public ApiResponse<PlanResponseDto> getPlan(@PathVariable("plan_id") Long planId) {
-        PlanResponseDto planDetails = planService.getPlanDetails(planId);
-        planDetails = planDetails.toBuilder()
-            .scheduleList(scheduleService.getSchedulesByPlan(planId))
-            .build();
+        PlanResponseDto planDetails = planDetailReadService.getPlanDetail(planId);
         return new ApiResponse<>(true, "플랜 조회 성공", planDetails);
     }
 
+    // 플랜 내보내기 (json, ics) - 일정을 조회하는 대로 응답에 씀
+    // 플랜/일정이 바뀌지 않았으면 If-None-Match로 304 응답
+    @GetMapping("/{plan_id}/export")
+    public ResponseEntity<StreamingResponseBody> exportPlan(@PathVariable("plan_id") Long planId,
+                                                            @RequestParam(name = "format", defaultValue = "json") String format,
+                                                            WebRequest webRequest) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String eTag = planExportService.getExportETag(planId, exportFormat);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        StreamingResponseBody body = outputStream -> planExportService.exportPlan(planId, exportFormat, outputStream);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"plan-" + planId + "." + exportFormat.getExtension() + "\"")
+            .body(body);
+    }
+
     // 플랜 수정
     @PutMapping("/{plan_id}")
     public ApiResponse<Long> updatePlan(@PathVariable("plan_id") Long planId,
@@ -126,11 +156,21 @@ public class PlanController {
 
     //전체 플랜 조회 - 공개 상태인 플랜만
     @GetMapping("/public")
-    public ApiResponse<List<PlanListResponseDto>> getPublicPlans() {
-        List<PlanListResponseDto> planList = planService.getPublicPlans();
+    public ApiResponse<PagedResponseDto<PlanListResponseDto>> getPublicPlans(@RequestParam(name = "page", defaultValue = "0") int page,
+                                                                            @RequestParam(name = "size", defaultValue = "12") int size) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getPublicPlans(page, size);
         return new ApiResponse<>(true, "플랜 목록 조회 성공", planList);
     }
 
+    //전체 공개 플랜 스트리밍 조회 (NDJSON, 한 줄에 플랜 하나)
+    @GetMapping(value = "/public/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamPublicPlans() {
+        StreamingResponseBody body = planService::streamPublicPlans;
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+
     // 플랜 기본 인기순으로 가져오기 (Public, No Recruitment)
     @GetMapping("/popular")
     public ApiResponse<?> getPopularPlans(@RequestParam(name = "page", defaultValue = "0") int page,
@@ -185,6 +225,33 @@ public class PlanController {
         return new ApiResponse<>(true, "행정구역+도시별 최신순 플랜 조회에 성공했습니다.", planList);
     }
 
+    // 플랜 최신순 커서 페이징 (무한 스크롤용, 첫 요청은 lastPlanId 생략)
+    @GetMapping("/recent/cursor")
+    public ApiResponse<?> getRecentPlansWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                   @RequestParam(name = "size", defaultValue = "12") int size) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansByRecruitmentWithCursor(lastPlanId, size, false);
+        return new ApiResponse<>(true, "최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 행정구역별 최신순 플랜 커서 페이징
+    @GetMapping("/recent/frontLocation/cursor")
+    public ApiResponse<?> getRecentPlansByFrontLocationWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                                  @RequestParam(name = "size", defaultValue = "12") int size,
+                                                                  @RequestParam(name = "frontLocation") String frontLocation) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithFrontLocationWithCursor(lastPlanId, size, frontLocation, false);
+        return new ApiResponse<>(true, "행정구역별 최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 행정구역+도시별 최신순 플랜 커서 페이징
+    @GetMapping("/recent/location/cursor")
+    public ApiResponse<?> getRecentPlansByLocationWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                             @RequestParam(name = "size", defaultValue = "12") int size,
+                                                             @RequestParam(name = "frontLocation") String frontLocation,
+                                                             @RequestParam(name = "location") String location) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithAllLocationWithCursor(lastPlanId, size, frontLocation, location, false);
+        return new ApiResponse<>(true, "행정구역+도시별 최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
     //플랜 가져오기(댓글x, 일정x)   (플랜 정보, 북마크, 좋아요)
     //상단의 getPlan이 플랜의 모든 관련 정보들을 return
     @GetMapping("/public/{plan_id}")
@@ -209,23 +276,66 @@ public class PlanController {
 
     //플랜 검색
     @GetMapping("/search/{keyword}")
-    public ApiResponse<List<PlanListResponseDto>> searchPlans(@PathVariable("keyword") String keyword) {
-        List<PlanListResponseDto> planList = planService.getSpecificPlans(keyword);
+    public ApiResponse<PagedResponseDto<PlanListResponseDto>> searchPlans(@PathVariable("keyword") String keyword,
+                                                                         @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                         @RequestParam(name = "size", defaultValue = "12") int size) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getSpecificPlans(keyword, page, size);
         return new ApiResponse<>(true, "플랜 검색 성공", planList);
     }
 
-    // 플랜 썸네일 이미지 등록
+    //주변 플랜 조회 - 일정 장소가 반경(m) 안에 있는 공개 플랜, 가까운 순
+    @GetMapping("/nearby")
+    public ApiResponse<PagedResponseDto<PlanListResponseDto>> getNearbyPlans(@RequestParam("latitude") double latitude,
+                                                                            @RequestParam("longitude") double longitude,
+                                                                            @RequestParam(name = "radius", defaultValue = "5000") double radius,
+                                                                            @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                            @RequestParam(name = "size", defaultValue = "12") int size) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getNearbyPlans(latitude, longitude, radius, page, size);
+        return new ApiResponse<>(true, "주변 플랜 조회 성공", planList);
+    }
+
+    //지도 영역 플랜 조회 - 일정 장소가 영역 안에 있는 공개 플랜, 최신순
+    @GetMapping("/area")
+    public ApiResponse<PagedResponseDto<PlanListResponseDto>> getPlansInArea(@RequestParam("minLatitude") double minLatitude,
+                                                                            @RequestParam("minLongitude") double minLongitude,
+                                                                            @RequestParam("maxLatitude") double maxLatitude,
+                                                                            @RequestParam("maxLongitude") double maxLongitude,
+                                                                            @RequestParam(name = "page", defaultValue = "0") int page,
+                                                                            @RequestParam(name = "size", defaultValue = "12") int size) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getPlansInArea(minLatitude, minLongitude, maxLatitude, maxLongitude, page, size);
+        return new ApiResponse<>(true, "영역 플랜 조회 성공", planList);
+    }
+
+    // 플랜 썸네일 이미지 등록 (file 대신 /api/storage/uploads로 미리 올린 uploadKey 전달 가능)
     @PostMapping("/thumbnail/{plan_id}")
-    public ApiResponse<PlanThumbnailRequestDto> uploadThumbnailImage(@PathVariable("plan_id") Long planId, @RequestParam("file")
-    MultipartFile file) {
+    public ApiResponse<PlanThumbnailRequestDto> uploadThumbnailImage(@PathVariable("plan_id") Long planId,
+                                                                     @RequestParam(value = "file", required = false) MultipartFile file,
+                                                                     @RequestParam(value = "uploadKey", required = false) String uploadKey) {
         try {
-            planService.updateThumbnailImage(planId, file);
+            if (uploadKey != null) {
+                // 본인이 올린 원본만 사용 가능
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+                User user = userService.getUserByUsername(userDetails.getUsername());
+                if (!UploadKeys.isStagingKeyOf(uploadKey, user.getUserId())) {
+                    return new ApiResponse<>(false, "업로드한 이미지를 찾을 수 없습니다.");
+                }
+                // 저장소 확인은 트랜잭션 밖에서
+                imagePipeline.checkStagedUpload(uploadKey);
+                planService.updateThumbnailImageFromUpload(planId, uploadKey);
+            } else {
+                planService.updateThumbnailImage(planId, file);
+            }
 
             Plan plan = planService.getThumbnailImageUrl(planId);
             String thumnailImageUrl = plan.getPlanThumbnailUrl();
 
+            // 변환은 비동기로 진행되므로 응답의 URL은 기존 이미지 (반영되면 /sub/plan/{planId}로 UPDATED 알림)
             PlanThumbnailRequestDto response = new PlanThumbnailRequestDto(planId, thumnailImageUrl);
-            return new ApiResponse<>(true, "썸네일 이미지가 성공적으로 업로드 되었습니다.", response);
+            return new ApiResponse<>(true, "썸네일 이미지 업로드가 접수되었습니다. 변환이 끝나면 반영됩니다.", response);
+        } catch (UnsupportedImageException | ServerBusyException e) {
+            // 변환할 수 없는 이미지는 400, 변환 대기열이 가득 찬 경우는 503으로 응답
+            throw e;
         } catch (Exception e) {
             return new ApiResponse<>(false, "썸네일 이미지 등록에 실패했습니다.");
         }
@@ -173,4 +173,61 @@ public class RecruitmentController {
         PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithAllLocationAndStartDate(page, size, frontLocation, location, true, startDate);
         return new ApiResponse<>(true, "날짜, 행정구역+도시별 최신순 플랜 조회에 성공했습니다.", planList);
     }
+
+    // 모집 플랜 최신순 커서 페이징 (무한 스크롤용, 첫 요청은 lastPlanId 생략)
+    @GetMapping("/recruitment/recent/cursor")
+    public ApiResponse<?> getRecentPlansWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                   @RequestParam(name = "size", defaultValue = "12") int size) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansByRecruitmentWithCursor(lastPlanId, size, true);
+        return new ApiResponse<>(true, "최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 행정구역별 모집 플랜 최신순 커서 페이징
+    @GetMapping("/recruitment/recent/frontLocation/cursor")
+    public ApiResponse<?> getRecentPlansByFrontLocationWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                                  @RequestParam(name = "size", defaultValue = "12") int size,
+                                                                  @RequestParam(name = "frontLocation") String frontLocation) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithFrontLocationWithCursor(lastPlanId, size, frontLocation, true);
+        return new ApiResponse<>(true, "행정구역별 최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 행정구역+도시별 모집 플랜 최신순 커서 페이징
+    @GetMapping("/recruitment/recent/location/cursor")
+    public ApiResponse<?> getRecentPlansByLocationWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                             @RequestParam(name = "size", defaultValue = "12") int size,
+                                                             @RequestParam(name = "frontLocation") String frontLocation,
+                                                             @RequestParam(name = "location") String location) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithAllLocationWithCursor(lastPlanId, size, frontLocation, location, true);
+        return new ApiResponse<>(true, "행정구역+도시별 최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 날짜별 모집 플랜 최신순 커서 페이징
+    @GetMapping("/recruitment/recent/startDate/cursor")
+    public ApiResponse<?> getRecentPlansByStartDateWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                              @RequestParam(name = "size", defaultValue = "12") int size,
+                                                              @RequestParam(name = "startDate") LocalDate startDate) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansRecruitmentByStartDateWithCursor(lastPlanId, size, true, startDate);
+        return new ApiResponse<>(true, "날짜, 최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 날짜, 행정구역별 모집 플랜 최신순 커서 페이징
+    @GetMapping("/recruitment/recent/frontLocation/startDate/cursor")
+    public ApiResponse<?> getRecentPlansByFrontLocationAndStartDateWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                                              @RequestParam(name = "size", defaultValue = "12") int size,
+                                                                              @RequestParam(name = "frontLocation") String frontLocation,
+                                                                              @RequestParam(name = "startDate") LocalDate startDate) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithFrontLocationAndStartDateWithCursor(lastPlanId, size, frontLocation, true, startDate);
+        return new ApiResponse<>(true, "날짜, 행정구역별 최신순 플랜 조회에 성공했습니다.", planList);
+    }
+
+    // 날짜, 행정구역+도시별 모집 플랜 최신순 커서 페이징
+    @GetMapping("/recruitment/recent/location/startDate/cursor")
+    public ApiResponse<?> getRecentPlansByLocationAndStartDateWithCursor(@RequestParam(name = "lastPlanId", required = false) Long lastPlanId,
+                                                                         @RequestParam(name = "size", defaultValue = "12") int size,
+                                                                         @RequestParam(name = "frontLocation") String frontLocation,
+                                                                         @RequestParam(name = "location") String location,
+                                                                         @RequestParam(name = "startDate") LocalDate startDate) {
+        PagedResponseDto<PlanListResponseDto> planList = planService.getRecentPlansWithAllLocationAndStartDateWithCursor(lastPlanId, size, frontLocation, location, true, startDate);
+        return new ApiResponse<>(true, "날짜, 행정구역+도시별 최신순 플랜 조회에 성공했습니다.", planList);
+    }
 }
@@ -0,0 +1,30 @@
+package org.example.todotravel.domain.plan.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.todotravel.domain.plan.dto.response.PlanRouteResponseDto;
+import org.example.todotravel.domain.plan.dto.response.RouteOptimizeResponseDto;
+import org.example.todotravel.domain.plan.service.RouteService;
+import org.example.todotravel.global.controller.ApiResponse;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/plan")
+public class RouteController {
+    private final RouteService routeService;
+
+    //일차별 이동 경로(거리, 예상 이동 시간) 조회
+    @GetMapping("/{plan_id}/route")
+    public ApiResponse<PlanRouteResponseDto> getPlanRoute(@PathVariable("plan_id") Long planId) {
+        PlanRouteResponseDto route = routeService.getPlanRoute(planId);
+        return new ApiResponse<>(true, "여행 경로 조회 성공", route);
+    }
+
+    //하루 일정의 방문 순서 추천 (일정은 변경하지 않음)
+    @GetMapping("/{plan_id}/route/{day}/optimize")
+    public ApiResponse<RouteOptimizeResponseDto> optimizeDayRoute(@PathVariable("plan_id") Long planId,
+                                                                  @PathVariable("day") Integer travelDayCount) {
+        RouteOptimizeResponseDto route = routeService.optimizeDayRoute(planId, travelDayCount);
+        return new ApiResponse<>(true, "방문 순서 추천 성공", route);
+    }
+}
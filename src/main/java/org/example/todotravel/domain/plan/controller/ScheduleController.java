@@ -2,6 +2,7 @@ package org.example.todotravel.domain.plan.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.todotravel.domain.plan.dto.request.ScheduleBatchRequestDto;
 import org.example.todotravel.domain.plan.dto.request.ScheduleCreateRequestDto;
 import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
 import org.example.todotravel.domain.plan.entity.Schedule;
@@ -9,6 +10,8 @@ import org.example.todotravel.domain.plan.service.ScheduleService;
 import org.example.todotravel.global.controller.ApiResponse;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/plan")
@@ -24,11 +27,12 @@ public class ScheduleController {
         return new ApiResponse<>(true, "일정 저장 성공", responseDto);
     }
 
-    //여행 일정 삭제
+    //여행 일정 삭제 (단일 필드 수정도 동일) - version을 보내면 그 사이 다른 사용자가 수정한 경우 409로 거절
     @DeleteMapping("/{plan_id}/course/{schedule_id}")
     public ApiResponse<Void> removeSchedule(@PathVariable("plan_id") Long planId,
-                                            @PathVariable("schedule_id") Long scheduleId) {
-        scheduleService.removeSchedule(scheduleId);
+                                            @PathVariable("schedule_id") Long scheduleId,
+                                            @RequestParam(name = "version", required = false) Long version) {
+        scheduleService.removeSchedule(scheduleId, version);
         return new ApiResponse<>(true, "일정이 삭제되었습니다.");
     }
 
@@ -40,19 +44,29 @@ public class ScheduleController {
         return new ApiResponse<>(true, "일정 불러오기", responseDto);
     }
 
+    //여행 일정 일괄 편집 (생성/수정/삭제/순서 변경을 한 번에 적용하고 최종 일정 목록 반환)
+    @PutMapping("/{plan_id}/course/batch")
+    public ApiResponse<List<ScheduleResponseDto>> applyScheduleBatch(@PathVariable("plan_id") Long planId,
+                                                                     @Valid @RequestBody ScheduleBatchRequestDto dto) {
+        List<ScheduleResponseDto> scheduleList = scheduleService.applyScheduleBatch(planId, dto);
+        return new ApiResponse<>(true, "일정 일괄 저장 성공", scheduleList);
+    }
+
     //여행 일정 description 관리 - 수정
     @PutMapping("/{schedule_id}/description")
     public ApiResponse<String> updateScheduleDescription(
             @PathVariable("schedule_id") Long scheduleId,
-            @RequestBody String description) {
-        scheduleService.updateDescription(scheduleId, description);
+            @RequestBody String description,
+            @RequestParam(name = "version", required = false) Long version) {
+        scheduleService.updateDescription(scheduleId, description, version);
         return new ApiResponse<>(true, "메모가 수정되었습니다..", description);
     }
 
     //여행 일정 status 관리
     @PutMapping("/{schedule_id}/status")
-    public ApiResponse<Void> updateScheduleStatus(@PathVariable("schedule_id") Long scheduleId) {
-        scheduleService.updateStatus(scheduleId);
+    public ApiResponse<Void> updateScheduleStatus(@PathVariable("schedule_id") Long scheduleId,
+                                                  @RequestParam(name = "version", required = false) Long version) {
+        scheduleService.updateStatus(scheduleId, version);
         return new ApiResponse<>(true, "여행 일정 상태 저장 완료");
     }
 
@@ -60,17 +74,19 @@ public class ScheduleController {
     @PutMapping("/{schedule_id}/vehicle")
     public ApiResponse<Schedule.VehicleType> updateScheduleVehicle(
             @PathVariable("schedule_id") Long scheduleId,
-            @RequestBody Schedule.VehicleType vehicle) {
-        scheduleService.updateVehicle(scheduleId, vehicle);
+            @RequestBody Schedule.VehicleType vehicle,
+            @RequestParam(name = "version", required = false) Long version) {
+        scheduleService.updateVehicle(scheduleId, vehicle, version);
         return new ApiResponse<>(true, "이동수단이 추가되었습니다.", vehicle);
     }
 
     //여행 일정 price 관리 - 수정(등록)
     @PutMapping("/{schedule_id}/price")
     public ApiResponse<Long> updateSchedulePrice(@PathVariable("schedule_id") Long scheduleId,
-                                                 @RequestBody Long price) {
+                                                 @RequestBody Long price,
+                                                 @RequestParam(name = "version", required = false) Long version) {
         System.out.println("Received price: " + price);
-        scheduleService.updatePrice(scheduleId, price);
+        scheduleService.updatePrice(scheduleId, price, version);
         return new ApiResponse<>(true, "예산이 추가되었습니다.", price);
     }
 
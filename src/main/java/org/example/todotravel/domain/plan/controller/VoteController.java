@@ -2,6 +2,7 @@ package org.example.todotravel.domain.plan.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.todotravel.domain.plan.dto.request.VoteRequestDto;
+import org.example.todotravel.domain.plan.dto.response.VoteListResponseDto;
 import org.example.todotravel.domain.plan.dto.response.VoteResponseDto;
 import org.example.todotravel.domain.plan.entity.Vote;
 import org.example.todotravel.domain.plan.service.VoteService;
@@ -63,9 +64,13 @@ public class VoteController {
 
     //투표 전체 보기
     @GetMapping("/{plan_id}/list")
-    public ApiResponse<Page<VoteResponseDto>> showAllVotes(@PathVariable("plan_id") Long planId,
-                                                           Pageable pageable) {
-        Page<VoteResponseDto> voteList = voteService.getAllVoteList(planId, pageable);
+    public ApiResponse<Page<VoteListResponseDto>> showAllVotes(@PathVariable("plan_id") Long planId,
+                                                               Pageable pageable) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        User user = userService.getUserByUsername(userDetails.getUsername());
+
+        Page<VoteListResponseDto> voteList = voteService.getAllVoteList(planId, user, pageable);
         return new ApiResponse<>(true, "투표 목록 조회 성공", voteList);
     }
 
@@ -25,7 +25,7 @@ public class VoteLogController {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         User user = userService.getUserByUsername(userDetails.getUsername());
 
-        voteLogService.castVote(voteId, user);
-        return new ApiResponse<>(true, "투표가 처리되었습니다.", null);
+        boolean voted = voteLogService.castVote(voteId, user);
+        return new ApiResponse<>(true, voted ? "투표가 처리되었습니다." : "투표가 취소되었습니다.", null);
     }
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ public class PlanRequestDto {
     private Boolean status;
     private Long totalBudget;
     private String planThumbnailUrl;
+    // 수정 시 조회 시점의 플랜 버전 (보내면 그 사이 다른 사람이 수정한 경우 충돌로 거절)
+    private Long version;
 
     public Plan toEntity(){
         return Plan.builder()
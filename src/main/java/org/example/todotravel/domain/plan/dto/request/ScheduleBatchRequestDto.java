@@ -0,0 +1,28 @@
+package org.example.todotravel.domain.plan.dto.request;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 한 플랜의 일정 생성/수정/삭제/순서 변경을 한 번에 적용하기 위한 요청 (각 목록은 생략 가능)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class ScheduleBatchRequestDto {
+    @Valid
+    private List<ScheduleCreateRequestDto> creates;
+
+    @Valid
+    private List<ScheduleUpdateRequestDto> updates;
+
+    @Valid
+    private List<ScheduleDeleteRequestDto> deletes;
+
+    @Valid
+    private List<ScheduleReorderRequestDto> reorders;
+}
@@ -0,0 +1,25 @@
+package org.example.todotravel.domain.plan.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일정 일괄 삭제 - {"scheduleId": 1, "version": 3} 형식, 기존처럼 일정 id 숫자만 보내도 됨 (버전 확인 생략)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class ScheduleDeleteRequestDto {
+    @NotNull
+    private Long scheduleId;
+    // 조회 시점의 일정 버전 (보내면 그 사이 다른 사람이 수정한 경우 충돌로 거절)
+    private Long version;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public ScheduleDeleteRequestDto(long scheduleId) {
+        this.scheduleId = scheduleId;
+    }
+}
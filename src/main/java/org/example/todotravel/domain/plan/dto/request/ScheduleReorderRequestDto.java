@@ -0,0 +1,24 @@
+package org.example.todotravel.domain.plan.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+// 일정 순서 변경 - 일차와 시간을 옮김 (travelTime이 null이면 시간 없이 해당 일차로만 이동)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class ScheduleReorderRequestDto {
+    @NotNull
+    private Long scheduleId;
+    @NotNull
+    private Integer travelDayCount;
+    private LocalTime travelTime;
+    // 조회 시점의 일정 버전 (보내면 그 사이 다른 사람이 수정한 경우 충돌로 거절)
+    private Long version;
+}
@@ -1,4 +1,24 @@
 package org.example.todotravel.domain.plan.dto.request;
 
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.todotravel.domain.plan.entity.Schedule;
+
+// 일정 일괄 수정 - null인 필드는 변경하지 않음
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
 public class ScheduleUpdateRequestDto {
+    @NotNull
+    private Long scheduleId;
+    private String description;
+    private Boolean status;
+    private Schedule.VehicleType vehicle;
+    private Long price;
+    // 조회 시점의 일정 버전 (보내면 그 사이 다른 사람이 수정한 경우 충돌로 거절)
+    private Long version;
 }
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.example.todotravel.domain.plan.entity.Vote;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,4 +21,7 @@ public class VoteRequestDto {
     private LocalDateTime endDate;
     @NotNull
     private Vote.Category category;
+    //null 허용 - 일차를 지정하면 마감 후 선정된 장소가 해당 일차 일정으로 추가됨
+    private Integer travelDayCount;
+    private LocalTime travelTime;
 }
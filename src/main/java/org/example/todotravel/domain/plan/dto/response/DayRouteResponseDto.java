@@ -0,0 +1,19 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class DayRouteResponseDto {
+    private Integer travelDayCount;
+    private List<RouteStopResponseDto> stops;
+    private Long totalDistanceMeters;
+    private Long totalTravelMinutes;
+}
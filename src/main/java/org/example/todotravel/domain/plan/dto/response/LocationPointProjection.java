@@ -0,0 +1,7 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+public interface LocationPointProjection {
+    Long getLocationId();
+    double getLatitude();
+    double getLongitude();
+}
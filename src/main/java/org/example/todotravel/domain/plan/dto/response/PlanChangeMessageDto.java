@@ -0,0 +1,22 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// /sub/plan/{planId} 로 전달되는 변경 알림 - 클라이언트는 변경된 부분만 다시 조회
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class PlanChangeMessageDto {
+    private Long planId;
+    private String changeType;
+    // SCHEDULE 변경 시 생성/수정/삭제된 일정 id
+    private List<Long> scheduleIds;
+    private LocalDateTime changedAt;
+}
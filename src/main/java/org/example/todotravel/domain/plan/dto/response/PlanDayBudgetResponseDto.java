@@ -0,0 +1,14 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class PlanDayBudgetResponseDto {
+    private Integer travelDayCount;
+
+    private Long spent;
+}
@@ -27,6 +27,10 @@ public class PlanListResponseDto {
 
     private Long likeNumber;
 
+    private Long totalBudget;
+
+    private Long spentBudget;
+
     private Integer participantsCount;
 
     private Long planUserCount;
@@ -37,7 +41,8 @@ public class PlanListResponseDto {
 
     public PlanListResponseDto(Long planId, String title, String location,
                                String description, LocalDate startDate, LocalDate endDate,
-                               String planThumbnailUrl, String planUserNickname) {
+                               String planThumbnailUrl, String planUserNickname,
+                               Long bookmarkNumber, Long likeNumber, Long totalBudget, Long spentBudget) {
         this.planId = planId;
         this.title = title;
         this.location = location;
@@ -46,5 +51,9 @@ public class PlanListResponseDto {
         this.endDate = endDate;
         this.planThumbnailUrl = planThumbnailUrl;
         this.planUserNickname = planUserNickname;
+        this.bookmarkNumber = bookmarkNumber;
+        this.likeNumber = likeNumber;
+        this.totalBudget = totalBudget;
+        this.spentBudget = spentBudget;
     }
 }
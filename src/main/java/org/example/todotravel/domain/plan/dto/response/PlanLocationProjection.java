@@ -0,0 +1,6 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+public interface PlanLocationProjection {
+    Long getPlanId();
+    Long getLocationId();
+}
@@ -43,6 +43,11 @@ public class PlanResponseDto {
 
     private Long totalBudget;
 
+    private Long spentBudget;
+
+    // 일차별 지출 합계 (상세 조회에서만 포함)
+    private List<PlanDayBudgetResponseDto> dayBudgets;
+
     private Long planUserId;
 
     private String planUserNickname;
@@ -53,9 +58,20 @@ public class PlanResponseDto {
 
     private List<ScheduleResponseDto> scheduleList;
 
+    // 상세 조회에는 댓글 첫 페이지만 포함 (이후는 /api/plan/{plan_id}/comments 로 조회)
     private List<CommentResponseDto> commentList;
 
+    private Long commentCount;
+
+    // 수정 요청 시 함께 보내 동시 수정 충돌을 감지
+    private Long version;
+
     public static PlanResponseDto fromEntity(Plan plan){
+        return fromEntity(plan, plan.getPlanUsers().stream().filter(planUser -> planUser.getStatus() == PlanUser.StatusType.ACCEPTED).count());
+    }
+
+    // 참여자 수를 별도 집계 쿼리로 구한 경우 (planUsers 컬렉션을 로딩하지 않음)
+    public static PlanResponseDto fromEntity(Plan plan, Long planUserCount){
         return PlanResponseDto.builder()
                 .planId(plan.getPlanId())
                 .title(plan.getTitle())
@@ -68,11 +84,15 @@ public class PlanResponseDto {
                 .status(plan.getStatus())
                 .planThumbnailUrl(plan.getPlanThumbnailUrl())
                 .participantsCount(plan.getParticipantsCount())
-                .planUserCount(plan.getPlanUsers().stream().filter(planUser -> planUser.getStatus() == PlanUser.StatusType.ACCEPTED).count())
+                .planUserCount(planUserCount)
                 .recruitment(plan.getRecruitment())
                 .totalBudget(plan.getTotalBudget())
+                .spentBudget(plan.getSpentBudget())
                 .planUserId(plan.getPlanUser().getUserId())
                 .planUserNickname(plan.getPlanUser().getNickname())
+                .bookmarkNumber(plan.getBookmarkCount())
+                .likeNumber(plan.getLikeCount())
+                .version(plan.getVersion())
                 .build();
     }
 }
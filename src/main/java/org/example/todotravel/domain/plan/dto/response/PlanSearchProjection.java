@@ -0,0 +1,9 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+public interface PlanSearchProjection {
+    Long getPlanId();
+    String getTitle();
+    String getLocation();
+    String getDescription();
+    Boolean getIsPublic();
+}
@@ -0,0 +1,6 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+public interface PlanUserCountProjection {
+    Long getPlanId();
+    Long getPlanUserCount();
+}
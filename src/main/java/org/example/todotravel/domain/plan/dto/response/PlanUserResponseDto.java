@@ -25,7 +25,8 @@ public class PlanUserResponseDto {
                 .userId(planUser.getUser().getUserId())
                 .planId(planUser.getPlan().getPlanId())
                 .nickname(planUser.getUser().getNickname())
-                .profileImageUrl(planUser.getUser().getProfileImageUrl())
+                .profileImageUrl(planUser.getUser().getProfileSmallImageUrl() != null
+                    ? planUser.getUser().getProfileSmallImageUrl() : planUser.getUser().getProfileImageUrl())
                 .build();
     }
 }
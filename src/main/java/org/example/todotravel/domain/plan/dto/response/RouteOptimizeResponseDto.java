@@ -0,0 +1,18 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class RouteOptimizeResponseDto {
+    private Integer travelDayCount;
+    // 현재 순서의 총 이동 거리
+    private Long originalDistanceMeters;
+    // 추천 방문 순서 (적용은 일정 일괄 편집의 reorders로)
+    private DayRouteResponseDto optimizedRoute;
+}
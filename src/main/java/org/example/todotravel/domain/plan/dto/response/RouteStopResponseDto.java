@@ -0,0 +1,25 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class RouteStopResponseDto {
+    private Long scheduleId;
+    private Long locationId;
+    private String locationName;
+    private Double latitude;
+    private Double longitude;
+    private LocalTime travelTime;
+    private String vehicle;
+    // 이전 장소에서 이 장소까지 (첫 장소는 0)
+    private Long distanceMeters;
+    private Long travelMinutes;
+}
@@ -0,0 +1,8 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+// 플랜 일정 구성이 바뀌었는지 판단하는 요약 값 (일정 수, 버전 합, 마지막 일정 id)
+public interface ScheduleFingerprintProjection {
+    Long getScheduleCount();
+    Long getVersionSum();
+    Long getMaxScheduleId();
+}
@@ -23,6 +23,18 @@ public class ScheduleResponseDto {
     private Long price;
     private Long planId;
     private Long locationId;
+    private String locationName;
+    private Double latitude;
+    private Double longitude;
+    private Long version;
+
+    // JPQL 생성자 조회용 (vehicle은 enum 그대로 받아 이름으로 변환)
+    public ScheduleResponseDto(Long scheduleId, Boolean status, Integer travelDayCount, String description,
+                               LocalTime travelTime, Schedule.VehicleType vehicle, Long price, Long planId,
+                               Long locationId, String locationName, Double latitude, Double longitude, Long version) {
+        this(scheduleId, status, travelDayCount, description, travelTime,
+            vehicle != null ? vehicle.name() : null, price, planId, locationId, locationName, latitude, longitude, version);
+    }
 
     public static ScheduleResponseDto fromEntity(Schedule schedule) {
         return ScheduleResponseDto.builder()
@@ -33,8 +45,12 @@ public class ScheduleResponseDto {
                 .travelTime(schedule.getTravelTime())
                 .planId(schedule.getPlan().getPlanId())
                 .locationId(schedule.getLocation().getLocationId())
+                .locationName(schedule.getLocation().getName())
+                .latitude(schedule.getLocation().getLatitude())
+                .longitude(schedule.getLocation().getLongitude())
                 .vehicle(schedule.getVehicle() != null ? schedule.getVehicle().name() : null)
                 .price(schedule.getPrice() != null ? schedule.getPrice() : null)
+                .version(schedule.getVersion())
                 .build();
     }
 }
\ No newline at end of file
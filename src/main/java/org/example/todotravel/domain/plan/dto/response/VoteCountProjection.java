@@ -0,0 +1,9 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+public interface VoteCountProjection {
+    Long getVoteId();
+    Long getPlanId();
+    Integer getVoteCount();
+    Boolean getClosed();
+    Boolean getWinner();
+}
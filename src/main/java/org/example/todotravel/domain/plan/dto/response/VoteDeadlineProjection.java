@@ -0,0 +1,8 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import java.time.LocalDateTime;
+
+public interface VoteDeadlineProjection {
+    Long getVoteId();
+    LocalDateTime getEndDate();
+}
@@ -0,0 +1,33 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.todotravel.domain.plan.entity.Vote;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 투표 목록 - 장소 이름/좌표와 조회한 사용자의 투표 여부를 한 번의 쿼리로 함께 조회
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class VoteListResponseDto {
+    private Long voteId;
+    private Long locationId;
+    private String locationName;
+    private Double latitude;
+    private Double longitude;
+    private Integer voteCount;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Vote.Category category;
+    private Integer travelDayCount;
+    private LocalTime travelTime;
+    private LocalDateTime closedAt;
+    private Boolean winner;
+    // 조회한 사용자가 이 투표에 투표했는지
+    private Boolean voted;
+}
@@ -4,6 +4,7 @@ import lombok.*;
 import org.example.todotravel.domain.plan.entity.Vote;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,6 +17,10 @@ public class VoteResponseDto {
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Vote.Category category;
+    private Integer travelDayCount;
+    private LocalTime travelTime;
+    private LocalDateTime closedAt;
+    private boolean winner;
 
     public static VoteResponseDto fromEntity(Vote vote) {
         return VoteResponseDto.builder()
@@ -25,6 +30,10 @@ public class VoteResponseDto {
                 .startDate(vote.getStartDate())
                 .endDate(vote.getEndDate())
                 .category(vote.getCategory())
+                .travelDayCount(vote.getTravelDayCount())
+                .travelTime(vote.getTravelTime())
+                .closedAt(vote.getClosedAt())
+                .winner(vote.isWinner())
                 .build();
     }
 
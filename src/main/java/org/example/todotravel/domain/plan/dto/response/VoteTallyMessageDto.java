@@ -0,0 +1,30 @@
+package org.example.todotravel.domain.plan.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// /sub/plan/{planId}/vote 로 전달되는 투표 집계 - 직전 전송 이후 투표 수나 마감/선정 여부가 바뀐 투표만 포함
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class VoteTallyMessageDto {
+    private Long planId;
+    private List<Tally> tallies;
+    private LocalDateTime publishedAt;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class Tally {
+        private Long voteId;
+        private int voteCount;
+        private boolean closed;
+        private boolean winner;
+    }
+}
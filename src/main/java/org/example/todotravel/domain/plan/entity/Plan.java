@@ -12,7 +12,13 @@ import org.example.todotravel.domain.user.entity.User;
 import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "plans")
+@Table(name = "plans", indexes = {
+    @Index(name = "idx_plans_popularity", columnList = "recruitment, is_public, popularity_score"),
+    @Index(name = "idx_plans_front_location_popularity", columnList = "front_location, popularity_score"),
+    @Index(name = "idx_plans_location_popularity", columnList = "front_location, location, popularity_score"),
+    @Index(name = "idx_plans_recent", columnList = "recruitment, is_public, plan_id"),
+    @Index(name = "idx_plans_location_recent", columnList = "front_location, location, plan_id")
+})
 @Getter
 @Setter
 @Builder(toBuilder = true)
@@ -61,9 +67,29 @@ public class Plan {
     @Column(name = "total_budget")
     private Long totalBudget;
 
-    @Column(name = "view_count")
+    // 조회 수, 인기 점수, 좋아요/북마크 수는 벌크 UPDATE 쿼리로만 갱신 (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
+    @Column(name = "view_count", updatable = false)
     private Long viewCount;
 
+    // 인기순 정렬용 점수 = 조회 수 * 0.075 + 좋아요 수
+    @Column(name = "popularity_score", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Double popularityScore;
+
+    // 좋아요/북마크 생성, 취소 시 함께 갱신되는 비정규화 카운터
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long likeCount;
+
+    @Column(name = "bookmark_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long bookmarkCount;
+
+    // 일정 가격 합계 - 일정 가격 변경 시 증감분만 반영 (일차별 합계는 plan_day_budgets)
+    @Column(name = "spent_budget", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long spentBudget;
+
     //생성자
     @ManyToOne
     @JoinColumn(name = "user_id")
@@ -81,4 +107,23 @@ public class Plan {
     @Column(name = "plan_thumbnail_url")
     private  String planThumbnailUrl;
 
+    // 피드 카드용 축소 이미지 (비동기 변환 완료 후 채워짐, 이전에 올린 이미지는 null)
+    @Column(name = "plan_card_image_url")
+    private String planCardImageUrl;
+
+    // 목록 행/알림용 작은 썸네일
+    @Column(name = "plan_small_image_url")
+    private String planSmallImageUrl;
+
+    // 진행 중인 썸네일 변환 작업 식별자 - 마지막으로 올린 이미지의 결과만 반영하기 위해 사용
+    // 벌크 UPDATE(PlanRepository)로만 바꿈 - 엔티티 변경으로 버전이 올라가거나, 같은 트랜잭션의 다른 수정이 이전 값으로 덮어쓰지 않도록
+    @Column(name = "image_upload_token", length = 36, updatable = false)
+    private String imageUploadToken;
+
+    // 동시 수정 감지용 (낙관적 락) - 벌크 UPDATE로 갱신하는 카운터는 버전을 올리지 않음
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
 }
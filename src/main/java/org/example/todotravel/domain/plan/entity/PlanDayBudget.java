@@ -0,0 +1,36 @@
+package org.example.todotravel.domain.plan.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+// 플랜의 여행 일차별 지출 합계 (일정 가격 변경 시 증감분만 반영하는 집계 테이블)
+@Entity
+@Table(name = "plan_day_budgets", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_plan_day_budgets_plan_day", columnNames = {"plan_id", "travel_day_count"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanDayBudget {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "plan_day_budget_id", nullable = false)
+    private Long planDayBudgetId;
+
+    // 플랜 삭제 시 DB에서 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "plan_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Plan plan;
+
+    @Column(name = "travel_day_count", nullable = false)
+    private Integer travelDayCount;
+
+    @Column(name = "spent", nullable = false)
+    @ColumnDefault("0")
+    private Long spent;
+}
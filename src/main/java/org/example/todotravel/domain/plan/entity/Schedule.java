@@ -3,6 +3,7 @@ package org.example.todotravel.domain.plan.entity;
 import lombok.*;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalTime;
 
@@ -49,4 +50,10 @@ public class Schedule {
     @ManyToOne
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
+
+    // 동시 수정 감지용 (낙관적 락)
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
 }
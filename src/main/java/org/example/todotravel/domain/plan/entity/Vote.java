@@ -3,9 +3,11 @@ package org.example.todotravel.domain.plan.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,7 +36,8 @@ public class Vote {
     @JoinColumn(name = "plan_participant_id", nullable = false)
     private PlanUser planUser;  //해당 plan에 있는 user
 
-    @Column(nullable = false, name = "vote_count")
+    // 투표/취소 시 증감 UPDATE 쿼리로만 갱신 (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, name = "vote_count", updatable = false)
     private int voteCount;
 
     @Column(nullable = false, name = "start_date", columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP")
@@ -50,6 +53,30 @@ public class Vote {
     @Column(nullable = false)
     private Category category;
 
+    // 선정 시 일정으로 반영할 여행 일차/시간 (일차가 없으면 일정 반영 없이 결과만 알림)
+    @Column(name = "travel_day_count")
+    private Integer travelDayCount;
+
+    @Column(name = "travel_time")
+    private LocalTime travelTime;
+
+    // 마감 시각 - 마감 이후에는 투표 수가 고정됨
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    // 같은 플랜/카테고리/일차의 투표가 모두 마감되면 가장 많은 표를 받은 투표가 선정됨
+    @Column(name = "is_winner", nullable = false)
+    @ColumnDefault("false")
+    private boolean winner;
+
+    // 선정 결과로 생성/수정한 일정 id (다시 선정될 때 새로 만들지 않고 장소만 교체)
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    public boolean isClosed() {
+        return closedAt != null;
+    }
+
     public enum Category {
         BREAKFAST, LUNCH, DINNER, //식사
         ACTIVITY, //주요 활동
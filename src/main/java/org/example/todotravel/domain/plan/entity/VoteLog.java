@@ -5,7 +5,10 @@ import lombok.*;
 import org.example.todotravel.domain.user.entity.User;
 
 @Entity
-@Table(name = "vote_logs")
+// 사용자당 투표 항목별로 한 행만 존재 (동시에 처음 투표해도 중복 행이 생기지 않음)
+@Table(name = "vote_logs", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_vote_logs_vote_user", columnNames = {"vote_id", "user_id"})
+})
 @Getter
 @Setter
 @Builder
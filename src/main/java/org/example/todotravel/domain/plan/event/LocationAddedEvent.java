@@ -0,0 +1,13 @@
+package org.example.todotravel.domain.plan.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 새 장소가 저장될 때 발행되는 이벤트 (장소 격자 인덱스 동기화용)
+@Getter
+@RequiredArgsConstructor
+public class LocationAddedEvent {
+    private final Long locationId;
+    private final double latitude;
+    private final double longitude;
+}
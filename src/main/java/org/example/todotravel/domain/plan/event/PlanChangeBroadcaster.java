@@ -0,0 +1,37 @@
+package org.example.todotravel.domain.plan.event;
+
+import lombok.RequiredArgsConstructor;
+import org.example.todotravel.domain.plan.dto.response.PlanChangeMessageDto;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+// 플랜을 함께 편집 중인 참여자에게 변경 사항을 STOMP로 전달 (플랜 상세를 주기적으로 다시 조회하지 않도록)
+@Component
+@RequiredArgsConstructor
+public class PlanChangeBroadcaster {
+    private static final String PLAN_TOPIC_PREFIX = "/sub/plan/";
+
+    private final SimpMessageSendingOperations template;
+
+    // 롤백된 변경을 알리지 않도록 커밋 이후에 전송
+    // 좋아요/북마크는 편집 내용이 아니고 빈도가 높아 제외
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlanChanged(PlanChangedEvent event) {
+        if (event.getChangeType() == PlanChangedEvent.ChangeType.LIKE
+            || event.getChangeType() == PlanChangedEvent.ChangeType.BOOKMARK) {
+            return;
+        }
+
+        PlanChangeMessageDto message = PlanChangeMessageDto.builder()
+            .planId(event.getPlanId())
+            .changeType(event.getChangeType().name())
+            .scheduleIds(event.getScheduleIds())
+            .changedAt(LocalDateTime.now())
+            .build();
+        template.convertAndSend(PLAN_TOPIC_PREFIX + event.getPlanId(), message);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.todotravel.domain.plan.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 플랜 또는 플랜에 딸린 데이터(일정, 댓글, 좋아요, 북마크, 참여자)가 바뀔 때 발행되는 이벤트
+// 검색 인덱스, 상세 조회 캐시 등 파생 데이터 동기화용
+@Getter
+public class PlanChangedEvent {
+    private final Long planId;
+    private final ChangeType changeType;
+    // SCHEDULE 변경 시 영향을 받은 일정 (실시간 편집 알림에서 변경된 일정만 다시 조회하도록)
+    private final List<Long> scheduleIds;
+
+    public PlanChangedEvent(Long planId, ChangeType changeType) {
+        this(planId, changeType, List.of());
+    }
+
+    public PlanChangedEvent(Long planId, ChangeType changeType, List<Long> scheduleIds) {
+        this.planId = planId;
+        this.changeType = changeType;
+        this.scheduleIds = List.copyOf(scheduleIds);
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED,
+        SCHEDULE, COMMENT, LIKE, BOOKMARK, PLAN_USER;
+
+        // 플랜 자체 컬럼(제목, 지역, 공개 여부 등)이 바뀌었는지
+        public boolean isPlanChange() {
+            return this == CREATED || this == UPDATED || this == DELETED;
+        }
+    }
+}
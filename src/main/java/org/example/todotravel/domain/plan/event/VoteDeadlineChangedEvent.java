@@ -0,0 +1,15 @@
+package org.example.todotravel.domain.plan.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 투표가 생성/수정/삭제되어 마감 시각이 바뀔 때 발행되는 이벤트 (마감 타이머 동기화용)
+// 삭제된 투표는 endDate가 null
+@Getter
+@RequiredArgsConstructor
+public class VoteDeadlineChangedEvent {
+    private final Long voteId;
+    private final LocalDateTime endDate;
+}
@@ -0,0 +1,11 @@
+package org.example.todotravel.domain.plan.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 투표/취소, 마감, 선정으로 투표 집계가 바뀔 때 발행되는 이벤트 (실시간 집계 전송용)
+@Getter
+@RequiredArgsConstructor
+public class VoteTallyChangedEvent {
+    private final Long voteId;
+}
@@ -0,0 +1,117 @@
+package org.example.todotravel.domain.plan.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.dto.response.VoteCountProjection;
+import org.example.todotravel.domain.plan.dto.response.VoteTallyMessageDto;
+import org.example.todotravel.domain.plan.repository.VoteRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 투표 수 변경을 플랜별 STOMP 채널로 전달 (참여자가 투표 목록을 주기적으로 다시 조회하지 않도록)
+// 투표가 몰려도 투표마다 전송 주기당 한 번만 보내도록, 바뀐 투표 id만 모아두었다가 주기마다 현재 값을 조회해 전송
+// 전송 주기는 전용 실행기(voteTallyExecutor)에서 돌려 다른 @Scheduled 작업에 밀리지 않도록 함
+@Slf4j
+@Component
+public class VoteTallyPublisher {
+    private static final String PLAN_TOPIC_PREFIX = "/sub/plan/";
+    private static final String VOTE_TOPIC_SUFFIX = "/vote";
+
+    private final VoteRepository voteRepository;
+    private final SimpMessageSendingOperations template;
+    private final ScheduledExecutorService voteTallyExecutor;
+    private final long publishIntervalMs;
+
+    private final Set<Long> changedVoteIds = ConcurrentHashMap.newKeySet();
+
+    public VoteTallyPublisher(VoteRepository voteRepository,
+                              SimpMessageSendingOperations template,
+                              @Qualifier("voteTallyExecutor") ScheduledExecutorService voteTallyExecutor,
+                              @Value("${vote.tally.publish-interval-ms:500}") long publishIntervalMs) {
+        this.voteRepository = voteRepository;
+        this.template = template;
+        this.voteTallyExecutor = voteTallyExecutor;
+        this.publishIntervalMs = publishIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        voteTallyExecutor.scheduleWithFixedDelay(this::publishSafely, publishIntervalMs, publishIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 예외가 밖으로 나가면 이후 주기가 모두 취소되므로 로그만 남김
+    private void publishSafely() {
+        try {
+            publish();
+        } catch (RuntimeException e) {
+            log.warn("투표 집계 전송 실패", e);
+        }
+    }
+
+    // 롤백된 투표가 집계에 섞이지 않도록 커밋 이후에 기록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteTallyChanged(VoteTallyChangedEvent event) {
+        changedVoteIds.add(event.getVoteId());
+    }
+
+    // 전송 시점의 DB 값을 보내므로 커밋 순서가 뒤바뀌어도 마지막 전송은 항상 최신 투표 수
+    public void publish() {
+        List<Long> voteIds = drainChangedVoteIds();
+        if (voteIds.isEmpty()) {
+            return;
+        }
+
+        List<VoteCountProjection> counts;
+        try {
+            counts = voteRepository.findVoteCountsByVoteIdIn(voteIds);
+        } catch (RuntimeException e) {
+            // 조회 실패 시 다음 주기에 다시 전송하도록 되돌림
+            log.warn("투표 집계 조회 실패 ({}건), 다음 주기에 재시도합니다.", voteIds.size(), e);
+            changedVoteIds.addAll(voteIds);
+            return;
+        }
+
+        // 삭제된 투표는 조회되지 않으므로 자연히 제외됨
+        Map<Long, List<VoteTallyMessageDto.Tally>> talliesByPlan = new LinkedHashMap<>();
+        for (VoteCountProjection count : counts) {
+            talliesByPlan.computeIfAbsent(count.getPlanId(), id -> new ArrayList<>())
+                .add(new VoteTallyMessageDto.Tally(count.getVoteId(), count.getVoteCount(),
+                    count.getClosed(), count.getWinner()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        talliesByPlan.forEach((planId, tallies) -> template.convertAndSend(
+            PLAN_TOPIC_PREFIX + planId + VOTE_TOPIC_SUFFIX,
+            VoteTallyMessageDto.builder()
+                .planId(planId)
+                .tallies(tallies)
+                .publishedAt(now)
+                .build()));
+    }
+
+    private List<Long> drainChangedVoteIds() {
+        List<Long> voteIds = new ArrayList<>();
+        Iterator<Long> iterator = changedVoteIds.iterator();
+        while (iterator.hasNext()) {
+            voteIds.add(iterator.next());
+            iterator.remove();
+        }
+        return voteIds;
+    }
+}
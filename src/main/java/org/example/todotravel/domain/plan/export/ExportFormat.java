@@ -0,0 +1,24 @@
+package org.example.todotravel.domain.plan.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 플랜 내보내기 형식
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    JSON("application/json", "json"),
+    ICS("text/calendar; charset=UTF-8", "ics");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new RuntimeException("지원하지 않는 내보내기 형식입니다. : " + format);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.todotravel.domain.plan.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// iCalendar(RFC 5545) 한 줄씩 쓰기 - 텍스트 이스케이프, 75바이트 줄 접기, CRLF 줄바꿈 처리
+public class IcsWriter {
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+
+    public IcsWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    // 값을 그대로 쓰는 속성 (날짜, 좌표 등)
+    public void raw(String name, String value) throws IOException {
+        writeLine(name + ":" + value);
+    }
+
+    // 사용자 입력 텍스트 속성 (SUMMARY, DESCRIPTION, LOCATION 등) - null이면 생략
+    public void text(String name, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        writeLine(name + ":" + escape(value));
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // UTF-8 기준 75바이트를 넘으면 다음 줄을 공백으로 시작해 이어 씀 (멀티바이트 문자는 자르지 않음)
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int size = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + size > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(line, i, charCount);
+            octets += size;
+            i += charCount;
+        }
+        writer.write("\r\n");
+    }
+}
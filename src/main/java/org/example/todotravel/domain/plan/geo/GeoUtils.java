@@ -0,0 +1,34 @@
+package org.example.todotravel.domain.plan.geo;
+
+// 위경도 좌표 거리 계산 유틸
+public final class GeoUtils {
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    // 위도 1도에 해당하는 거리 (경도 1도는 여기에 cos(위도)를 곱한 값)
+    public static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이의 대원 거리 (haversine, 미터)
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 반경(m)을 위도 차이(도)로 변환
+    public static double latitudeDelta(double meters) {
+        return meters / METERS_PER_DEGREE;
+    }
+
+    // 반경(m)을 해당 위도에서의 경도 차이(도)로 변환 (극지방에서는 경도 전체)
+    public static double longitudeDelta(double latitude, double meters) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        if (cos < 1e-6) {
+            return 360;
+        }
+        return Math.min(360, meters / (METERS_PER_DEGREE * cos));
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.todotravel.domain.plan.geo;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 장소 좌표를 균일 격자(0.01도, 약 1km)로 나눠 담는 메모리 공간 인덱스
+// 반경/영역 조회 시 겹치는 격자만 확인하므로 locations 전체를 훑지 않음
+// 서비스 지역(국내) 기준이라 날짜 변경선을 넘는 영역은 고려하지 않음
+@Component
+public class LocationGridIndex {
+    static final double CELL_DEGREES = 0.01;
+
+    // 격자 키 -> 격자 안의 장소들
+    private final Map<Long, List<GridPoint>> cells = new HashMap<>();
+    private final Set<Long> locationIds = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 장소 색인 (이미 색인된 장소는 무시 - 장소 좌표는 수정되지 않음)
+    public void add(Long locationId, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            if (locationIds.add(locationId)) {
+                cells.computeIfAbsent(cellKey(latitude, longitude), k -> new ArrayList<>())
+                    .add(new GridPoint(locationId, latitude, longitude));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 전체 색인 교체 (서버 시작 시 재구축)
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            locationIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return locationIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 반경 안에서 가장 가까운 장소 (중복 장소 판별용)
+    public Optional<Neighbor> nearest(double latitude, double longitude, double radiusMeters) {
+        List<Neighbor> neighbors = withinRadius(latitude, longitude, radiusMeters);
+        return neighbors.isEmpty() ? Optional.empty() : Optional.of(neighbors.get(0));
+    }
+
+    // 반경 안의 장소를 가까운 순으로 반환
+    public List<Neighbor> withinRadius(double latitude, double longitude, double radiusMeters) {
+        double latDelta = GeoUtils.latitudeDelta(radiusMeters);
+        double lonDelta = GeoUtils.longitudeDelta(latitude, radiusMeters);
+        List<Neighbor> neighbors = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            forEachCell(latitude - latDelta, longitude - lonDelta, latitude + latDelta, longitude + lonDelta, point -> {
+                double distance = GeoUtils.distanceMeters(latitude, longitude, point.latitude(), point.longitude());
+                if (distance <= radiusMeters) {
+                    neighbors.add(new Neighbor(point.locationId(), distance));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        neighbors.sort(Comparator.comparingDouble(Neighbor::distanceMeters).thenComparing(Neighbor::locationId));
+        return neighbors;
+    }
+
+    // 사각 영역(경계 포함) 안의 장소 id
+    public List<Long> withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        List<Long> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            forEachCell(minLatitude, minLongitude, maxLatitude, maxLongitude, point -> {
+                if (point.latitude() >= minLatitude && point.latitude() <= maxLatitude
+                    && point.longitude() >= minLongitude && point.longitude() <= maxLongitude) {
+                    result.add(point.locationId());
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // 영역과 겹치는 격자의 장소를 순회 (read lock 안에서 호출)
+    private void forEachCell(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude,
+                             Consumer<GridPoint> action) {
+        long minLatCell = cell(Math.max(-90, minLatitude));
+        long maxLatCell = cell(Math.min(90, maxLatitude));
+        long minLonCell = cell(Math.max(-180, minLongitude));
+        long maxLonCell = cell(Math.min(180, maxLongitude));
+
+        // 영역이 넓으면 빈 격자까지 확인하는 것보다 채워진 격자만 확인하는 편이 빠름
+        long cellCount = (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+        if (cellCount > cells.size()) {
+            for (Map.Entry<Long, List<GridPoint>> entry : cells.entrySet()) {
+                long latCell = entry.getKey() >> 32;
+                long lonCell = (int) entry.getKey().longValue();
+                if (latCell >= minLatCell && latCell <= maxLatCell && lonCell >= minLonCell && lonCell <= maxLonCell) {
+                    entry.getValue().forEach(action);
+                }
+            }
+            return;
+        }
+
+        for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (long lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                List<GridPoint> points = cells.get(key(latCell, lonCell));
+                if (points != null) {
+                    points.forEach(action);
+                }
+            }
+        }
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return key(cell(latitude), cell(longitude));
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    // 상위 32비트 위도 격자, 하위 32비트 경도 격자
+    private static long key(long latCell, long lonCell) {
+        return (latCell << 32) | (lonCell & 0xffffffffL);
+    }
+
+    private record GridPoint(Long locationId, double latitude, double longitude) {
+    }
+
+    public record Neighbor(Long locationId, double distanceMeters) {
+    }
+}
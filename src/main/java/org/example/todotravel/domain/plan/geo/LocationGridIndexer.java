@@ -0,0 +1,36 @@
+package org.example.todotravel.domain.plan.geo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.event.LocationAddedEvent;
+import org.example.todotravel.domain.plan.repository.LocationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 장소 격자 인덱스를 DB와 동기화 (시작 시 전체 구축, 이후 커밋된 장소만 추가)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationGridIndexer {
+    private final LocationRepository locationRepository;
+    private final LocationGridIndex locationGridIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        locationGridIndex.clear();
+        locationRepository.findAllPoints()
+            .forEach(point -> locationGridIndex.add(point.getLocationId(), point.getLatitude(), point.getLongitude()));
+        log.info("장소 격자 인덱스 구축 완료 ({}건)", locationGridIndex.size());
+    }
+
+    // 롤백된 장소가 색인되지 않도록 커밋 이후에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLocationAdded(LocationAddedEvent event) {
+        locationGridIndex.add(event.getLocationId(), event.getLatitude(), event.getLongitude());
+    }
+}
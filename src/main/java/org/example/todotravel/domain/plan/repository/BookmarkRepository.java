@@ -17,12 +17,16 @@ import java.util.Optional;
 
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
-    void deleteByPlanAndBookmarkUser(Plan plan, User user);
+    long deleteByPlanAndBookmarkUser(Plan plan, User user);
 
     @Modifying
     @Query("DELETE FROM Bookmark b WHERE b.bookmarkUser = :user")
     void deleteAllByBookmarkUser(@Param("user") User user);
 
+    // 회원 탈퇴 시 북마크가 삭제될 플랜 (상세 조회 캐시 무효화용)
+    @Query("SELECT b.plan.planId FROM Bookmark b WHERE b.bookmarkUser = :user")
+    List<Long> findPlanIdsByBookmarkUser(@Param("user") User user);
+
     Long countByPlan(Plan plan);
 
     Long countByPlanPlanId(Long planId);
@@ -32,7 +36,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("""
         SELECT new org.example.todotravel.domain.plan.dto.response.PlanListResponseDto(
             p.planId, p.title, p.location, p.description, p.startDate, p.endDate,
-            p.planThumbnailUrl, pu.nickname)
+            COALESCE(p.planCardImageUrl, p.planThumbnailUrl), pu.nickname, p.bookmarkCount, p.likeCount, p.totalBudget, p.spentBudget)
         FROM Plan p
         JOIN p.planUser pu
         JOIN Bookmark b ON p.planId = b.plan.planId
@@ -44,7 +48,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     @Query("""
         SELECT new org.example.todotravel.domain.plan.dto.response.PlanListResponseDto(
             p.planId, p.title, p.location, p.description, p.startDate, p.endDate,
-            p.planThumbnailUrl, pu.nickname)
+            COALESCE(p.planCardImageUrl, p.planThumbnailUrl), pu.nickname, p.bookmarkCount, p.likeCount, p.totalBudget, p.spentBudget)
         FROM Plan p
         JOIN p.planUser pu
         JOIN Bookmark b ON p.planId = b.plan.planId
@@ -1,9 +1,12 @@
 package org.example.todotravel.domain.plan.repository;
 
+import org.example.todotravel.domain.plan.dto.response.CommentResponseDto;
 import org.example.todotravel.domain.plan.dto.response.CommentSummaryResponseDto;
 import org.example.todotravel.domain.plan.entity.Comment;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,10 +19,28 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByPlan(Plan plan);
 
+    // 플랜 댓글 커서 페이징 - commentId > cursor 로 탐색해 작성자와 함께 DTO로 조회 (작성 순)
+    @Query("""
+        SELECT new org.example.todotravel.domain.plan.dto.response.CommentResponseDto(
+            c.commentId, u.userId, c.plan.planId, c.content, c.beforeTravel, u.nickname)
+        FROM Comment c JOIN c.commentUser u
+        WHERE c.plan.planId = :planId AND c.commentId > :cursor
+        ORDER BY c.commentId
+        """)
+    Slice<CommentResponseDto> findCommentDtosByPlanIdWithCursor(@Param("planId") Long planId,
+                                                                @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.plan.planId = :planId")
+    long countByPlanId(@Param("planId") Long planId);
+
     @Modifying
     @Query("DELETE FROM Comment c WHERE c.commentUser = :user")
     void deleteAllByCommentUserWithQuery(@Param("user") User user);
 
+    // 회원 탈퇴 시 댓글이 삭제될 플랜 (상세 조회 캐시 무효화용)
+    @Query("SELECT DISTINCT c.plan.planId FROM Comment c WHERE c.commentUser = :user")
+    List<Long> findPlanIdsByCommentUser(@Param("user") User user);
+
     @Query("""
         SELECT NEW org.example.todotravel.domain.plan.dto.response.CommentSummaryResponseDto(
             c.plan.planId,
@@ -28,7 +49,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             (SELECT c2.content FROM Comment c2
              WHERE c2.plan = c.plan
              AND c2.commentId = (SELECT MAX(c3.commentId) FROM Comment c3 WHERE c3.plan = c.plan)),
-             c.plan.planThumbnailUrl
+             COALESCE(c.plan.planSmallImageUrl, c.plan.planThumbnailUrl)
         )
         FROM Comment c
         WHERE c.commentUser.userId = :userId
@@ -43,7 +64,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             c.plan.title,
             c.plan.location,
             c.content,
-            c.plan.planThumbnailUrl
+            COALESCE(c.plan.planSmallImageUrl, c.plan.planThumbnailUrl)
         )
         FROM Comment c
         WHERE c.commentUser.userId = :userId
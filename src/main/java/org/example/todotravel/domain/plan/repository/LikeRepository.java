@@ -17,12 +17,16 @@ import java.util.Optional;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
-    void deleteByPlanAndLikeUser(Plan plan, User user);
+    long deleteByPlanAndLikeUser(Plan plan, User user);
 
     @Modifying
     @Query("DELETE FROM Like l WHERE l.likeUser = :user")
     void deleteAllByLikeUser(@Param("user") User user);
 
+    // 회원 탈퇴 시 좋아요가 삭제될 플랜 (상세 조회 캐시 무효화용)
+    @Query("SELECT l.plan.planId FROM Like l WHERE l.likeUser = :user")
+    List<Long> findPlanIdsByLikeUser(@Param("user") User user);
+
     Long countByPlan(Plan plan);
     Long countByPlanPlanId(Long planId);
 
@@ -31,7 +35,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("""
         SELECT new org.example.todotravel.domain.plan.dto.response.PlanListResponseDto(
             p.planId, p.title, p.location, p.description, p.startDate, p.endDate,
-            p.planThumbnailUrl, pu.nickname)
+            COALESCE(p.planCardImageUrl, p.planThumbnailUrl), pu.nickname, p.bookmarkCount, p.likeCount, p.totalBudget, p.spentBudget)
         FROM Plan p
         JOIN p.planUser pu
         JOIN Like l ON p.planId = l.plan.planId
@@ -43,7 +47,7 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("""
         SELECT new org.example.todotravel.domain.plan.dto.response.PlanListResponseDto(
             p.planId, p.title, p.location, p.description, p.startDate, p.endDate,
-            p.planThumbnailUrl, pu.nickname)
+            COALESCE(p.planCardImageUrl, p.planThumbnailUrl), pu.nickname, p.bookmarkCount, p.likeCount, p.totalBudget, p.spentBudget)
         FROM Plan p
         JOIN p.planUser pu
         JOIN Like l ON p.planId = l.plan.planId
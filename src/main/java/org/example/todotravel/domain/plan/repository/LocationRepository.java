@@ -1,12 +1,16 @@
 package org.example.todotravel.domain.plan.repository;
 
+import org.example.todotravel.domain.plan.dto.response.LocationPointProjection;
 import org.example.todotravel.domain.plan.entity.Location;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
 public interface LocationRepository extends JpaRepository<Location, Long> {
-    Optional<Location> findByLatitudeAndLongitude(double latitude, double longitude);
+    // 장소 격자 인덱스 구축용 좌표 조회
+    @Query("SELECT l.locationId AS locationId, l.latitude AS latitude, l.longitude AS longitude FROM Location l")
+    List<LocationPointProjection> findAllPoints();
 }
@@ -0,0 +1,58 @@
+package org.example.todotravel.domain.plan.repository;
+
+import org.example.todotravel.domain.plan.dto.response.PlanDayBudgetResponseDto;
+import org.example.todotravel.domain.plan.entity.PlanDayBudget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlanDayBudgetRepository extends JpaRepository<PlanDayBudget, Long> {
+
+    // 일차별 지출 증감 - 행이 없으면 생성 (동시 수정에도 누락되지 않도록 한 문장으로 처리)
+    @Modifying
+    @Query(value = """
+        INSERT INTO plan_day_budgets (plan_id, travel_day_count, spent)
+        VALUES (:planId, :travelDayCount, :delta)
+        ON DUPLICATE KEY UPDATE spent = spent + :delta
+        """, nativeQuery = true)
+    void addSpent(@Param("planId") Long planId, @Param("travelDayCount") Integer travelDayCount, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM PlanDayBudget d WHERE d.plan.planId = :planId")
+    void deleteAllByPlanId(@Param("planId") Long planId);
+
+    // 플랜 상세 조회용 - 일차 순
+    @Query("""
+        SELECT new org.example.todotravel.domain.plan.dto.response.PlanDayBudgetResponseDto(d.travelDayCount, d.spent)
+        FROM PlanDayBudget d
+        WHERE d.plan.planId = :planId
+        ORDER BY d.travelDayCount
+        """)
+    List<PlanDayBudgetResponseDto> findDayBudgetDtosByPlanId(@Param("planId") Long planId);
+
+    // 보정용 - 일정 가격 합계와 다른 일차별 지출을 덮어쓰고, 없던 일차는 추가
+    @Modifying
+    @Query(value = """
+        INSERT INTO plan_day_budgets (plan_id, travel_day_count, spent)
+        SELECT t.plan_id, t.travel_day_count, t.total
+        FROM (SELECT plan_id, travel_day_count, COALESCE(SUM(price), 0) AS total
+              FROM schedules GROUP BY plan_id, travel_day_count) t
+        ON DUPLICATE KEY UPDATE spent = t.total
+        """, nativeQuery = true)
+    int upsertDayBudgetsFromSchedules();
+
+    // 보정용 - 일정이 남아 있지 않은 일차 제거
+    @Modifying
+    @Query(value = """
+        DELETE d FROM plan_day_budgets d
+        LEFT JOIN (SELECT DISTINCT plan_id, travel_day_count FROM schedules) s
+            ON s.plan_id = d.plan_id AND s.travel_day_count = d.travel_day_count
+        WHERE s.plan_id IS NULL
+        """, nativeQuery = true)
+    int deleteDayBudgetsWithoutSchedules();
+}
@@ -0,0 +1,59 @@
+package org.example.todotravel.domain.plan.repository;
+
+import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.util.function.Consumer;
+
+// 플랜 내보내기용 일정 조회 - 일정을 목록으로 모으지 않고 한 행씩 읽어 넘김
+@Repository
+public class PlanExportRepository {
+    private static final String PLAN_SCHEDULES_SQL = """
+        SELECT s.schedule_id, s.status, s.travel_day_count, s.description, s.travel_time, s.vehicle, s.price,
+               s.plan_id, s.version, l.location_id, l.name, l.latitude, l.longitude
+        FROM schedules s
+        JOIN locations l ON l.location_id = s.location_id
+        WHERE s.plan_id = ?
+        ORDER BY s.travel_day_count, s.travel_time IS NULL, s.travel_time, s.schedule_id
+        """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public PlanExportRepository(DataSource dataSource) {
+        // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    // 일차, 시간 순 (시간이 없는 일정은 그날 마지막)
+    public void streamSchedules(Long planId, Consumer<ScheduleResponseDto> consumer) {
+        streamingJdbcTemplate.query(PLAN_SCHEDULES_SQL,
+            (RowCallbackHandler) rs -> consumer.accept(mapSchedule(rs)),
+            planId);
+    }
+
+    private ScheduleResponseDto mapSchedule(ResultSet rs) throws SQLException {
+        Time travelTime = rs.getTime("travel_time");
+        return ScheduleResponseDto.builder()
+            .scheduleId(rs.getLong("schedule_id"))
+            .status(rs.getBoolean("status"))
+            .travelDayCount(rs.getInt("travel_day_count"))
+            .description(rs.getString("description"))
+            .travelTime(travelTime != null ? travelTime.toLocalTime() : null)
+            .vehicle(rs.getString("vehicle"))
+            .price(rs.getObject("price", Long.class))
+            .planId(rs.getLong("plan_id"))
+            .version(rs.getLong("version"))
+            .locationId(rs.getLong("location_id"))
+            .locationName(rs.getString("name"))
+            .latitude(rs.getDouble("latitude"))
+            .longitude(rs.getDouble("longitude"))
+            .build();
+    }
+}
@@ -1,18 +1,23 @@
 package org.example.todotravel.domain.plan.repository;
 
-import org.example.todotravel.domain.plan.dto.response.PlanCountProjection;
+import jakarta.persistence.LockModeType;
+import org.example.todotravel.domain.plan.dto.response.PlanSearchProjection;
+import org.example.todotravel.domain.plan.dto.response.PlanUserCountProjection;
 import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.entity.PlanUser;
 import org.example.todotravel.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,126 +34,314 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
 
     Optional<Plan> findByPlanId(Long planId);
 
+    // 투표 마감 처리용 - 같은 플랜의 투표 마감을 한 번에 하나씩 처리하도록 플랜 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Plan p WHERE p.planId = :planId")
+    Optional<Plan> findWithLockByPlanId(@Param("planId") Long planId);
+
+    // 웹소켓 구독 권한 확인용 - 공개 여부만 조회
+    @Query("SELECT p.isPublic FROM Plan p WHERE p.planId = :planId")
+    Optional<Boolean> findIsPublicByPlanId(@Param("planId") Long planId);
+
+    // 플랜 상세 조회용 - 작성자만 함께 조회 (참여자 수는 집계 쿼리로 별도 조회)
+    @EntityGraph(attributePaths = "planUser")
+    @Query("SELECT p FROM Plan p WHERE p.planId = :planId")
+    Optional<Plan> findWithPlanUserByPlanId(@Param("planId") Long planId);
+
+    // 전체 공개 플랜 최신순 조회
     @EntityGraph(attributePaths = "planUser")
-    List<Plan> findAllByIsPublicTrue();
+    @Query("SELECT p FROM Plan p WHERE p.isPublic = true ORDER BY p.planId DESC")
+    Slice<Plan> findPublicPlans(Pageable pageable);
 
+    // 검색 결과 페이지에 해당하는 플랜만 조회 (순서는 검색 점수 기준으로 서비스에서 정렬)
     @EntityGraph(attributePaths = "planUser")
-    List<Plan> findAllByIsPublicTrueAndTitleContains(String keyword);
+    List<Plan> findAllByPlanIdIn(Collection<Long> planIds);
+
+    // 검색 인덱스 구축용 공개 플랜 텍스트 조회
+    @Query("""
+        SELECT p.planId AS planId, p.title AS title, p.location AS location,
+        p.description AS description, p.isPublic AS isPublic
+        FROM Plan p WHERE p.isPublic = true
+        """)
+    List<PlanSearchProjection> findAllPublicSearchDocuments();
+
+    @Query("""
+        SELECT p.planId AS planId, p.title AS title, p.location AS location,
+        p.description AS description, p.isPublic AS isPublic
+        FROM Plan p WHERE p.planId = :planId
+        """)
+    Optional<PlanSearchProjection> findSearchDocumentByPlanId(@Param("planId") Long planId);
+
     List<Plan> findByPlanUser(User user);
 
+    @EntityGraph(attributePaths = "planUser")
     List<Plan> findAllByRecruitmentTrue();
 
+    // 목록 페이지의 플랜별 참여자 수를 한 번의 집계 쿼리로 조회 (planUsers 컬렉션 로딩 대신)
     @Query("""
-        SELECT p.planId as planId,
-        (SELECT COUNT(b) FROM Bookmark b WHERE b.plan.planId = p.planId) as bookmarkCount,
-        (SELECT COUNT(l) FROM Like l WHERE l.plan.planId = p.planId) as likeCount
-        FROM Plan p WHERE p.planId IN :planIds
+        SELECT pu.plan.planId AS planId, COUNT(pu) AS planUserCount
+        FROM PlanUser pu
+        WHERE pu.plan.planId IN :planIds AND pu.status = :status
+        GROUP BY pu.plan.planId
         """)
-    List<PlanCountProjection> countBookmarksAndLikesByPlanIds(@Param("planIds") List<Long> planIds);
+    List<PlanUserCountProjection> countPlanUsersByPlanIds(@Param("planIds") Collection<Long> planIds,
+                                                          @Param("status") PlanUser.StatusType status);
 
-    // 플랜 조회 시 조회 수 증가
+    // 좋아요 생성/취소 시 좋아요 수와 인기 점수 증감
     @Modifying
-    @Query("UPDATE Plan p SET p.viewCount = p.viewCount + 1 WHERE p.planId = :planId")
-    void incrementViewCount(@Param("planId") Long planId);
+    @Query("""
+        UPDATE Plan p SET p.likeCount = p.likeCount + :delta,
+        p.popularityScore = p.popularityScore + :delta
+        WHERE p.planId = :planId
+        """)
+    void addLikeCount(@Param("planId") Long planId, @Param("delta") long delta);
+
+    // 북마크 생성/취소 시 북마크 수 증감
+    @Modifying
+    @Query("UPDATE Plan p SET p.bookmarkCount = p.bookmarkCount + :delta WHERE p.planId = :planId")
+    void addBookmarkCount(@Param("planId") Long planId, @Param("delta") long delta);
+
+    // 회원 탈퇴 시 사용자가 좋아요한 플랜들의 좋아요 수, 인기 점수 감소 (좋아요 삭제 전에 호출)
+    @Modifying
+    @Query("""
+        UPDATE Plan p SET p.likeCount = p.likeCount - 1,
+        p.popularityScore = p.popularityScore - 1
+        WHERE p.planId IN (SELECT l.plan.planId FROM Like l WHERE l.likeUser = :user)
+        """)
+    void decrementLikeCountByLikeUser(@Param("user") User user);
+
+    // 회원 탈퇴 시 사용자가 북마크한 플랜들의 북마크 수 감소 (북마크 삭제 전에 호출)
+    @Modifying
+    @Query("""
+        UPDATE Plan p SET p.bookmarkCount = p.bookmarkCount - 1
+        WHERE p.planId IN (SELECT b.plan.planId FROM Bookmark b WHERE b.bookmarkUser = :user)
+        """)
+    void decrementBookmarkCountByBookmarkUser(@Param("user") User user);
+
+    // 저장된 좋아요/북마크 수와 인기 점수를 원본 테이블 기준으로 다시 계산 (어긋난 행만 갱신)
+    @Modifying
+    @Query(value = """
+        UPDATE plans p
+        LEFT JOIN (SELECT plan_id, COUNT(*) AS cnt FROM likes GROUP BY plan_id) l ON l.plan_id = p.plan_id
+        LEFT JOIN (SELECT plan_id, COUNT(*) AS cnt FROM bookmarks GROUP BY plan_id) b ON b.plan_id = p.plan_id
+        SET p.like_count = COALESCE(l.cnt, 0),
+            p.bookmark_count = COALESCE(b.cnt, 0),
+            p.popularity_score = COALESCE(p.view_count, 0) * 0.075 + COALESCE(l.cnt, 0)
+        WHERE p.like_count <> COALESCE(l.cnt, 0)
+           OR p.bookmark_count <> COALESCE(b.cnt, 0)
+           OR ABS(p.popularity_score - (COALESCE(p.view_count, 0) * 0.075 + COALESCE(l.cnt, 0))) > 0.001
+        """, nativeQuery = true)
+    int recalculatePlanStatistics();
+
+    // 일정 가격 변경 시 플랜 전체 지출 증감
+    @Modifying
+    @Query("UPDATE Plan p SET p.spentBudget = p.spentBudget + :delta WHERE p.planId = :planId")
+    void addSpentBudget(@Param("planId") Long planId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Plan p SET p.spentBudget = 0 WHERE p.planId = :planId")
+    void resetSpentBudget(@Param("planId") Long planId);
+
+    // 플랜 전체 지출을 일정 가격 합계와 맞춤 (어긋난 행만 갱신)
+    @Modifying
+    @Query(value = """
+        UPDATE plans p
+        LEFT JOIN (SELECT plan_id, SUM(price) AS total FROM schedules GROUP BY plan_id) s ON s.plan_id = p.plan_id
+        SET p.spent_budget = COALESCE(s.total, 0)
+        WHERE p.spent_budget <> COALESCE(s.total, 0)
+        """, nativeQuery = true)
+    int recalculateSpentBudgets();
+
+    // 썸네일 업로드 토큰 발급 - 버전은 올리지 않아 수정 중인 화면과 충돌하지 않음 (image_upload_token은 엔티티로는 갱신되지 않음)
+    @Modifying
+    @Query(value = "UPDATE plans SET image_upload_token = :token WHERE plan_id = :planId", nativeQuery = true)
+    void issueImageUploadToken(@Param("planId") Long planId, @Param("token") String token);
+
+    // 썸네일 변환 결과 반영 - 마지막 업로드의 토큰과 일치할 때만 갱신 (버전은 올리지 않아 수정 중인 화면과 충돌하지 않음)
+    @Modifying
+    @Query(value = """
+        UPDATE plans SET plan_thumbnail_url = :fullUrl, plan_card_image_url = :cardUrl,
+        plan_small_image_url = :smallUrl, image_upload_token = NULL
+        WHERE plan_id = :planId AND image_upload_token = :token
+        """, nativeQuery = true)
+    int attachThumbnailImages(@Param("planId") Long planId, @Param("token") String token,
+                              @Param("fullUrl") String fullUrl, @Param("cardUrl") String cardUrl,
+                              @Param("smallUrl") String smallUrl);
 
     // 기본 인기순 조회 (Public, No Recruitment)
+    // 아래 피드 목록 조회는 모두 Slice로 반환 - size+1건만 조회해 다음 페이지 여부를 판단하고 COUNT 쿼리는 실행하지 않음
     @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
-        LEFT JOIN Like l ON p.planId = l.plan.planId
         WHERE p.recruitment = false AND p.isPublic = true
-        GROUP BY p.planId
-        ORDER BY (p.viewCount * 0.075 + COUNT(l)) DESC
+        ORDER BY p.popularityScore DESC, p.planId DESC
         """)
-    Page<Plan> findPopularPlansNotInRecruitment(Pageable pageable);
+    Slice<Plan> findPopularPlansNotInRecruitment(Pageable pageable);
 
     // 행정구역과 인기순 조회 (Public, No Recruitment)
     @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
-        LEFT JOIN Like l ON p.planId = l.plan.planId
         WHERE p.recruitment = false AND p.isPublic = true
         AND p.frontLocation = :frontLocation
-        GROUP BY p.planId
-        ORDER BY (p.viewCount * 0.075 + COUNT(l)) DESC
+        ORDER BY p.popularityScore DESC, p.planId DESC
         """)
-    Page<Plan> findPopularPlansWithFrontLocation(@Param("frontLocation") String frontLocation, Pageable pageable);
+    Slice<Plan> findPopularPlansWithFrontLocation(@Param("frontLocation") String frontLocation, Pageable pageable);
 
     // 행정구역 + 도시와 인기순 조회 (Public, No Recruitment)
     @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
-        LEFT JOIN Like l ON p.planId = l.plan.planId
         WHERE p.recruitment = false AND p.isPublic = true
         AND p.frontLocation = :frontLocation AND p.location = :location
-        GROUP BY p.planId
-        ORDER BY (p.viewCount * 0.075 + COUNT(l)) DESC
+        ORDER BY p.popularityScore DESC, p.planId DESC
         """)
-    Page<Plan> findPopularPlansWithAllLocation(@Param("frontLocation") String frontLocation,
+    Slice<Plan> findPopularPlansWithAllLocation(@Param("frontLocation") String frontLocation,
                                                @Param("location") String location, Pageable pageable);
 
     // 기본 최신순 조회
-    @EntityGraph(attributePaths = {"planUser", "planUsers"})
+    @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
         WHERE p.recruitment = :recruitment AND p.isPublic = true
         ORDER BY p.planId DESC
         """)
-    Page<Plan> findRecentPlansByRecruitment(@Param("recruitment") Boolean recruitment, Pageable pageable);
+    Slice<Plan> findRecentPlansByRecruitment(@Param("recruitment") Boolean recruitment, Pageable pageable);
 
     // 행정구역과 최신순 조회
-    @EntityGraph(attributePaths = {"planUser", "planUsers"})
+    @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
         WHERE p.recruitment = :recruitment AND p.isPublic = true
         AND p.frontLocation = :frontLocation
         ORDER BY p.planId DESC
         """)
-    Page<Plan> findRecentPlansWithFrontLocation(@Param("frontLocation") String frontLocation, @Param("recruitment") Boolean recruitment, Pageable pageable);
+    Slice<Plan> findRecentPlansWithFrontLocation(@Param("frontLocation") String frontLocation, @Param("recruitment") Boolean recruitment, Pageable pageable);
 
     // 행정구역 + 도시와 최신순 조회
-    @EntityGraph(attributePaths = {"planUser", "planUsers"})
+    @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
         WHERE p.recruitment = :recruitment AND p.isPublic = true
         AND p.frontLocation = :frontLocation AND p.location = :location
         ORDER BY p.planId DESC
         """)
-    Page<Plan> findRecentPlansWithAllLocation(@Param("frontLocation") String frontLocation,
+    Slice<Plan> findRecentPlansWithAllLocation(@Param("frontLocation") String frontLocation,
                                               @Param("location") String location,
                                               @Param("recruitment") Boolean recruitment, Pageable pageable);
 
     // 여행 시작 날짜, 최신순 조회 (Public, Recruitment)
-    @EntityGraph(attributePaths = {"planUser", "planUsers"})
+    @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
         WHERE p.recruitment = :recruitment AND p.isPublic = true
         AND p.startDate = :startDate
         ORDER BY p.planId DESC
         """)
-    Page<Plan> findRecentPlansRecruitmentByStartDate(@Param("recruitment") Boolean recruitment,
+    Slice<Plan> findRecentPlansRecruitmentByStartDate(@Param("recruitment") Boolean recruitment,
                                                      @Param("startDate") LocalDate startDate, Pageable pageable);
     // 여행 시작 날짜, 행정구역과 최신순 조회
-    @EntityGraph(attributePaths = {"planUser", "planUsers"})
+    @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
         WHERE p.recruitment = :recruitment AND p.isPublic = true
         AND p.frontLocation = :frontLocation AND p.startDate = :startDate
         ORDER BY p.planId DESC
         """)
-    Page<Plan> findRecentPlansWithFrontLocationAndStartDate(@Param("frontLocation") String frontLocation,
+    Slice<Plan> findRecentPlansWithFrontLocationAndStartDate(@Param("frontLocation") String frontLocation,
                                                             @Param("recruitment") Boolean recruitment,
                                                             @Param("startDate") LocalDate startDate, Pageable pageable);
     // 여행 시작 날짜, 행정구역 + 도시와 최신순 조회
-    @EntityGraph(attributePaths = {"planUser", "planUsers"})
+    @EntityGraph(attributePaths = "planUser")
     @Query("""
         SELECT p FROM Plan p
         WHERE p.recruitment = :recruitment AND p.isPublic = true
         AND p.frontLocation = :frontLocation AND p.location = :location AND p.startDate = :startDate
         ORDER BY p.planId DESC
         """)
-    Page<Plan> findRecentPlansWithAllLocationAndStartDate(@Param("frontLocation") String frontLocation,
+    Slice<Plan> findRecentPlansWithAllLocationAndStartDate(@Param("frontLocation") String frontLocation,
                                                           @Param("location") String location,
                                                           @Param("recruitment") Boolean recruitment,
                                                           @Param("startDate") LocalDate startDate, Pageable pageable);
+
+    // 커서 기반 최신순 조회 - planId < cursor 로 탐색하므로 깊은 페이지에서도 일정한 비용
+    // (컬렉션 fetch join은 메모리 페이징을 유발하므로 planUser만 함께 조회)
+    @EntityGraph(attributePaths = "planUser")
+    @Query("""
+        SELECT p FROM Plan p
+        WHERE p.recruitment = :recruitment AND p.isPublic = true
+        AND p.planId < :cursor
+        ORDER BY p.planId DESC
+        """)
+    Slice<Plan> findRecentPlansByRecruitmentWithCursor(@Param("recruitment") Boolean recruitment,
+                                                       @Param("cursor") Long cursor, Pageable pageable);
+
+    // 커서 기반 행정구역과 최신순 조회
+    @EntityGraph(attributePaths = "planUser")
+    @Query("""
+        SELECT p FROM Plan p
+        WHERE p.recruitment = :recruitment AND p.isPublic = true
+        AND p.frontLocation = :frontLocation
+        AND p.planId < :cursor
+        ORDER BY p.planId DESC
+        """)
+    Slice<Plan> findRecentPlansWithFrontLocationWithCursor(@Param("frontLocation") String frontLocation,
+                                                           @Param("recruitment") Boolean recruitment,
+                                                           @Param("cursor") Long cursor, Pageable pageable);
+
+    // 커서 기반 행정구역 + 도시와 최신순 조회
+    @EntityGraph(attributePaths = "planUser")
+    @Query("""
+        SELECT p FROM Plan p
+        WHERE p.recruitment = :recruitment AND p.isPublic = true
+        AND p.frontLocation = :frontLocation AND p.location = :location
+        AND p.planId < :cursor
+        ORDER BY p.planId DESC
+        """)
+    Slice<Plan> findRecentPlansWithAllLocationWithCursor(@Param("frontLocation") String frontLocation,
+                                                         @Param("location") String location,
+                                                         @Param("recruitment") Boolean recruitment,
+                                                         @Param("cursor") Long cursor, Pageable pageable);
+
+    // 커서 기반 여행 시작 날짜, 최신순 조회
+    @EntityGraph(attributePaths = "planUser")
+    @Query("""
+        SELECT p FROM Plan p
+        WHERE p.recruitment = :recruitment AND p.isPublic = true
+        AND p.startDate = :startDate
+        AND p.planId < :cursor
+        ORDER BY p.planId DESC
+        """)
+    Slice<Plan> findRecentPlansRecruitmentByStartDateWithCursor(@Param("recruitment") Boolean recruitment,
+                                                                @Param("startDate") LocalDate startDate,
+                                                                @Param("cursor") Long cursor, Pageable pageable);
+
+    // 커서 기반 여행 시작 날짜, 행정구역과 최신순 조회
+    @EntityGraph(attributePaths = "planUser")
+    @Query("""
+        SELECT p FROM Plan p
+        WHERE p.recruitment = :recruitment AND p.isPublic = true
+        AND p.frontLocation = :frontLocation AND p.startDate = :startDate
+        AND p.planId < :cursor
+        ORDER BY p.planId DESC
+        """)
+    Slice<Plan> findRecentPlansWithFrontLocationAndStartDateWithCursor(@Param("frontLocation") String frontLocation,
+                                                                       @Param("recruitment") Boolean recruitment,
+                                                                       @Param("startDate") LocalDate startDate,
+                                                                       @Param("cursor") Long cursor, Pageable pageable);
+
+    // 커서 기반 여행 시작 날짜, 행정구역 + 도시와 최신순 조회
+    @EntityGraph(attributePaths = "planUser")
+    @Query("""
+        SELECT p FROM Plan p
+        WHERE p.recruitment = :recruitment AND p.isPublic = true
+        AND p.frontLocation = :frontLocation AND p.location = :location AND p.startDate = :startDate
+        AND p.planId < :cursor
+        ORDER BY p.planId DESC
+        """)
+    Slice<Plan> findRecentPlansWithAllLocationAndStartDateWithCursor(@Param("frontLocation") String frontLocation,
+                                                                     @Param("location") String location,
+                                                                     @Param("recruitment") Boolean recruitment,
+                                                                     @Param("startDate") LocalDate startDate,
+                                                                     @Param("cursor") Long cursor, Pageable pageable);
 }
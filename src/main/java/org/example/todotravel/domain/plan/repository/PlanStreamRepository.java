@@ -0,0 +1,102 @@
+package org.example.todotravel.domain.plan.repository;
+
+import org.example.todotravel.domain.plan.dto.response.PlanListResponseDto;
+import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+// 전체 공개 플랜을 엔티티/영속성 컨텍스트 없이 한 행씩 읽어 넘기는 스트리밍 조회
+// 스트리밍하는 동안 커넥션을 계속 잡고 있으므로 (비로그인 사용자도 호출 가능) 동시 스트리밍 수, 행 수, 시간을 제한
+@Repository
+public class PlanStreamRepository {
+    private static final String PUBLIC_PLAN_CARDS_SQL = """
+        SELECT p.plan_id, p.title, p.location, p.description, p.start_date, p.end_date,
+               COALESCE(p.plan_card_image_url, p.plan_thumbnail_url) AS plan_thumbnail_url,
+               u.nickname, p.bookmark_count, p.like_count, p.participants_count,
+               p.total_budget, p.spent_budget,
+               (SELECT COUNT(*) FROM plan_users pu WHERE pu.plan_id = p.plan_id AND pu.status = ?) AS plan_user_count
+        FROM plans p
+        JOIN users u ON u.user_id = p.user_id
+        WHERE p.is_public = true
+        ORDER BY p.plan_id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    // 다른 요청이 쓸 커넥션이 남도록 풀 크기(기본 10)보다 충분히 작게 설정
+    private final Semaphore streamPermits;
+    private final int maxRows;
+    private final Duration maxDuration;
+
+    public PlanStreamRepository(DataSource dataSource,
+                                @Value("${plan.public-stream.max-concurrent:2}") int maxConcurrentStreams,
+                                @Value("${plan.public-stream.max-rows:10000}") int maxRows,
+                                @Value("${plan.public-stream.max-duration:PT30S}") Duration maxDuration) {
+        // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍 (그 외에는 전체 결과를 메모리에 적재)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.streamingJdbcTemplate.setQueryTimeout((int) maxDuration.toSeconds());
+        this.streamPermits = new Semaphore(maxConcurrentStreams);
+        this.maxRows = maxRows;
+        this.maxDuration = maxDuration;
+    }
+
+    // 동시 스트리밍 수를 넘으면 대기하지 않고 바로 거절 (503) - 응답을 쓰기 전에 호출해야 상태 코드를 바꿀 수 있음
+    public StreamPermit acquireStreamPermit() {
+        if (!streamPermits.tryAcquire()) {
+            throw new ServerBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        return streamPermits::release;
+    }
+
+    // 느리게 읽는 클라이언트가 커넥션을 오래 잡지 않도록 제한 시간이 지나면 행 사이에서 조회를 중단
+    public void streamPublicPlanCards(Consumer<PlanListResponseDto> consumer) {
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        // PlanUser.status는 ORDINAL로 저장됨
+        streamingJdbcTemplate.query(PUBLIC_PLAN_CARDS_SQL,
+            (RowCallbackHandler) rs -> {
+                if (System.nanoTime() > deadline) {
+                    throw new QueryTimeoutException("공개 플랜 스트리밍 제한 시간을 초과했습니다.");
+                }
+                consumer.accept(mapPlanCard(rs));
+            },
+            PlanUser.StatusType.ACCEPTED.ordinal(), maxRows);
+    }
+
+    // 스트리밍이 끝나면 닫아서 반납
+    public interface StreamPermit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private PlanListResponseDto mapPlanCard(ResultSet rs) throws SQLException {
+        return PlanListResponseDto.builder()
+            .planId(rs.getLong("plan_id"))
+            .title(rs.getString("title"))
+            .location(rs.getString("location"))
+            .description(rs.getString("description"))
+            .startDate(rs.getObject("start_date", LocalDate.class))
+            .endDate(rs.getObject("end_date", LocalDate.class))
+            .planThumbnailUrl(rs.getString("plan_thumbnail_url"))
+            .planUserNickname(rs.getString("nickname"))
+            .bookmarkNumber(rs.getLong("bookmark_count"))
+            .likeNumber(rs.getLong("like_count"))
+            .totalBudget(rs.getObject("total_budget", Long.class))
+            .spentBudget(rs.getLong("spent_budget"))
+            .participantsCount(rs.getObject("participants_count", Integer.class))
+            .planUserCount(rs.getLong("plan_user_count"))
+            .build();
+    }
+}
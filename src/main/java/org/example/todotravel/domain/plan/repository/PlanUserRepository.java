@@ -39,7 +39,7 @@ public interface PlanUserRepository extends JpaRepository<PlanUser, Long> {
     @Query("""
         SELECT new org.example.todotravel.domain.plan.dto.response.PlanListResponseDto(
             p.planId, p.title, p.location, p.description, p.startDate, p.endDate,
-            p.planThumbnailUrl, u.nickname)
+            COALESCE(p.planCardImageUrl, p.planThumbnailUrl), u.nickname, p.bookmarkCount, p.likeCount, p.totalBudget, p.spentBudget)
         FROM Plan p
         JOIN p.planUser u
         JOIN PlanUser pu ON p.planId = pu.plan.planId
@@ -52,7 +52,7 @@ public interface PlanUserRepository extends JpaRepository<PlanUser, Long> {
     @Query("""
         SELECT new org.example.todotravel.domain.plan.dto.response.PlanListResponseDto(
             p.planId, p.title, p.location, p.description, p.startDate, p.endDate,
-            p.planThumbnailUrl, u.nickname)
+            COALESCE(p.planCardImageUrl, p.planThumbnailUrl), u.nickname, p.bookmarkCount, p.likeCount, p.totalBudget, p.spentBudget)
         FROM Plan p
         JOIN p.planUser u
         JOIN PlanUser pu ON p.planId = pu.plan.planId
@@ -83,6 +83,16 @@ public interface PlanUserRepository extends JpaRepository<PlanUser, Long> {
     Boolean existsPlanUserByPlanAndUserAndStatus(Plan plan, User user, PlanUser.StatusType status);
     Boolean existsPlanUserByPlanAndUser(Plan plan, User user);
 
+    // 웹소켓 구독 권한 확인용 - 작성자이거나 해당 상태의 참여자인지 (토큰의 username 기준)
+    @Query("""
+        SELECT COUNT(p) > 0 FROM Plan p
+        WHERE p.planId = :planId
+        AND (p.planUser.username = :username
+            OR EXISTS (SELECT 1 FROM PlanUser pu WHERE pu.plan = p AND pu.user.username = :username AND pu.status = :status))
+        """)
+    boolean existsMemberByPlanIdAndUsername(@Param("planId") Long planId, @Param("username") String username,
+                                            @Param("status") PlanUser.StatusType status);
+
     @Query("""
         SELECT pu FROM PlanUser pu
         WHERE pu.user.userId = :userId
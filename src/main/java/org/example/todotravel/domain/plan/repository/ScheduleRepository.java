@@ -1,5 +1,8 @@
 package org.example.todotravel.domain.plan.repository;
 
+import org.example.todotravel.domain.plan.dto.response.PlanLocationProjection;
+import org.example.todotravel.domain.plan.dto.response.ScheduleFingerprintProjection;
+import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.plan.entity.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +19,50 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     //플랜 상세 조회 - 김민정
     List<Schedule> findAllByPlan(Plan plan);
 
+    // 주변/영역 플랜 조회 - 해당 장소들을 일정에 포함한 공개 플랜과 장소 쌍
+    @Query("""
+        SELECT DISTINCT s.plan.planId AS planId, s.location.locationId AS locationId
+        FROM Schedule s
+        WHERE s.location.locationId IN :locationIds AND s.plan.isPublic = true
+        """)
+    List<PlanLocationProjection> findPublicPlanLocationsByLocationIds(@Param("locationIds") Collection<Long> locationIds);
+
+    // 일정 일괄 편집 시 변경 대상 일정만 한 번에 조회 (다른 플랜의 일정은 조회되지 않음)
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.location WHERE s.plan.planId = :planId AND s.scheduleId IN :scheduleIds")
+    List<Schedule> findAllByPlanIdAndScheduleIds(@Param("planId") Long planId,
+                                                 @Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 플랜 상세 조회용 - 장소를 함께 조인해 DTO로 바로 조회
+    @Query("""
+        SELECT new org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto(
+            s.scheduleId, s.status, s.travelDayCount, s.description, s.travelTime, s.vehicle, s.price,
+            s.plan.planId, l.locationId, l.name, l.latitude, l.longitude, s.version)
+        FROM Schedule s JOIN s.location l
+        WHERE s.plan.planId = :planId
+        ORDER BY s.scheduleId
+        """)
+    List<ScheduleResponseDto> findScheduleDtosByPlanId(@Param("planId") Long planId);
+
+    // 플랜 내보내기 ETag용 - 일정 추가/삭제/수정 시 값이 달라짐
+    @Query("""
+        SELECT COUNT(s) AS scheduleCount, COALESCE(SUM(s.version), 0) AS versionSum,
+               COALESCE(MAX(s.scheduleId), 0) AS maxScheduleId
+        FROM Schedule s
+        WHERE s.plan.planId = :planId
+        """)
+    ScheduleFingerprintProjection findScheduleFingerprintByPlanId(@Param("planId") Long planId);
+
+    // 플랜 불러오기 - 원본 플랜의 일정을 새 플랜으로 한 번에 복사 (완료 여부는 초기화, 교통수단/비용은 복사하지 않음)
+    @Modifying
+    @Query(value = """
+        INSERT INTO schedules (status, travel_day_count, description, travel_time, plan_id, location_id, version)
+        SELECT false, s.travel_day_count, s.description, s.travel_time, :targetPlanId, s.location_id, 0
+        FROM schedules s
+        WHERE s.plan_id = :sourcePlanId
+        ORDER BY s.schedule_id
+        """, nativeQuery = true)
+    int copySchedules(@Param("sourcePlanId") Long sourcePlanId, @Param("targetPlanId") Long targetPlanId);
+
     @Modifying
     @Query("DELETE FROM Schedule s WHERE s.plan = :plan")
     void deleteAllByPlan(@Param("plan") Plan plan);
@@ -4,6 +4,9 @@ import org.example.todotravel.domain.plan.entity.Vote;
 import org.example.todotravel.domain.plan.entity.VoteLog;
 import org.example.todotravel.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,17 @@ import java.util.Optional;
 @Repository
 public interface VoteLogRepository extends JpaRepository<VoteLog, Long> {
     Optional<VoteLog> findByVoteAndUser(Vote vote, User user);
+
+    // 투표/취소 전환 - 처음이면 투표 상태로 생성, 이미 있으면 상태를 뒤집음 (한 문장이라 동시 요청에도 행이 하나만 생김)
+    @Modifying
+    @Query(value = """
+        INSERT INTO vote_logs (vote_id, user_id, is_voted)
+        VALUES (:voteId, :userId, true)
+        ON DUPLICATE KEY UPDATE is_voted = NOT is_voted
+        """, nativeQuery = true)
+    void toggleVote(@Param("voteId") Long voteId, @Param("userId") Long userId);
+
+    // 전환 직후 같은 트랜잭션에서 조회 (행 잠금을 잡고 있으므로 방금 반영한 상태가 보임)
+    @Query("SELECT l.isVoted FROM VoteLog l WHERE l.vote.voteId = :voteId AND l.user.userId = :userId")
+    Optional<Boolean> findVotedState(@Param("voteId") Long voteId, @Param("userId") Long userId);
 }
\ No newline at end of file
@@ -1,18 +1,88 @@
 package org.example.todotravel.domain.plan.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.todotravel.domain.plan.dto.response.VoteCountProjection;
+import org.example.todotravel.domain.plan.dto.response.VoteDeadlineProjection;
+import org.example.todotravel.domain.plan.dto.response.VoteListResponseDto;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.plan.entity.PlanUser;
 import org.example.todotravel.domain.plan.entity.Vote;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VoteRepository extends JpaRepository<Vote, Long> {
     Vote findByPlanAndPlanUserAndCategory(Plan plan, PlanUser planUser, Vote.Category category);
     List<Vote> findAllByPlanAndPlanUser(Plan plan, PlanUser planUser);
-    Page<Vote> findAllByPlan(Plan plan, Pageable pageable);
+
+    // 투표 목록 페이징 - 장소와 조회한 사용자의 투표 기록을 조인해 DTO로 조회 (행마다 장소를 지연 로딩하지 않음)
+    @Query(value = """
+        SELECT new org.example.todotravel.domain.plan.dto.response.VoteListResponseDto(
+            v.voteId, l.locationId, l.name, l.latitude, l.longitude, v.voteCount, v.startDate, v.endDate,
+            v.category, v.travelDayCount, v.travelTime, v.closedAt, v.winner, COALESCE(vl.isVoted, false))
+        FROM Vote v
+        JOIN v.location l
+        LEFT JOIN VoteLog vl ON vl.vote = v AND vl.user.userId = :userId
+        WHERE v.plan.planId = :planId
+        """,
+        countQuery = "SELECT COUNT(v) FROM Vote v WHERE v.plan.planId = :planId")
+    Page<VoteListResponseDto> findVoteDtosByPlanId(@Param("planId") Long planId, @Param("userId") Long userId,
+                                                   Pageable pageable);
+
+    // 투표 처리용 - 투표 행을 먼저 잠가 같은 투표에 대한 요청과 마감 처리를 순서대로 실행
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Vote v WHERE v.voteId = :voteId")
+    Optional<Vote> findWithLockByVoteId(@Param("voteId") Long voteId);
+
+    // 투표 수 증감 (읽고 다시 쓰지 않으므로 동시 투표에도 누락 없음) - 마감된 투표는 갱신하지 않음
+    @Modifying
+    @Query("UPDATE Vote v SET v.voteCount = v.voteCount + :delta WHERE v.voteId = :voteId AND v.closedAt IS NULL")
+    int addVoteCount(@Param("voteId") Long voteId, @Param("delta") int delta);
+
+    @Query("SELECT v.plan.planId FROM Vote v WHERE v.voteId = :voteId")
+    Optional<Long> findPlanIdByVoteId(@Param("voteId") Long voteId);
+
+    // 마감 처리용 - 같은 플랜/카테고리/일차의 투표를 id 순으로 잠가 최신 투표 수로 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT v FROM Vote v
+        WHERE v.plan.planId = :planId AND v.category = :category
+        AND ((:travelDayCount IS NULL AND v.travelDayCount IS NULL) OR v.travelDayCount = :travelDayCount)
+        ORDER BY v.voteId
+        """)
+    List<Vote> findVoteGroupForUpdate(@Param("planId") Long planId,
+                                      @Param("category") Vote.Category category,
+                                      @Param("travelDayCount") Integer travelDayCount);
+
+    // 서버 시작 시 마감 타이머 복구용 - 진행 중인 투표의 마감 시각만 조회
+    @Query("SELECT v.voteId AS voteId, v.endDate AS endDate FROM Vote v WHERE v.closedAt IS NULL")
+    List<VoteDeadlineProjection> findOpenVoteDeadlines();
+
+    // 실시간 집계 전송용 - 투표 id, 플랜 id, 현재 투표 수, 마감/선정 여부만 조회
+    @Query("""
+        SELECT v.voteId AS voteId, v.plan.planId AS planId, v.voteCount AS voteCount,
+        CASE WHEN v.closedAt IS NULL THEN false ELSE true END AS closed, v.winner AS winner
+        FROM Vote v WHERE v.voteId IN :voteIds
+        """)
+    List<VoteCountProjection> findVoteCountsByVoteIdIn(@Param("voteIds") List<Long> voteIds);
+
+    // 보정용 - 투표 수를 투표 기록 기준으로 다시 계산 (어긋난 행만 갱신)
+    @Modifying
+    @Query(value = """
+        UPDATE votes v
+        LEFT JOIN (SELECT vote_id, COUNT(*) AS cnt FROM vote_logs WHERE is_voted = true GROUP BY vote_id) l
+        ON l.vote_id = v.vote_id
+        SET v.vote_count = COALESCE(l.cnt, 0)
+        WHERE v.vote_count <> COALESCE(l.cnt, 0)
+        """, nativeQuery = true)
+    int recalculateVoteCounts();
 }
\ No newline at end of file
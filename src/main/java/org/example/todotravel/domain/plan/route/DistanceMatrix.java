@@ -0,0 +1,16 @@
+package org.example.todotravel.domain.plan.route;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 하루 일정의 거리 행렬 - 행/열은 scheduleIds 순서
+// 계산에 쓴 좌표를 함께 보관해, 같은 일정의 장소만 바뀐 경우나 무효화 전에 시작된 계산이 나중에 저장된 경우도 조회 시 걸러냄
+public record DistanceMatrix(List<Long> scheduleIds, double[] latitudes, double[] longitudes, double[][] meters) {
+
+    // 현재 일정 구성(일정 id와 좌표)으로 계산된 행렬인지
+    public boolean matches(List<Long> scheduleIds, double[] latitudes, double[] longitudes) {
+        return this.scheduleIds.equals(scheduleIds)
+            && Arrays.equals(this.latitudes, latitudes)
+            && Arrays.equals(this.longitudes, longitudes);
+    }
+}
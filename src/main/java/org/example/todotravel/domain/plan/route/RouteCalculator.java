@@ -0,0 +1,120 @@
+package org.example.todotravel.domain.plan.route;
+
+import org.example.todotravel.domain.plan.entity.Schedule;
+import org.example.todotravel.domain.plan.geo.GeoUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 하루 일정의 장소 간 거리 행렬, 이동 시간 추정, 방문 순서 최적화 (직선 거리 기준)
+public final class RouteCalculator {
+    // 2-opt 반복 상한 (일정 수가 많아도 응답 시간이 늘어나지 않도록)
+    private static final int MAX_TWO_OPT_PASSES = 50;
+    // 도로 이동은 직선 거리보다 길어지므로 보정 (항공 제외)
+    private static final double ROAD_DETOUR_FACTOR = 1.3;
+    private static final Map<Schedule.VehicleType, Double> SPEED_KMH = new EnumMap<>(Schedule.VehicleType.class);
+
+    static {
+        SPEED_KMH.put(Schedule.VehicleType.WALK, 4.5);
+        SPEED_KMH.put(Schedule.VehicleType.BIKE, 15.0);
+        SPEED_KMH.put(Schedule.VehicleType.BUS, 25.0);
+        SPEED_KMH.put(Schedule.VehicleType.SUBWAY, 35.0);
+        SPEED_KMH.put(Schedule.VehicleType.TAXI, 35.0);
+        SPEED_KMH.put(Schedule.VehicleType.CAR, 40.0);
+        SPEED_KMH.put(Schedule.VehicleType.TRAIN, 90.0);
+        SPEED_KMH.put(Schedule.VehicleType.AIRPLANE, 500.0);
+    }
+
+    private RouteCalculator() {
+    }
+
+    // 모든 장소 쌍의 거리(m) - 대칭이므로 절반만 계산
+    public static double[][] distanceMatrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[][] meters = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double distance = GeoUtils.distanceMeters(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+                meters[i][j] = distance;
+                meters[j][i] = distance;
+            }
+        }
+        return meters;
+    }
+
+    // 방문 순서대로 이동한 총 거리 (출발지로 돌아오지 않음)
+    public static double pathLength(double[][] meters, int[] order) {
+        double length = 0;
+        for (int i = 1; i < order.length; i++) {
+            length += meters[order[i - 1]][order[i]];
+        }
+        return length;
+    }
+
+    // 출발지를 고정하고 최근접 이웃으로 방문 순서를 만든 뒤 2-opt로 교차 구간을 제거
+    public static int[] optimize(double[][] meters, int start) {
+        return twoOpt(meters, nearestNeighbour(meters, start));
+    }
+
+    static int[] nearestNeighbour(double[][] meters, int start) {
+        int n = meters.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        order[0] = start;
+        visited[start] = true;
+        for (int i = 1; i < n; i++) {
+            int current = order[i - 1];
+            int next = -1;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate] && (next < 0 || meters[current][candidate] < meters[current][next])) {
+                    next = candidate;
+                }
+            }
+            order[i] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    // 구간 [i, j]를 뒤집어 거리가 줄어들면 반영 (첫 장소는 출발지로 고정, 마지막 장소는 자유)
+    static int[] twoOpt(double[][] meters, int[] initial) {
+        int[] order = initial.clone();
+        int n = order.length;
+        boolean improved = true;
+        for (int pass = 0; improved && pass < MAX_TWO_OPT_PASSES; pass++) {
+            improved = false;
+            for (int i = 1; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int before = order[i - 1];
+                    int first = order[i];
+                    int last = order[j];
+                    double delta = meters[before][last] - meters[before][first];
+                    if (j + 1 < n) {
+                        int after = order[j + 1];
+                        delta += meters[first][after] - meters[last][after];
+                    }
+                    if (delta < -1e-6) {
+                        reverse(order, i, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    // 교통수단별 평균 속도로 이동 시간(분) 추정 (교통수단이 없으면 자동차 기준)
+    public static double travelMinutes(double meters, Schedule.VehicleType vehicle) {
+        Schedule.VehicleType type = vehicle != null ? vehicle : Schedule.VehicleType.CAR;
+        double routeMeters = type == Schedule.VehicleType.AIRPLANE ? meters : meters * ROAD_DETOUR_FACTOR;
+        return routeMeters / 1000 / SPEED_KMH.get(type) * 60;
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int temp = order[from];
+            order[from++] = order[to];
+            order[to--] = temp;
+        }
+    }
+}
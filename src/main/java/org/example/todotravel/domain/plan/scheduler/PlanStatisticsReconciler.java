@@ -0,0 +1,50 @@
+package org.example.todotravel.domain.plan.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.repository.PlanDayBudgetRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.VoteRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// 플랜에 저장된 집계 값(좋아요/북마크 수, 인기 점수, 지출 합계, 투표 수)을 원본 데이터와 맞추는 보정 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanStatisticsReconciler {
+    private final PlanRepository planRepository;
+    private final PlanDayBudgetRepository planDayBudgetRepository;
+    private final VoteRepository voteRepository;
+
+    // 서버 시작 시 컬럼 도입 이전 데이터와 어긋난 값 보정
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 매일 새벽 카운터 드리프트 보정 (회원 탈퇴 중복 좋아요 등)
+    @Scheduled(cron = "${plan.statistics.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcileDaily() {
+        reconcile();
+    }
+
+    private void reconcile() {
+        int repaired = planRepository.recalculatePlanStatistics();
+        log.info("플랜 좋아요/북마크 수, 인기 점수 보정 완료 ({}건)", repaired);
+
+        int repairedSpent = planRepository.recalculateSpentBudgets();
+        planDayBudgetRepository.upsertDayBudgetsFromSchedules();
+        int removedDays = planDayBudgetRepository.deleteDayBudgetsWithoutSchedules();
+        log.info("플랜 지출 합계 보정 완료 ({}건, 빈 일차 {}건 제거)", repairedSpent, removedDays);
+
+        // 중복 투표 기록은 시작 시 VoteLogUniqueKeyMigration에서 정리됨
+        int repairedVotes = voteRepository.recalculateVoteCounts();
+        log.info("투표 수 보정 완료 ({}건)", repairedVotes);
+    }
+}
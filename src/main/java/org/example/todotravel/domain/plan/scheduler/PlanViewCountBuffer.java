@@ -0,0 +1,90 @@
+package org.example.todotravel.domain.plan.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 플랜 조회 수를 메모리에 모아두었다가 주기적으로 한 번에 반영 (조회 API에서 UPDATE 제거)
+@Slf4j
+@Component
+public class PlanViewCountBuffer {
+    private static final String FLUSH_SQL = """
+        UPDATE plans SET view_count = COALESCE(view_count, 0) + ?,
+        popularity_score = popularity_score + ? * 0.075
+        WHERE plan_id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public PlanViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 조회 1회 기록 (요청 스레드에서는 메모리 카운터만 증가)
+    // 증가도 compute 안에서 해야 flush가 같은 카운터를 0으로 보고 제거하는 동안 끼어들지 않음
+    public void record(Long planId) {
+        pendingViews.compute(planId, (id, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.increment();
+            return counter;
+        });
+    }
+
+    // 유실 가능 구간은 flush 주기로 제한됨
+    @Scheduled(fixedDelayString = "${plan.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long planId : pendingViews.keySet()) {
+            // 값 확인과 제거를 compute 안에서 처리해 record()와 원자적으로 실행
+            // (0을 확인한 뒤 제거하기 전에 들어온 조회가 제거된 카운터에 쌓여 유실되지 않도록)
+            pendingViews.compute(planId, (id, adder) -> {
+                if (adder == null) {
+                    return null;
+                }
+                long views = adder.sumThenReset();
+                if (views > 0) {
+                    batchArgs.add(new Object[]{views, views, id});
+                    return adder;
+                }
+                // 직전 주기 이후 조회가 없던 플랜은 정리
+                return null;
+            });
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 배치 전체를 한 트랜잭션으로 반영 - 중간에 실패하면 모두 롤백되므로 전체를 되돌려도 중복 집계되지 않음
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+            log.warn("플랜 조회 수 반영 실패 ({}건), 다음 주기에 재시도합니다.", batchArgs.size(), e);
+            batchArgs.forEach(args -> pendingViews.compute((Long) args[2], (id, adder) -> {
+                LongAdder counter = adder != null ? adder : new LongAdder();
+                counter.add((Long) args[0]);
+                return counter;
+            }));
+        }
+    }
+
+    // 서버 종료 시 남은 조회 수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
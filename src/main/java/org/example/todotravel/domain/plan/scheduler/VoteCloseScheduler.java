@@ -0,0 +1,103 @@
+package org.example.todotravel.domain.plan.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.dto.response.VoteDeadlineProjection;
+import org.example.todotravel.domain.plan.event.VoteDeadlineChangedEvent;
+import org.example.todotravel.domain.plan.repository.VoteRepository;
+import org.example.todotravel.domain.plan.service.VoteService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 투표 마감 시각에 맞춰 투표를 닫는 타이머 (주기적으로 전체 투표를 조회하지 않음)
+// 서버 시작 시 진행 중인 투표의 마감 시각을 한 번 읽어 타이머를 만들고, 이후에는 투표 생성/수정/삭제 이벤트로만 갱신
+// 마감 처리는 조건부로 한 번만 실행되므로 여러 서버가 같은 투표의 타이머를 가지고 있어도 안전함
+@Slf4j
+@Component
+public class VoteCloseScheduler {
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final VoteService voteService;
+    private final VoteRepository voteRepository;
+    private final ScheduledExecutorService voteCloseExecutor;
+
+    // 투표 id -> 마감 타이머 (마감 시각 변경/삭제 시 기존 타이머 취소용)
+    private final Map<Long, ScheduledFuture<?>> timers = new ConcurrentHashMap<>();
+
+    public VoteCloseScheduler(VoteService voteService,
+                              VoteRepository voteRepository,
+                              @Qualifier("voteCloseExecutor") ScheduledExecutorService voteCloseExecutor) {
+        this.voteService = voteService;
+        this.voteRepository = voteRepository;
+        this.voteCloseExecutor = voteCloseExecutor;
+    }
+
+    // 서버가 내려가 있던 동안 마감 시각이 지난 투표는 바로 마감됨
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverTimers() {
+        List<VoteDeadlineProjection> deadlines = voteRepository.findOpenVoteDeadlines();
+        deadlines.forEach(deadline -> schedule(deadline.getVoteId(), deadline.getEndDate()));
+        log.info("투표 마감 타이머 복구 완료 ({}건)", deadlines.size());
+    }
+
+    // 롤백된 변경으로 타이머가 바뀌지 않도록 커밋 이후에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onVoteDeadlineChanged(VoteDeadlineChangedEvent event) {
+        if (event.getEndDate() == null) {
+            cancel(event.getVoteId());
+        } else {
+            schedule(event.getVoteId(), event.getEndDate());
+        }
+    }
+
+    private void schedule(Long voteId, LocalDateTime endDate) {
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), endDate).toMillis());
+        scheduleAfter(voteId, delayMillis);
+    }
+
+    private void scheduleAfter(Long voteId, long delayMillis) {
+        ScheduledFuture<?> timer = voteCloseExecutor.schedule(() -> close(voteId), delayMillis, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = timers.put(voteId, timer);
+        if (previous != null && previous != timer) {
+            previous.cancel(false);
+        }
+    }
+
+    private void cancel(Long voteId) {
+        ScheduledFuture<?> timer = timers.remove(voteId);
+        if (timer != null) {
+            timer.cancel(false);
+        }
+    }
+
+    // 타이머 스레드에서 실행 - 시각이 된 타이머는 목록에서 빼고(그 사이 새로 걸린 타이머는 유지), 다시 걸어야 하면 새 타이머를 등록
+    private void close(Long voteId) {
+        timers.computeIfPresent(voteId, (id, timer) -> timer.getDelay(TimeUnit.MILLISECONDS) <= 0 ? null : timer);
+        try {
+            Optional<LocalDateTime> nextDeadline = voteService.closeVote(voteId);
+            nextDeadline.ifPresent(endDate -> {
+                if (!timers.containsKey(voteId)) {
+                    schedule(voteId, endDate);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("투표 마감 처리 실패 (voteId={}), {}초 후 재시도합니다.", voteId, RETRY_DELAY.toSeconds(), e);
+            if (!timers.containsKey(voteId)) {
+                scheduleAfter(voteId, RETRY_DELAY.toMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.todotravel.domain.plan.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공개 플랜의 제목/지역/설명을 2-gram 단위로 색인하는 메모리 역색인
+// 한글은 띄어쓰기/조사와 무관하게 부분 일치가 필요하므로 형태소 대신 bigram 사용
+@Component
+public class PlanSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // 토큰 -> (planId -> 가중치 합)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 글자 -> 그 글자를 포함하는 토큰 (한 글자 검색 시 전체 토큰을 훑지 않도록 postings와 함께 유지)
+    private final Map<Character, Set<String>> tokensByChar = new HashMap<>();
+    // planId -> 색인된 토큰 (수정/삭제 시 기존 posting 제거용)
+    private final Map<Long, Set<String>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 플랜 색인 (이미 색인된 플랜이면 교체)
+    public void index(Long planId, String title, String location, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTokens(weights, title, TITLE_WEIGHT);
+        addTokens(weights, location, LOCATION_WEIGHT);
+        addTokens(weights, description, DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(planId);
+            weights.forEach((token, weight) ->
+                postings.computeIfAbsent(token, this::newPosting).put(planId, weight));
+            documents.put(planId, weights.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인에서 플랜 제거
+    public void remove(Long planId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(planId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 전체 색인 교체 (서버 시작 시 재구축)
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            tokensByChar.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 토큰을 포함하는 플랜을 점수 내림차순(동점이면 최신순)으로 반환
+    public List<Long> search(String keyword) {
+        Set<String> queryTokens = tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String token : queryTokens) {
+                Map<Long, Integer> matched = lookup(token);
+                if (matched.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                if (scores == null) {
+                    scores = new HashMap<>(matched);
+                } else {
+                    scores.keySet().retainAll(matched.keySet());
+                    for (Map.Entry<Long, Integer> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + matched.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()));
+            List<Long> planIds = new ArrayList<>(ranked.size());
+            for (Map.Entry<Long, Integer> entry : ranked) {
+                planIds.add(entry.getKey());
+            }
+            return planIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한 글자 검색어는 해당 글자를 포함하는 bigram들의 합집합으로 조회 (read lock 안에서 호출)
+    private Map<Long, Integer> lookup(String token) {
+        if (token.length() > 1) {
+            return postings.getOrDefault(token, Collections.emptyMap());
+        }
+        Map<Long, Integer> merged = new HashMap<>();
+        for (String bigram : tokensByChar.getOrDefault(token.charAt(0), Collections.emptySet())) {
+            postings.get(bigram).forEach((planId, weight) -> merged.merge(planId, weight, Math::max));
+        }
+        return merged;
+    }
+
+    // 새 토큰의 posting 생성 시 글자별 목록에도 등록 (write lock 안에서 호출)
+    private Map<Long, Integer> newPosting(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            tokensByChar.computeIfAbsent(token.charAt(i), k -> new HashSet<>()).add(token);
+        }
+        return new HashMap<>();
+    }
+
+    private void removeToken(String token) {
+        postings.remove(token);
+        for (int i = 0; i < token.length(); i++) {
+            Set<String> tokens = tokensByChar.get(token.charAt(i));
+            if (tokens != null) {
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    tokensByChar.remove(token.charAt(i));
+                }
+            }
+        }
+    }
+
+    private void removeInternal(Long planId) {
+        Set<String> tokens = documents.remove(planId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Map<Long, Integer> plans = postings.get(token);
+            if (plans != null) {
+                plans.remove(planId);
+                if (plans.isEmpty()) {
+                    removeToken(token);
+                }
+            }
+        }
+    }
+
+    private static void addTokens(Map<String, Integer> weights, String text, int weight) {
+        for (String token : tokenize(text, true)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    // 검색어는 단어 안의 bigram만 사용 ("부산 맛집" -> 부산, 맛집)
+    static Set<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 소문자화 후 문자/숫자가 아닌 글자로 단어를 나누고, 각 단어를 2-gram으로 분해 (한 글자 단어는 그대로)
+    // 색인 시에는 단어 경계를 넘는 bigram도 추가해 "부산맛집"처럼 붙여 쓴 검색어도 일치하도록 함
+    static Set<String> tokenize(String text, boolean acrossWords) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String previous = null;
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (acrossWords && previous != null) {
+                tokens.add(previous.substring(previous.length() - 1) + word.charAt(0));
+            }
+            previous = word;
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+}
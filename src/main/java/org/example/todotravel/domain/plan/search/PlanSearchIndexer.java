@@ -0,0 +1,55 @@
+package org.example.todotravel.domain.plan.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.dto.response.PlanSearchProjection;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+// 플랜 검색 인덱스를 DB와 동기화 (시작 시 전체 구축, 이후 커밋된 변경만 반영)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanSearchIndexer {
+    private final PlanRepository planRepository;
+    private final PlanSearchIndex planSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildOnStartup() {
+        planSearchIndex.clear();
+        for (PlanSearchProjection plan : planRepository.findAllPublicSearchDocuments()) {
+            planSearchIndex.index(plan.getPlanId(), plan.getTitle(), plan.getLocation(), plan.getDescription());
+        }
+        log.info("플랜 검색 인덱스 구축 완료 ({}건)", planSearchIndex.size());
+    }
+
+    // 롤백된 변경이 색인되지 않도록 커밋 이후에 반영
+    // 이벤트에는 planId만 담고 현재 DB 상태를 다시 읽으므로 공개 여부 변경도 함께 처리됨
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlanChanged(PlanChangedEvent event) {
+        if (!event.getChangeType().isPlanChange()) {
+            return;
+        }
+        if (event.getChangeType() == PlanChangedEvent.ChangeType.DELETED) {
+            planSearchIndex.remove(event.getPlanId());
+            return;
+        }
+
+        Optional<PlanSearchProjection> plan = planRepository.findSearchDocumentByPlanId(event.getPlanId());
+        if (plan.isPresent() && Boolean.TRUE.equals(plan.get().getIsPublic())) {
+            PlanSearchProjection document = plan.get();
+            planSearchIndex.index(document.getPlanId(), document.getTitle(), document.getLocation(), document.getDescription());
+        } else {
+            planSearchIndex.remove(event.getPlanId());
+        }
+    }
+}
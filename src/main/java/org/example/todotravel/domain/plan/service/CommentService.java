@@ -1,10 +1,12 @@
 package org.example.todotravel.domain.plan.service;
 
 import org.example.todotravel.domain.plan.dto.request.CommentRequestDto;
+import org.example.todotravel.domain.plan.dto.response.CommentResponseDto;
 import org.example.todotravel.domain.plan.dto.response.CommentSummaryResponseDto;
 import org.example.todotravel.domain.plan.entity.Comment;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.user.entity.User;
+import org.example.todotravel.global.dto.PagedResponseDto;
 
 import java.util.List;
 
@@ -15,7 +17,7 @@ public interface CommentService {
     void removeComment(Long commentId);
     void removeAllCommentByPlan(Plan plan);
     void removeAllCommentByUser(User user);
-    List<Comment> getCommentsByPlan(Plan plan);
+    PagedResponseDto<CommentResponseDto> getCommentsByPlan(Long planId, Long lastCommentId, int size);
     List<CommentSummaryResponseDto> getAllCommentedPlansByUser(User user);
     List<CommentSummaryResponseDto> getRecentCommentedPlansByUser(User user);
     void removeAllByPlan(Plan plan);
@@ -2,10 +2,14 @@ package org.example.todotravel.domain.plan.service;
 
 import org.example.todotravel.domain.plan.entity.Location;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LocationService {
     Optional<Location> getByLocationPoint(double latitude, double longitude);
     Location getByLocationId(Long locationId);
+    List<Location> getAllByLocationIds(Collection<Long> locationIds);
+    List<Location> getNearbyLocations(double latitude, double longitude, double radiusMeters, int limit);
     Location addLocation(String name, double latitude, double longitude);
 }
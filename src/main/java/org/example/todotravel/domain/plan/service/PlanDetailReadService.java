@@ -0,0 +1,8 @@
+package org.example.todotravel.domain.plan.service;
+
+import org.example.todotravel.domain.plan.dto.response.PlanResponseDto;
+
+public interface PlanDetailReadService {
+    PlanResponseDto getPlanDetail(Long planId);
+    void evict(Long planId);
+}
@@ -0,0 +1,11 @@
+package org.example.todotravel.domain.plan.service;
+
+import org.example.todotravel.domain.plan.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PlanExportService {
+    String getExportETag(Long planId, ExportFormat format);
+    void exportPlan(Long planId, ExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -1,15 +1,15 @@
 package org.example.todotravel.domain.plan.service;
 
 import org.example.todotravel.domain.plan.dto.request.PlanRequestDto;
-import org.example.todotravel.domain.plan.dto.response.PlanCountProjection;
 import org.example.todotravel.domain.plan.dto.response.PlanListResponseDto;
 import org.example.todotravel.domain.plan.dto.response.PlanResponseDto;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.user.entity.User;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 import org.example.todotravel.global.dto.PagedResponseDto;
 import org.springframework.web.multipart.MultipartFile;
@@ -21,11 +21,14 @@ public interface PlanService {
     void removeJustPlan(Plan plan);
     Plan getPlan(Long planId);
     Plan updatePlan(Long planId, PlanRequestDto dto, MultipartFile planThumbnail);
-    List<PlanListResponseDto> getPublicPlans();
+    PagedResponseDto<PlanListResponseDto> getPublicPlans(int page, int size);
+    void streamPublicPlans(OutputStream outputStream) throws IOException;
 
-    PlanResponseDto getPlanDetails(Long planId);
     Plan copyPlan(Long planId, User user);
-    List<PlanListResponseDto> getSpecificPlans(String keyword);
+    PagedResponseDto<PlanListResponseDto> getSpecificPlans(String keyword, int page, int size);
+    PagedResponseDto<PlanListResponseDto> getNearbyPlans(double latitude, double longitude, double radiusMeters, int page, int size);
+    PagedResponseDto<PlanListResponseDto> getPlansInArea(double minLatitude, double minLongitude,
+                                                         double maxLatitude, double maxLongitude, int page, int size);
     PlanResponseDto getPlanForModify(Long planId);
     void savePlan(Plan plan);
 
@@ -35,7 +38,6 @@ public interface PlanService {
     List<PlanListResponseDto> getAllBookmarkedPlans(User user);
     List<PlanListResponseDto> getRecentLikedPlans(User user);
     List<PlanListResponseDto> getAllLikedPlans(User user);
-    List<PlanListResponseDto> setBookmarkAndLikeCounts(List<PlanListResponseDto> dtos);
     PagedResponseDto<PlanListResponseDto> getPopularPlansNotInRecruitment(int page, int size);
     PagedResponseDto<PlanListResponseDto> getPopularPlansWithFrontLocation(int page, int size, String frontLocation);
     PagedResponseDto<PlanListResponseDto> getPopularPlansWithAllLocation(int page, int size, String frontLocation, String location);
@@ -48,12 +50,19 @@ public interface PlanService {
     PagedResponseDto<PlanListResponseDto> getRecentPlansWithFrontLocationAndStartDate(int page, int size, String frontLocation, Boolean recruitment, LocalDate startDate);
     PagedResponseDto<PlanListResponseDto> getRecentPlansWithAllLocationAndStartDate(int page, int size, String frontLocation, String location, Boolean recruitment, LocalDate startDate);
 
-    Map<Long, PlanCountProjection> getBookmarkAndLikeCounts(List<Long> planIds);
+    PagedResponseDto<PlanListResponseDto> getRecentPlansByRecruitmentWithCursor(Long lastPlanId, int size, Boolean recruitment);
+    PagedResponseDto<PlanListResponseDto> getRecentPlansWithFrontLocationWithCursor(Long lastPlanId, int size, String frontLocation, Boolean recruitment);
+    PagedResponseDto<PlanListResponseDto> getRecentPlansWithAllLocationWithCursor(Long lastPlanId, int size, String frontLocation, String location, Boolean recruitment);
+    PagedResponseDto<PlanListResponseDto> getRecentPlansRecruitmentByStartDateWithCursor(Long lastPlanId, int size, Boolean recruitment, LocalDate startDate);
+    PagedResponseDto<PlanListResponseDto> getRecentPlansWithFrontLocationAndStartDateWithCursor(Long lastPlanId, int size, String frontLocation, Boolean recruitment, LocalDate startDate);
+    PagedResponseDto<PlanListResponseDto> getRecentPlansWithAllLocationAndStartDateWithCursor(Long lastPlanId, int size, String frontLocation, String location, Boolean recruitment, LocalDate startDate);
+
     List<PlanListResponseDto> convertToPlanListResponseDto(List<Plan> plans);
 
     List<Plan> getAllPlanByPlanUser(User user);
   
     // 플랜 썸네일 이미지 등록
     void updateThumbnailImage(Long planId, MultipartFile file);
+    void updateThumbnailImageFromUpload(Long planId, String uploadKey);
     Plan getThumbnailImageUrl(Long planId);
 }
@@ -0,0 +1,10 @@
+package org.example.todotravel.domain.plan.service;
+
+import org.example.todotravel.domain.plan.dto.response.PlanRouteResponseDto;
+import org.example.todotravel.domain.plan.dto.response.RouteOptimizeResponseDto;
+
+public interface RouteService {
+    PlanRouteResponseDto getPlanRoute(Long planId);
+    RouteOptimizeResponseDto optimizeDayRoute(Long planId, Integer travelDayCount);
+    void evict(Long planId);
+}
@@ -1,5 +1,6 @@
 package org.example.todotravel.domain.plan.service;
 
+import org.example.todotravel.domain.plan.dto.request.ScheduleBatchRequestDto;
 import org.example.todotravel.domain.plan.dto.request.ScheduleCreateRequestDto;
 import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
 import org.example.todotravel.domain.plan.entity.Plan;
@@ -12,12 +13,15 @@ public interface ScheduleService {
 
     Schedule getByScheduleId(Long scheduleId);
     Schedule createSchedule(Long planId, ScheduleCreateRequestDto dto);
-    void removeSchedule(Long scheduleId);
+    void removeSchedule(Long scheduleId, Long version);
     ScheduleResponseDto getSchedule(Long scheduleId);
-    Schedule updateDescription(Long scheduleId, String description);
-    Schedule updateStatus(Long scheduleId);
-    Schedule updateVehicle(Long scheduleId, Schedule.VehicleType vehicle);
-    Schedule updatePrice(Long scheduleId, Long price);
+    Schedule updateDescription(Long scheduleId, String description, Long version);
+    Schedule updateStatus(Long scheduleId, Long version);
+    Schedule updateVehicle(Long scheduleId, Schedule.VehicleType vehicle, Long version);
+    Schedule updatePrice(Long scheduleId, Long price, Long version);
     List<ScheduleResponseDto> getSchedulesByPlan(Long planId);
     void removeAllSchedulesByPlan(Plan plan);
+    List<ScheduleResponseDto> applyScheduleBatch(Long planId, ScheduleBatchRequestDto dto);
+    Schedule applyVoteResult(Long planId, Long scheduleId, ScheduleCreateRequestDto dto);
+    void removeVoteResult(Long planId, Long scheduleId);
 }
@@ -1,16 +1,21 @@
 package org.example.todotravel.domain.plan.service;
 
 import org.example.todotravel.domain.plan.dto.request.VoteRequestDto;
+import org.example.todotravel.domain.plan.dto.response.VoteListResponseDto;
 import org.example.todotravel.domain.plan.dto.response.VoteResponseDto;
 import org.example.todotravel.domain.plan.entity.Vote;
 import org.example.todotravel.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 public interface VoteService {
     Vote createVote(Long planId, User user, VoteRequestDto dto);
     Vote updateVote(Long planId, Long voteId, User user, VoteRequestDto dto) ;
     void removeVote(Long planId, Long voteId, User user);
-    Page<VoteResponseDto> getAllVoteList(Long planId, Pageable pageable);
+    Page<VoteListResponseDto> getAllVoteList(Long planId, User user, Pageable pageable);
     Vote getVote(Long voteId);
+    Optional<LocalDateTime> closeVote(Long voteId);
 }
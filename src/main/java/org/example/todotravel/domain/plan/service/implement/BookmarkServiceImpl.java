@@ -7,9 +7,12 @@ import org.example.todotravel.domain.plan.dto.response.PlanListResponseDto;
 import org.example.todotravel.domain.plan.dto.response.PlanSummaryDto;
 import org.example.todotravel.domain.plan.entity.Bookmark;
 import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
 import org.example.todotravel.domain.plan.repository.BookmarkRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
 import org.example.todotravel.domain.plan.service.BookmarkService;
 import org.example.todotravel.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,7 +23,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookmarkServiceImpl implements BookmarkService {
     private final BookmarkRepository bookmarkRepository;
+    private final PlanRepository planRepository;
     private final AlarmService alarmService; //알림 자동 생성
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -30,6 +35,8 @@ public class BookmarkServiceImpl implements BookmarkService {
                 .plan(plan)
                 .build();
         Bookmark newBookmark = bookmarkRepository.save(bookmark);
+        planRepository.addBookmarkCount(plan.getPlanId(), 1);
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.BOOKMARK));
 
         AlarmRequestDto requestDto = new AlarmRequestDto(plan.getPlanUser().getUserId(),
                 user.getNickname()+ "님이 [" + plan.getTitle() + "] 플랜을 북마크 했습니다.");
@@ -41,7 +48,11 @@ public class BookmarkServiceImpl implements BookmarkService {
     @Override
     @Transactional
     public void removeBookmark(Plan plan, User user) {
-        bookmarkRepository.deleteByPlanAndBookmarkUser(plan, user);
+        long deleted = bookmarkRepository.deleteByPlanAndBookmarkUser(plan, user);
+        if (deleted > 0) {
+            planRepository.addBookmarkCount(plan.getPlanId(), -deleted);
+            eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.BOOKMARK));
+        }
     }
 
     // 회원 탈퇴 시 사용자가 생성한 플랜의 북마크 삭제
@@ -55,7 +66,10 @@ public class BookmarkServiceImpl implements BookmarkService {
     @Override
     @Transactional
     public void removeAllBookmarkByUser(User user) {
+        List<Long> planIds = bookmarkRepository.findPlanIdsByBookmarkUser(user);
+        planRepository.decrementBookmarkCountByBookmarkUser(user);
         bookmarkRepository.deleteAllByBookmarkUser(user);
+        planIds.forEach(planId -> eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.BOOKMARK)));
     }
 
     @Override
@@ -4,14 +4,20 @@ import lombok.RequiredArgsConstructor;
 import org.example.todotravel.domain.notification.dto.request.AlarmRequestDto;
 import org.example.todotravel.domain.notification.service.AlarmService;
 import org.example.todotravel.domain.plan.dto.request.CommentRequestDto;
+import org.example.todotravel.domain.plan.dto.response.CommentResponseDto;
 import org.example.todotravel.domain.plan.dto.response.CommentSummaryResponseDto;
 import org.example.todotravel.domain.plan.entity.Comment;
 import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
 import org.example.todotravel.domain.plan.repository.CommentRepository;
 import org.example.todotravel.domain.plan.service.CommentService;
 import org.example.todotravel.domain.user.entity.User;
+import org.example.todotravel.global.dto.PagedResponseDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +29,7 @@ public class CommentServiceImpl implements CommentService {
     private static final Logger log = LoggerFactory.getLogger(CommentServiceImpl.class);
     private final CommentRepository commentRepository;
     private final AlarmService alarmService; //알림 자동 생성
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -34,6 +41,7 @@ public class CommentServiceImpl implements CommentService {
                 .beforeTravel(commentRequestDto.getBeforeTravel())
                 .build();
         Comment newComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.COMMENT));
 
         AlarmRequestDto requestDto = new AlarmRequestDto(plan.getPlanUser().getUserId(),
                 user.getNickname()+ "님이 [" + plan.getTitle() + "] 플랜에 댓글을 작성했습니다.");
@@ -56,6 +64,7 @@ public class CommentServiceImpl implements CommentService {
                 .content(commentRequestDto.getContent())
                 .beforeTravel(commentRequestDto.getBeforeTravel())
                 .build();
+        eventPublisher.publishEvent(new PlanChangedEvent(comment.getPlan().getPlanId(), PlanChangedEvent.ChangeType.COMMENT));
         return commentRepository.save(comment);
     }
 
@@ -64,6 +73,7 @@ public class CommentServiceImpl implements CommentService {
     public void removeComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다."));
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new PlanChangedEvent(comment.getPlan().getPlanId(), PlanChangedEvent.ChangeType.COMMENT));
     }
 
     // 회원 탈퇴 시 사용자가 생성한 플랜의 댓글 삭제
@@ -77,14 +87,21 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public void removeAllCommentByUser(User user) {
+        List<Long> planIds = commentRepository.findPlanIdsByCommentUser(user);
         commentRepository.deleteAllByCommentUserWithQuery(user);
+        planIds.forEach(planId -> eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.COMMENT)));
         log.info("댓글 삭제를 거칩니다");
     }
 
+    // 플랜 댓글 커서 페이징 조회 (첫 요청은 lastCommentId 생략)
     @Override
     @Transactional(readOnly = true)
-    public List<Comment> getCommentsByPlan(Plan plan) {
-        return commentRepository.findAllByPlan(plan);
+    public PagedResponseDto<CommentResponseDto> getCommentsByPlan(Long planId, Long lastCommentId, int size) {
+        Long cursor = lastCommentId != null ? lastCommentId : 0L;
+        Slice<CommentResponseDto> comments = commentRepository.findCommentDtosByPlanIdWithCursor(planId, cursor, PageRequest.of(0, size));
+        List<CommentResponseDto> content = comments.getContent();
+        Long nextCursor = comments.hasNext() ? content.get(content.size() - 1).getCommentId() : null;
+        return new PagedResponseDto<>(comments, nextCursor);
     }
 
     // 특정 사용자가 댓글 단 플랜 조회
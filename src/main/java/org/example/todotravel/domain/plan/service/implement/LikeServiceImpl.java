@@ -7,9 +7,12 @@ import org.example.todotravel.domain.plan.dto.response.PlanListResponseDto;
 import org.example.todotravel.domain.plan.dto.response.PlanSummaryDto;
 import org.example.todotravel.domain.plan.entity.Like;
 import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
 import org.example.todotravel.domain.plan.repository.LikeRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
 import org.example.todotravel.domain.plan.service.LikeService;
 import org.example.todotravel.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,7 +23,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LikeServiceImpl implements LikeService {
     private final LikeRepository likeRepository;
+    private final PlanRepository planRepository;
     private final AlarmService alarmService; //알림 자동 생성
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -30,6 +35,8 @@ public class LikeServiceImpl implements LikeService {
                 .plan(plan)
                 .build();
         Like newLike = likeRepository.save(like);
+        planRepository.addLikeCount(plan.getPlanId(), 1);
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.LIKE));
 
         AlarmRequestDto requestDto = new AlarmRequestDto(plan.getPlanUser().getUserId(),
                 user.getNickname()+ "님이 [" + plan.getTitle() + "] 플랜을 좋아합니다.");
@@ -41,7 +48,11 @@ public class LikeServiceImpl implements LikeService {
     @Override
     @Transactional
     public void removeLike(Plan plan, User user) {
-        likeRepository.deleteByPlanAndLikeUser(plan, user);
+        long deleted = likeRepository.deleteByPlanAndLikeUser(plan, user);
+        if (deleted > 0) {
+            planRepository.addLikeCount(plan.getPlanId(), -deleted);
+            eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.LIKE));
+        }
     }
 
     // 회원 탈퇴 시 사용자가 생성한 플랜의 좋아요 삭제
@@ -55,7 +66,10 @@ public class LikeServiceImpl implements LikeService {
     @Override
     @Transactional
     public void removeAllLikeByUser(User user) {
+        List<Long> planIds = likeRepository.findPlanIdsByLikeUser(user);
+        planRepository.decrementLikeCountByLikeUser(user);
         likeRepository.deleteAllByLikeUser(user);
+        planIds.forEach(planId -> eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.LIKE)));
     }
 
     @Override
@@ -1,24 +1,50 @@
 package org.example.todotravel.domain.plan.service.implement;
 
-import lombok.RequiredArgsConstructor;
 import org.example.todotravel.domain.plan.entity.Location;
+import org.example.todotravel.domain.plan.event.LocationAddedEvent;
+import org.example.todotravel.domain.plan.geo.LocationGridIndex;
 import org.example.todotravel.domain.plan.repository.LocationRepository;
 import org.example.todotravel.domain.plan.service.LocationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class LocationServiceImpl implements LocationService {
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+
     private final LocationRepository locationRepository;
+    private final LocationGridIndex locationGridIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final double dedupRadiusMeters;
+
+    public LocationServiceImpl(LocationRepository locationRepository,
+                               LocationGridIndex locationGridIndex,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${location.dedup-radius-meters:10}") double dedupRadiusMeters) {
+        this.locationRepository = locationRepository;
+        this.locationGridIndex = locationGridIndex;
+        this.eventPublisher = eventPublisher;
+        this.dedupRadiusMeters = dedupRadiusMeters;
+    }
 
-    //위치 찾기 - 좌표
+    //위치 찾기 - 좌표 (중복 판정 반경 안에서 가장 가까운 장소)
     @Override
     @Transactional(readOnly = true)
     public Optional<Location> getByLocationPoint(double latitude, double longitude) {
-        return locationRepository.findByLatitudeAndLongitude(latitude, longitude);
+        return locationGridIndex.nearest(latitude, longitude, dedupRadiusMeters)
+            .flatMap(neighbor -> locationRepository.findById(neighbor.locationId()));
     }
 
     //위치 찾기 - id
@@ -28,11 +54,45 @@ public class LocationServiceImpl implements LocationService {
         return locationRepository.findById(locationId).orElseThrow(() -> new RuntimeException("장소를 찾을 수 없습니다."));
     }
 
+    //위치 찾기 - 여러 id를 한 번에 (하나라도 없으면 예외)
+    @Override
+    @Transactional(readOnly = true)
+    public List<Location> getAllByLocationIds(Collection<Long> locationIds) {
+        Set<Long> uniqueIds = new HashSet<>(locationIds);
+        List<Location> locations = locationRepository.findAllById(uniqueIds);
+        if (locations.size() != uniqueIds.size()) {
+            throw new RuntimeException("장소를 찾을 수 없습니다.");
+        }
+        return locations;
+    }
+
+    //주변 장소 찾기 - 가까운 순
+    @Override
+    @Transactional(readOnly = true)
+    public List<Location> getNearbyLocations(double latitude, double longitude, double radiusMeters, int limit) {
+        List<Long> locationIds = locationGridIndex.withinRadius(latitude, longitude, Math.min(radiusMeters, MAX_NEARBY_RADIUS_METERS))
+            .stream()
+            .limit(limit)
+            .map(LocationGridIndex.Neighbor::locationId)
+            .collect(Collectors.toList());
+        if (locationIds.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 거리 순서로 다시 정렬
+        Map<Long, Location> locationsById = locationRepository.findAllById(locationIds).stream()
+            .collect(Collectors.toMap(Location::getLocationId, Function.identity()));
+        return locationIds.stream()
+            .map(locationsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
     //위치 저장하기
     @Override
     @Transactional
     public Location addLocation(String name, double latitude, double longitude) {
-        //이미 존재하는 경우 기존의 장소 전달
+        //이미 존재하는 경우(중복 판정 반경 안) 기존의 장소 전달
         Optional<Location> existingLocation = getByLocationPoint(latitude, longitude);
         if (existingLocation.isPresent()) {
             return existingLocation.get();
@@ -43,6 +103,8 @@ public class LocationServiceImpl implements LocationService {
                 .latitude(latitude)
                 .longitude(longitude)
                 .build();
-        return locationRepository.save(location);
+        Location newLocation = locationRepository.save(location);
+        eventPublisher.publishEvent(new LocationAddedEvent(newLocation.getLocationId(), latitude, longitude));
+        return newLocation;
     }
 }
@@ -0,0 +1,178 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.dto.response.CommentResponseDto;
+import org.example.todotravel.domain.plan.dto.response.PlanDayBudgetResponseDto;
+import org.example.todotravel.domain.plan.dto.response.PlanResponseDto;
+import org.example.todotravel.domain.plan.dto.response.PlanUserCountProjection;
+import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
+import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
+import org.example.todotravel.domain.plan.repository.CommentRepository;
+import org.example.todotravel.domain.plan.repository.PlanDayBudgetRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.example.todotravel.domain.plan.scheduler.PlanViewCountBuffer;
+import org.example.todotravel.domain.plan.service.PlanDetailReadService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+// 플랜 상세 조회(플랜 정보, 일정, 댓글)를 조립된 응답 단위로 캐싱
+// 해당 플랜에 대한 변경이 커밋되면 PlanChangedEvent로 즉시 무효화하고, TTL은 누락된 경로에 대한 안전장치
+@Slf4j
+@Service
+public class PlanDetailReadServiceImpl implements PlanDetailReadService {
+    private final PlanRepository planRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final PlanDayBudgetRepository planDayBudgetRepository;
+    private final PlanViewCountBuffer planViewCountBuffer;
+    private final ExecutorService planDetailExecutor;
+    private final int commentPageSize;
+    // 하위 조회는 각자 커넥션을 잡으므로, 캐시 미스가 몰려도 커넥션 풀을 다 쓰지 않도록 동시에 실행되는 조회 수를 제한
+    // (다른 요청이 쓸 커넥션이 남도록 풀 크기(기본 10)보다 작게 설정)
+    private final Semaphore queryPermits;
+
+    private final Cache<Long, PlanResponseDto> cache;
+    // 최근 무효화 시각 - 조회 도중 무효화된 플랜의 이전 상태가 다시 캐시에 들어가는 것을 막기 위함
+    private final Cache<Long, Long> invalidations;
+
+    public PlanDetailReadServiceImpl(PlanRepository planRepository,
+                                     ScheduleRepository scheduleRepository,
+                                     CommentRepository commentRepository,
+                                     PlanDayBudgetRepository planDayBudgetRepository,
+                                     PlanViewCountBuffer planViewCountBuffer,
+                                     @Qualifier("planDetailExecutor") ExecutorService planDetailExecutor,
+                                     @Value("${plan.detail-cache.maximum-size:1000}") long maximumSize,
+                                     @Value("${plan.detail-cache.ttl-seconds:300}") long ttlSeconds,
+                                     @Value("${plan.detail.comment-page-size:20}") int commentPageSize,
+                                     @Value("${plan.detail.max-concurrent-queries:6}") int maxConcurrentQueries) {
+        this.planRepository = planRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.planDayBudgetRepository = planDayBudgetRepository;
+        this.planViewCountBuffer = planViewCountBuffer;
+        this.planDetailExecutor = planDetailExecutor;
+        this.commentPageSize = commentPageSize;
+        this.queryPermits = new Semaphore(maxConcurrentQueries, true);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        this.invalidations = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+    }
+
+    @Override
+    public PlanResponseDto getPlanDetail(Long planId) {
+        // 캐시 적중 여부와 관계없이 조회 수 증가 (인기순 정렬을 위한) - 주기적으로 일괄 반영
+        PlanResponseDto cached = cache.getIfPresent(planId);
+        if (cached != null) {
+            planViewCountBuffer.record(planId);
+            return cached;
+        }
+
+        Long invalidatedBefore = invalidations.getIfPresent(planId);
+        PlanResponseDto planDetail = loadPlanDetail(planId);
+        if (Objects.equals(invalidatedBefore, invalidations.getIfPresent(planId))) {
+            cache.put(planId, planDetail);
+        }
+        planViewCountBuffer.record(planId);
+        return planDetail;
+    }
+
+    @Override
+    public void evict(Long planId) {
+        invalidations.put(planId, System.nanoTime());
+        cache.invalidate(planId);
+    }
+
+    // 롤백된 변경으로 캐시를 비우지 않도록 커밋 이후에 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlanChanged(PlanChangedEvent event) {
+        evict(event.getPlanId());
+    }
+
+    @Scheduled(fixedDelayString = "${plan.detail-cache.stats-log-interval-ms:600000}")
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("플랜 상세 캐시 - 크기: {}, 적중: {}, 미스: {}, 적중률: {}, 제거: {}",
+            cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+            String.format("%.2f", stats.hitRate()), stats.evictionCount());
+    }
+
+    // 플랜(+참여자 수), 일정, 일차별 지출, 댓글은 서로 독립적이므로 가상 스레드에서 동시에 조회
+    // 각 조회는 엔티티 지연 로딩 없이 끝나는 쿼리라 트랜잭션을 공유하지 않아도 됨
+    private PlanResponseDto loadPlanDetail(Long planId) {
+        CompletableFuture<PlanResponseDto> planFuture = query(() -> {
+            Plan plan = planRepository.findWithPlanUserByPlanId(planId)
+                .orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+            Long planUserCount = planRepository.countPlanUsersByPlanIds(List.of(planId), PlanUser.StatusType.ACCEPTED).stream()
+                .findFirst()
+                .map(PlanUserCountProjection::getPlanUserCount)
+                .orElse(0L);
+            return PlanResponseDto.fromEntity(plan, planUserCount);
+        });
+        CompletableFuture<List<ScheduleResponseDto>> schedulesFuture =
+            query(() -> scheduleRepository.findScheduleDtosByPlanId(planId));
+        CompletableFuture<List<PlanDayBudgetResponseDto>> dayBudgetsFuture =
+            query(() -> planDayBudgetRepository.findDayBudgetDtosByPlanId(planId));
+        CompletableFuture<Slice<CommentResponseDto>> commentsFuture = query(() ->
+            commentRepository.findCommentDtosByPlanIdWithCursor(planId, 0L, PageRequest.of(0, commentPageSize)));
+        CompletableFuture<Long> commentCountFuture =
+            query(() -> commentRepository.countByPlanId(planId));
+
+        return await(planFuture).toBuilder()
+            .scheduleList(List.copyOf(await(schedulesFuture)))
+            .dayBudgets(List.copyOf(await(dayBudgetsFuture)))
+            .commentList(List.copyOf(await(commentsFuture).getContent()))
+            .commentCount(await(commentCountFuture))
+            .build();
+    }
+
+    // 가상 스레드에서 조회하되 허용된 수만큼만 동시에 커넥션을 사용
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            queryPermits.acquireUninterruptibly();
+            try {
+                return query.get();
+            } finally {
+                queryPermits.release();
+            }
+        }, planDetailExecutor);
+    }
+
+    // 하위 조회에서 발생한 예외를 CompletionException으로 감싸지 않고 그대로 전달
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
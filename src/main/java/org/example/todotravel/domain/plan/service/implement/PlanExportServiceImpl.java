@@ -0,0 +1,144 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.example.todotravel.domain.plan.dto.response.ScheduleFingerprintProjection;
+import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
+import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.export.ExportFormat;
+import org.example.todotravel.domain.plan.export.IcsWriter;
+import org.example.todotravel.domain.plan.repository.PlanExportRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.example.todotravel.domain.plan.service.PlanExportService;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+@Service
+@RequiredArgsConstructor
+public class PlanExportServiceImpl implements PlanExportService {
+    private static final int EXPORT_FLUSH_INTERVAL = 100;
+    private static final DateTimeFormatter ICS_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter ICS_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final PlanRepository planRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final PlanExportRepository planExportRepository;
+    private final ObjectMapper objectMapper;
+
+    // 플랜 버전(플랜 수정)과 일정 요약 값(일정 추가/삭제/수정)으로 만든 ETag - 일정 본문을 읽지 않고 계산
+    @Override
+    public String getExportETag(Long planId, ExportFormat format) {
+        Plan plan = getPlan(planId);
+        ScheduleFingerprintProjection schedules = scheduleRepository.findScheduleFingerprintByPlanId(planId);
+        return "\"plan-" + planId + "-v" + plan.getVersion()
+            + "-s" + schedules.getScheduleCount() + "." + schedules.getVersionSum() + "." + schedules.getMaxScheduleId()
+            + "-" + format.getExtension() + "\"";
+    }
+
+    // 일정은 목록으로 모으지 않고 조회하는 대로 응답에 씀 (일정이 많아도 메모리 사용량 일정)
+    @Override
+    public void exportPlan(Long planId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Plan plan = getPlan(planId);
+        try {
+            if (format == ExportFormat.ICS) {
+                writeIcs(plan, outputStream);
+            } else {
+                writeJson(plan, outputStream);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Plan getPlan(Long planId) {
+        return planRepository.findWithPlanUserByPlanId(planId)
+            .orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+    }
+
+    private void writeJson(Plan plan, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ScheduleResponseDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeNumberField("planId", plan.getPlanId());
+            generator.writeStringField("title", plan.getTitle());
+            generator.writeStringField("frontLocation", plan.getFrontLocation());
+            generator.writeStringField("location", plan.getLocation());
+            generator.writeStringField("description", plan.getDescription());
+            generator.writeObjectField("startDate", plan.getStartDate());
+            generator.writeObjectField("endDate", plan.getEndDate());
+            generator.writeObjectField("totalBudget", plan.getTotalBudget());
+            generator.writeObjectField("spentBudget", plan.getSpentBudget());
+            generator.writeStringField("planUserNickname", plan.getPlanUser().getNickname());
+            generator.writeNumberField("version", plan.getVersion());
+            generator.writeArrayFieldStart("schedules");
+            int[] written = {0};
+            planExportRepository.streamSchedules(plan.getPlanId(), schedule -> {
+                try {
+                    writer.writeValue(generator, schedule);
+                    if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 - 조회를 중단하도록 예외 전파
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    // 일정 하나를 VEVENT 하나로 - 시간이 있으면 해당 일시(현지 시간), 없으면 종일 일정
+    private void writeIcs(Plan plan, OutputStream outputStream) throws IOException {
+        BufferedWriter bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        IcsWriter ics = new IcsWriter(bufferedWriter);
+        String stamp = LocalDateTime.now(ZoneOffset.UTC).format(ICS_DATE_TIME) + "Z";
+
+        ics.raw("BEGIN", "VCALENDAR");
+        ics.raw("VERSION", "2.0");
+        ics.raw("PRODID", "-//todotravel//plan export//KO");
+        ics.raw("CALSCALE", "GREGORIAN");
+        ics.text("X-WR-CALNAME", plan.getTitle());
+        int[] written = {0};
+        planExportRepository.streamSchedules(plan.getPlanId(), schedule -> {
+            try {
+                LocalDate date = plan.getStartDate().plusDays(Math.max(schedule.getTravelDayCount(), 1) - 1);
+                ics.raw("BEGIN", "VEVENT");
+                ics.raw("UID", "schedule-" + schedule.getScheduleId() + "@todotravel");
+                ics.raw("DTSTAMP", stamp);
+                if (schedule.getTravelTime() != null) {
+                    ics.raw("DTSTART", date.atTime(schedule.getTravelTime()).format(ICS_DATE_TIME));
+                } else {
+                    ics.raw("DTSTART;VALUE=DATE", date.format(ICS_DATE));
+                }
+                ics.text("SUMMARY", schedule.getLocationName());
+                ics.text("LOCATION", schedule.getLocationName());
+                ics.text("DESCRIPTION", schedule.getDescription());
+                ics.raw("GEO", schedule.getLatitude() + ";" + schedule.getLongitude());
+                ics.raw("END", "VEVENT");
+                if (++written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                    ics.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        ics.raw("END", "VCALENDAR");
+        ics.flush();
+    }
+}
@@ -1,6 +1,12 @@
 package org.example.todotravel.domain.plan.service.implement;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 
 import lombok.RequiredArgsConstructor;
 import org.example.todotravel.domain.notification.dto.request.AlarmRequestDto;
@@ -8,57 +14,83 @@ import org.example.todotravel.domain.notification.service.AlarmService;
 import org.example.todotravel.domain.plan.dto.request.PlanRequestDto;
 import org.example.todotravel.domain.plan.dto.response.*;
 import org.example.todotravel.domain.plan.entity.*;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
+import org.example.todotravel.domain.plan.geo.LocationGridIndex;
 import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.PlanStreamRepository;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.example.todotravel.domain.plan.search.PlanSearchIndex;
 import org.example.todotravel.domain.plan.service.BookmarkService;
 import org.example.todotravel.domain.plan.service.CommentService;
 import org.example.todotravel.domain.plan.service.LikeService;
 import org.example.todotravel.domain.plan.service.PlanService;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.repository.UserRepository;
-import org.example.todotravel.global.aws.S3Service;
 import org.example.todotravel.global.dto.PagedResponseDto;
+import org.example.todotravel.global.exception.EditConflictException;
 import org.example.todotravel.global.exception.UserNotFoundException;
-import org.springframework.data.domain.Page;
+import org.example.todotravel.global.image.ImageAttachHandler;
+import org.example.todotravel.global.image.ImagePipeline;
+import org.example.todotravel.global.image.ImageRendition;
+import org.example.todotravel.global.storage.ObjectDeletionQueue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 public class PlanServiceImpl implements PlanService {
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final double MAX_AREA_DEGREES = 2;
+    // 주변/영역 조회는 비로그인 사용자도 호출하므로 후보 장소 수와 IN 조회 크기를 제한
+    static final int MAX_CANDIDATE_LOCATIONS = 2000;
+    static final int LOCATION_ID_CHUNK_SIZE = 500;
+    static final int MAX_PAGE_SIZE = 50;
+
     private final PlanRepository planRepository;
     private final BookmarkService bookmarkService;
     private final LikeService likeService;
     private final AlarmService alarmService; //알림 자동 생성
     private final CommentService commentService;
-    private final S3Service s3Service; // 버킷
+    private final ImagePipeline imagePipeline; // 썸네일 변환/업로드
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final PlanSearchIndex planSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlanStreamRepository planStreamRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ObjectMapper objectMapper;
+    private final LocationGridIndex locationGridIndex;
 
     @Override
     @Transactional
     public Plan createPlan(PlanRequestDto planRequestDto, MultipartFile planThumbnail, User user) {
-
-
-        String thumbnailUrl = null;
-        if (planThumbnail != null && !planThumbnail.isEmpty()) {
-            try {
-                thumbnailUrl = s3Service.uploadFile(planThumbnail);
-                planRequestDto.setPlanThumbnailUrl(thumbnailUrl);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
+        // 썸네일은 원본만 메모리에 받아두고, 커밋 후 변환이 끝나면 URL 반영
+        byte[] thumbnail = readThumbnail(planThumbnail);
+        planRequestDto.setPlanThumbnailUrl(null);
 
         //플랜 생성 시 일정과 메모가 빈 플랜이 db에 생성
 
@@ -72,8 +104,17 @@ public class PlanServiceImpl implements PlanService {
             .build();
         plan.setPlanUsers(Collections.singleton(planUser));
         plan.setViewCount(0L);
+        plan.setPopularityScore(0.0);
+        plan.setLikeCount(0L);
+        plan.setBookmarkCount(0L);
+        plan.setSpentBudget(0L);
         plan.setRecruitment(false);
-        return planRepository.save(plan);
+        Plan savedPlan = planRepository.save(plan);
+        if (thumbnail != null) {
+            requestThumbnailRenditions(savedPlan, thumbnail);
+        }
+        eventPublisher.publishEvent(new PlanChangedEvent(savedPlan.getPlanId(), PlanChangedEvent.ChangeType.CREATED));
+        return savedPlan;
     }
 
     @Override
@@ -86,28 +127,15 @@ public class PlanServiceImpl implements PlanService {
     @Transactional
     public Plan updatePlan(Long planId, PlanRequestDto dto, MultipartFile newPlanThumbnail) {
         Plan plan = planRepository.findByPlanId(planId).orElseThrow(() -> new RuntimeException("여행 플랜을 찾을 수 없습니다."));
-
-        // 새 썸네일이 존재할 경우, 존재하는 썸네일 이미지 S3에서 삭제
-        String existingImageUrl = plan.getPlanThumbnailUrl();
-        if (newPlanThumbnail != null && !newPlanThumbnail.isEmpty() &&
-            existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            String existingFileName = existingImageUrl.substring(existingImageUrl.lastIndexOf("/") + 1);
-            try {
-                s3Service.deleteFile(existingFileName);
-            } catch (IOException e) {
-                throw new RuntimeException("존재하는 썸네일 이미지 삭제를 실패했습니다.", e);
-            }
+        // 수정 화면을 연 이후 다른 사용자가 플랜을 수정했다면 덮어쓰지 않고 거절 (썸네일 업로드 전에 확인)
+        if (dto.getVersion() != null && !dto.getVersion().equals(plan.getVersion())) {
+            throw new EditConflictException("다른 사용자가 먼저 수정한 플랜입니다. 최신 내용을 확인 후 다시 시도해주세요.");
         }
 
-        // 썸네일 업데이트 (S3 & DB)
-        String imageUrl = null;
-        if (newPlanThumbnail != null && !newPlanThumbnail.isEmpty()) {
-            try {
-                imageUrl = s3Service.uploadFile(newPlanThumbnail);
-                plan.setPlanThumbnailUrl(imageUrl);
-            } catch (IOException e) {
-                throw new RuntimeException("썸네일 업데이트에 실패했습니다.", e);
-            }
+        // 새 썸네일은 커밋 후 변환되어 반영되고, 기존 이미지는 반영이 끝난 뒤 삭제
+        byte[] thumbnail = readThumbnail(newPlanThumbnail);
+        if (thumbnail != null) {
+            requestThumbnailRenditions(plan, thumbnail);
         }
 
         // 수정을 위해 toBuilder 사용
@@ -122,6 +150,7 @@ public class PlanServiceImpl implements PlanService {
             .build();
 
         Plan updatedPlan = planRepository.save(plan);
+        eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.UPDATED));
         alarmService.createAlarm(
             new AlarmRequestDto(plan.getPlanUser().getUserId(), "[" + plan.getTitle() + "] 플랜이 수정되었습니다.")
         );
@@ -132,10 +161,13 @@ public class PlanServiceImpl implements PlanService {
     @Override
     @Transactional
     public void removePlan(Plan plan) {
+        // 썸네일은 플랜 삭제와 같은 트랜잭션에 삭제 예약
+        objectDeletionQueue.enqueueUrls(thumbnailUrlsOf(plan));
         commentService.removeAllByPlan(plan);
         bookmarkService.removeAllByPlan(plan);
         likeService.removeAllByPlan(plan);
         planRepository.deleteByPlanId(plan.getPlanId());
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.DELETED));
     }
 
     // 회원 탈퇴 시 사용자가 생성한 모든 플랜 삭제
@@ -149,46 +181,44 @@ public class PlanServiceImpl implements PlanService {
     @Override
     @Transactional
     public void removeJustPlan(Plan plan) {
-        // 해당 플랜에 썸네일이 존재할 경우 S3에서도 제거
-        String existingImageUrl = plan.getPlanThumbnailUrl();
-        if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            String existingFileName = existingImageUrl.substring(existingImageUrl.lastIndexOf("/") + 1);
-            try {
-                s3Service.deleteFile(existingFileName);
-            } catch (IOException e) {
-                throw new RuntimeException("존재하는 썸네일 이미지 삭제를 실패했습니다.", e);
-            }
-        }
+        // 해당 플랜에 썸네일이 존재할 경우 저장소에서도 제거 (크기별 사본 포함, 커밋 후 일괄 삭제)
+        objectDeletionQueue.enqueueUrls(thumbnailUrlsOf(plan));
 
         planRepository.deleteByPlanId(plan.getPlanId());
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.DELETED));
     }
 
+    // 전체 공개 플랜 최신순 페이징 조회
     @Override
-    @Transactional
-    public List<PlanListResponseDto> getPublicPlans() {
-        List<Plan> plans = planRepository.findAllByIsPublicTrue();
-        return convertToPlanListResponseDto(plans);
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getPublicPlans(int page, int size) {
+        return getPagedPlans(page, size, planRepository::findPublicPlans);
     }
 
+    // 전체 공개 플랜을 NDJSON(한 줄에 플랜 하나)으로 스트리밍 - 전체 목록을 메모리에 올리지 않음
     @Override
-    @Transactional
-    public PlanResponseDto getPlanDetails(Long planId) {
-        Plan plan = planRepository.findByPlanId(planId).orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
-        PlanResponseDto planResponseDto = PlanResponseDto.fromEntity(plan);
-        List<Comment> comments = commentService.getCommentsByPlan(plan);
-        List<CommentResponseDto> commentList = new ArrayList<>();
-        for (Comment comment : comments) {
-            commentList.add(CommentResponseDto.fromEntity(comment));
+    public void streamPublicPlans(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PlanListResponseDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (PlanStreamRepository.StreamPermit permit = planStreamRepository.acquireStreamPermit();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            int[] written = {0};
+            planStreamRepository.streamPublicPlanCards(plan -> {
+                try {
+                    writer.writeValue(generator, plan);
+                    generator.writeRaw('\n');
+                    if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 - 조회를 중단하도록 예외 전파
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-
-        // 해당 플랜의 조회 수 증가 (인기순 정렬을 위한)
-        planRepository.incrementViewCount(planId);
-
-        return planResponseDto.toBuilder()
-            .commentList(commentList)
-            .bookmarkNumber(bookmarkService.countBookmark(plan))
-            .likeNumber(likeService.countLike(plan))
-            .build();
     }
 
     @Override
@@ -207,21 +237,12 @@ public class PlanServiceImpl implements PlanService {
             .recruitment(false)
             .totalBudget(plan.getTotalBudget())
             .viewCount(0L)
+            .popularityScore(0.0)
+            .likeCount(0L)
+            .bookmarkCount(0L)
+            .spentBudget(0L)
             .planUser(user)
             .build();
-        List<Schedule> newSchedules = new ArrayList<>();
-        for (Schedule schedule : plan.getSchedules()) {
-            newSchedules.add(Schedule.builder()
-                .status(false)
-                .travelDayCount(schedule.getTravelDayCount())
-                .description(schedule.getDescription())
-                .travelTime(schedule.getTravelTime())
-                .plan(newPlan)
-                .location(schedule.getLocation())
-                .build()
-            );
-        }
-        newPlan.setSchedules(newSchedules);
         //planUsers에 플랜 생성자 추가
         PlanUser planUser = PlanUser.builder()
             .status(PlanUser.StatusType.ACCEPTED)
@@ -229,121 +250,178 @@ public class PlanServiceImpl implements PlanService {
             .plan(newPlan)
             .build();
         newPlan.setPlanUsers(Collections.singleton(planUser));
-        return planRepository.save(newPlan);
+        Plan savedPlan = planRepository.save(newPlan);
+
+        // 일정은 엔티티로 불러와 하나씩 저장하지 않고 INSERT ... SELECT 한 번으로 복사
+        scheduleRepository.copySchedules(planId, savedPlan.getPlanId());
+
+        eventPublisher.publishEvent(new PlanChangedEvent(savedPlan.getPlanId(), PlanChangedEvent.ChangeType.CREATED));
+        return savedPlan;
     }
 
+    // 검색 인덱스에서 점수순 planId를 구한 뒤 요청한 페이지의 플랜만 조회
     @Override
-    @Transactional
-    public List<PlanListResponseDto> getSpecificPlans(String keyword) {
-        List<Plan> plans = planRepository.findAllByIsPublicTrueAndTitleContains(keyword);
-        List<PlanListResponseDto> planList = new ArrayList<>();
-        for (Plan plan : plans) {
-            planList.add(PlanListResponseDto.builder()
-                .planId(plan.getPlanId())
-                .title(plan.getTitle())
-                .location(plan.getLocation())
-                .description(plan.getDescription())
-                .startDate(plan.getStartDate())
-                .endDate(plan.getEndDate())
-                .planUserNickname(plan.getPlanUser().getNickname())
-                .planThumbnailUrl(plan.getPlanThumbnailUrl())
-                .bookmarkNumber(bookmarkService.countBookmark(plan))
-                .likeNumber(likeService.countLike(plan))
-                .build());
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getSpecificPlans(String keyword, int page, int size) {
+        return pageOfRankedPlans(planSearchIndex.search(keyword), page, size);
+    }
+
+    // 주변 플랜 조회 - 반경 안의 장소를 일정에 포함한 공개 플랜을 가장 가까운 일정 장소까지의 거리 순으로
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getNearbyPlans(double latitude, double longitude, double radiusMeters, int page, int size) {
+        checkPageRequest(page, size);
+        // 가까운 순으로 정렬되어 있으므로 앞에서부터 최대 후보 수만 사용
+        Map<Long, Double> locationDistances = new LinkedHashMap<>();
+        locationGridIndex.withinRadius(latitude, longitude, Math.min(radiusMeters, MAX_NEARBY_RADIUS_METERS)).stream()
+            .limit(MAX_CANDIDATE_LOCATIONS)
+            .forEach(neighbor -> locationDistances.put(neighbor.locationId(), neighbor.distanceMeters()));
+        if (locationDistances.isEmpty()) {
+            return pageOfRankedPlans(Collections.emptyList(), page, size);
+        }
+
+        Map<Long, Double> planDistances = new HashMap<>();
+        for (PlanLocationProjection planLocation : findPublicPlanLocations(new ArrayList<>(locationDistances.keySet()))) {
+            planDistances.merge(planLocation.getPlanId(), locationDistances.get(planLocation.getLocationId()), Math::min);
+        }
+        List<Long> rankedPlanIds = planDistances.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+        return pageOfRankedPlans(rankedPlanIds, page, size);
+    }
+
+    // 영역 플랜 조회 - 지도 영역 안의 장소를 일정에 포함한 공개 플랜을 최신순으로
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getPlansInArea(double minLatitude, double minLongitude,
+                                                                double maxLatitude, double maxLongitude, int page, int size) {
+        checkPageRequest(page, size);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new RuntimeException("조회 영역이 올바르지 않습니다.");
+        }
+        if (maxLatitude - minLatitude > MAX_AREA_DEGREES || maxLongitude - minLongitude > MAX_AREA_DEGREES) {
+            throw new RuntimeException("조회 영역이 너무 넓습니다.");
+        }
+
+        // 최신순 결과이므로 후보가 많으면 최근에 등록된 장소부터 사용
+        List<Long> locationIds = locationGridIndex.withinBox(minLatitude, minLongitude, maxLatitude, maxLongitude).stream()
+            .sorted(Comparator.reverseOrder())
+            .limit(MAX_CANDIDATE_LOCATIONS)
+            .collect(Collectors.toList());
+        if (locationIds.isEmpty()) {
+            return pageOfRankedPlans(Collections.emptyList(), page, size);
+        }
+        List<Long> rankedPlanIds = findPublicPlanLocations(locationIds).stream()
+            .map(PlanLocationProjection::getPlanId)
+            .distinct()
+            .sorted(Comparator.reverseOrder())
+            .collect(Collectors.toList());
+        return pageOfRankedPlans(rankedPlanIds, page, size);
+    }
+
+    // 장소 id를 일정 크기로 나눠 조회 (IN 목록이 너무 길어지지 않도록)
+    private List<PlanLocationProjection> findPublicPlanLocations(List<Long> locationIds) {
+        List<PlanLocationProjection> planLocations = new ArrayList<>();
+        for (int from = 0; from < locationIds.size(); from += LOCATION_ID_CHUNK_SIZE) {
+            List<Long> chunk = locationIds.subList(from, Math.min(from + LOCATION_ID_CHUNK_SIZE, locationIds.size()));
+            planLocations.addAll(scheduleRepository.findPublicPlanLocationsByLocationIds(chunk));
         }
-        return planList;
+        return planLocations;
+    }
+
+    private static void checkPageRequest(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RuntimeException("페이지는 0 이상, 페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+    }
+
+    // 순위가 정해진 플랜 id 목록에서 요청 페이지만 조회해 DTO로 변환
+    private PagedResponseDto<PlanListResponseDto> pageOfRankedPlans(List<Long> rankedPlanIds, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), rankedPlanIds.size());
+        int to = Math.min(from + size, rankedPlanIds.size());
+        List<Long> pagePlanIds = rankedPlanIds.subList(from, to);
+        if (pagePlanIds.isEmpty()) {
+            return new PagedResponseDto<>(new PageImpl<>(Collections.emptyList(), pageable, rankedPlanIds.size()));
+        }
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 원래 순위대로 다시 정렬
+        Map<Long, Plan> plansById = planRepository.findAllByPlanIdIn(pagePlanIds).stream()
+            .collect(Collectors.toMap(Plan::getPlanId, Function.identity()));
+        List<Plan> plans = pagePlanIds.stream()
+            .map(plansById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        return new PagedResponseDto<>(new PageImpl<>(convertToPlanListResponseDto(plans), pageable, rankedPlanIds.size()));
     }
 
     @Override
     @Transactional
     public PlanResponseDto getPlanForModify(Long planId) {
         Plan plan = planRepository.findByPlanId(planId).orElseThrow(() -> new RuntimeException("여행 플랜을 찾을 수 없습니다."));
-        PlanResponseDto planResponseDto = PlanResponseDto.fromEntity(plan);
-        return planResponseDto.toBuilder()
-            .bookmarkNumber(bookmarkService.countBookmark(plan))
-            .likeNumber(likeService.countLike(plan))
-            .build();
+        return PlanResponseDto.fromEntity(plan);
     }
 
     // 특정 사용자가 최근 북마크한 플랜 4개 조회 후 Dto로 반환
     @Override
     @Transactional(readOnly = true)
     public List<PlanListResponseDto> getRecentBookmarkedPlans(User user) {
-        List<PlanListResponseDto> dtos = bookmarkService.getRecentBookmarkedPlansByUser(user.getUserId());
-        return setBookmarkAndLikeCounts(dtos);
+        return bookmarkService.getRecentBookmarkedPlansByUser(user.getUserId());
     }
 
     // 특정 사용자가 북마크한 플랜 조회 후 Dto로 반환
     @Override
     @Transactional(readOnly = true)
     public List<PlanListResponseDto> getAllBookmarkedPlans(User user) {
-        List<PlanListResponseDto> dtos = bookmarkService.getAllBookmarkedPlansByUser(user.getUserId());
-        return setBookmarkAndLikeCounts(dtos);
+        return bookmarkService.getAllBookmarkedPlansByUser(user.getUserId());
     }
 
     // 특정 사용자가 최근 좋아요한 플랜 4개 조회 후 Dto로 반환
     @Override
     @Transactional(readOnly = true)
     public List<PlanListResponseDto> getRecentLikedPlans(User user) {
-        List<PlanListResponseDto> dtos = likeService.getRecentLikedPlansByUser(user.getUserId());
-        return setBookmarkAndLikeCounts(dtos);
+        return likeService.getRecentLikedPlansByUser(user.getUserId());
     }
 
     // 특정 사용자가 좋아요한 플랜 조회 후 Dto로 반환
     @Override
     @Transactional(readOnly = true)
     public List<PlanListResponseDto> getAllLikedPlans(User user) {
-        List<PlanListResponseDto> dtos = likeService.getAllLikedPlansByUser(user.getUserId());
-        return setBookmarkAndLikeCounts(dtos);
-    }
-
-    // 공통 메서드: PlanListResponseDto 리스트에 북마크와 좋아요 수를 설정하는 메서드
-    @Override
-    public List<PlanListResponseDto> setBookmarkAndLikeCounts(List<PlanListResponseDto> dtos) {
-        List<Long> planIds = dtos.stream().map(PlanListResponseDto::getPlanId).collect(Collectors.toList());
-        Map<Long, PlanCountProjection> countMap = getBookmarkAndLikeCounts(planIds);
-
-        dtos.forEach(dto -> {
-            PlanCountProjection counts = countMap.get(dto.getPlanId());
-            if (counts != null) {
-                dto.setBookmarkNumber(counts.getBookmarkCount());
-                dto.setLikeNumber(counts.getLikeCount());
-            }
-        });
-
-        return dtos;
+        return likeService.getAllLikedPlansByUser(user.getUserId());
     }
 
     @Override
     public List<PlanListResponseDto> convertToPlanListResponseDto(List<Plan> plans) {
-        List<Long> planIds = plans.stream().map(Plan::getPlanId).collect(Collectors.toList());
-        Map<Long, PlanCountProjection> countMap = getBookmarkAndLikeCounts(planIds);
-
-        return plans.stream().map(plan -> {
-            PlanCountProjection counts = countMap.get(plan.getPlanId());
-            return PlanListResponseDto.builder()
+        Map<Long, Long> planUserCounts = countAcceptedPlanUsers(plans);
+        return plans.stream().map(plan -> PlanListResponseDto.builder()
                 .planId(plan.getPlanId())
                 .title(plan.getTitle())
                 .location(plan.getLocation())
                 .description(plan.getDescription())
                 .startDate(plan.getStartDate())
                 .endDate(plan.getEndDate())
-                .bookmarkNumber(counts != null ? counts.getBookmarkCount() : 0)
-                .likeNumber(counts != null ? counts.getLikeCount() : 0)
+                .bookmarkNumber(plan.getBookmarkCount())
+                .likeNumber(plan.getLikeCount())
+                .totalBudget(plan.getTotalBudget())
+                .spentBudget(plan.getSpentBudget())
                 .participantsCount(plan.getParticipantsCount())
-                .planUserCount(plan.getPlanUsers().stream().filter(planUser -> planUser.getStatus() == PlanUser.StatusType.ACCEPTED).count())
+                .planUserCount(planUserCounts.getOrDefault(plan.getPlanId(), 0L))
                 .planUserNickname(plan.getPlanUser().getNickname())
-                .planThumbnailUrl(plan.getPlanThumbnailUrl())
-                .build();
-        }).collect(Collectors.toList());
+                .planThumbnailUrl(plan.getPlanCardImageUrl() != null ? plan.getPlanCardImageUrl() : plan.getPlanThumbnailUrl())
+                .build())
+            .collect(Collectors.toList());
     }
 
-    // 공통 메서드: planId 리스트의 북마크 수와 좋아요 수를 카운팅하는 메서드
-    @Override
-    public Map<Long, PlanCountProjection> getBookmarkAndLikeCounts(List<Long> planIds) {
-        List<PlanCountProjection> counts = planRepository.countBookmarksAndLikesByPlanIds(planIds);
-        return counts.stream()
-            .collect(Collectors.toMap(PlanCountProjection::getPlanId, Function.identity()));
+    // 플랜별 수락된 참여자 수 (planId -> 인원)
+    private Map<Long, Long> countAcceptedPlanUsers(List<Plan> plans) {
+        if (plans.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> planIds = plans.stream().map(Plan::getPlanId).collect(Collectors.toList());
+        return planRepository.countPlanUsersByPlanIds(planIds, PlanUser.StatusType.ACCEPTED).stream()
+            .collect(Collectors.toMap(PlanUserCountProjection::getPlanId, PlanUserCountProjection::getPlanUserCount));
     }
 
     // 모집 중이지 않은 플랜 중 인기순으로 페이징 조회
@@ -409,12 +487,63 @@ public class PlanServiceImpl implements PlanService {
         return getPagedPlans(page, size, pageable -> planRepository.findRecentPlansWithAllLocationAndStartDate(frontLocation, location, recruitment, startDate, pageable));
     }
 
-    // 페이징 플랜 공통 메서드
-    private PagedResponseDto<PlanListResponseDto> getPagedPlans(int page, int size, Function<Pageable, Page<Plan>> queryFunction) {
+    // 커서 기반 최신순 조회 (마지막으로 받은 planId 이후부터)
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getRecentPlansByRecruitmentWithCursor(Long lastPlanId, int size, Boolean recruitment) {
+        return getCursorPlans(lastPlanId, size, (cursor, pageable) -> planRepository.findRecentPlansByRecruitmentWithCursor(recruitment, cursor, pageable));
+    }
+
+    // 커서 기반 행정구역과 최신순 조회
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getRecentPlansWithFrontLocationWithCursor(Long lastPlanId, int size, String frontLocation, Boolean recruitment) {
+        return getCursorPlans(lastPlanId, size, (cursor, pageable) -> planRepository.findRecentPlansWithFrontLocationWithCursor(frontLocation, recruitment, cursor, pageable));
+    }
+
+    // 커서 기반 행정구역+도시와 최신순 조회
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getRecentPlansWithAllLocationWithCursor(Long lastPlanId, int size, String frontLocation, String location, Boolean recruitment) {
+        return getCursorPlans(lastPlanId, size, (cursor, pageable) -> planRepository.findRecentPlansWithAllLocationWithCursor(frontLocation, location, recruitment, cursor, pageable));
+    }
+
+    // 커서 기반 여행 시작 날짜와 최신순 조회
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getRecentPlansRecruitmentByStartDateWithCursor(Long lastPlanId, int size, Boolean recruitment, LocalDate startDate) {
+        return getCursorPlans(lastPlanId, size, (cursor, pageable) -> planRepository.findRecentPlansRecruitmentByStartDateWithCursor(recruitment, startDate, cursor, pageable));
+    }
+
+    // 커서 기반 행정구역, 여행 시작 날짜와 최신순 조회
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getRecentPlansWithFrontLocationAndStartDateWithCursor(Long lastPlanId, int size, String frontLocation, Boolean recruitment, LocalDate startDate) {
+        return getCursorPlans(lastPlanId, size, (cursor, pageable) -> planRepository.findRecentPlansWithFrontLocationAndStartDateWithCursor(frontLocation, recruitment, startDate, cursor, pageable));
+    }
+
+    // 커서 기반 행정구역+도시, 여행 시작 날짜와 최신순 조회
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDto<PlanListResponseDto> getRecentPlansWithAllLocationAndStartDateWithCursor(Long lastPlanId, int size, String frontLocation, String location, Boolean recruitment, LocalDate startDate) {
+        return getCursorPlans(lastPlanId, size, (cursor, pageable) -> planRepository.findRecentPlansWithAllLocationAndStartDateWithCursor(frontLocation, location, recruitment, startDate, cursor, pageable));
+    }
+
+    // 커서 페이징 플랜 공통 메서드 - 첫 요청(lastPlanId 없음)은 가장 최신 플랜부터
+    private PagedResponseDto<PlanListResponseDto> getCursorPlans(Long lastPlanId, int size, BiFunction<Long, Pageable, Slice<Plan>> queryFunction) {
+        Long cursor = lastPlanId != null ? lastPlanId : Long.MAX_VALUE;
+        Slice<Plan> plans = queryFunction.apply(cursor, PageRequest.of(0, size));
+        List<PlanListResponseDto> planListDtos = convertToPlanListResponseDto(plans.getContent());
+        Long nextCursor = plans.hasNext() ? planListDtos.get(planListDtos.size() - 1).getPlanId() : null;
+        return new PagedResponseDto<>(new SliceImpl<>(planListDtos, plans.getPageable(), plans.hasNext()), nextCursor);
+    }
+
+    // 페이징 플랜 공통 메서드 (전체 개수 없이 다음 페이지 여부만 반환)
+    private PagedResponseDto<PlanListResponseDto> getPagedPlans(int page, int size, Function<Pageable, Slice<Plan>> queryFunction) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Plan> plans = queryFunction.apply(pageable);
+        Slice<Plan> plans = queryFunction.apply(pageable);
         List<PlanListResponseDto> planListDtos = convertToPlanListResponseDto(plans.getContent());
-        return new PagedResponseDto<>(new PageImpl<>(planListDtos));
+        return new PagedResponseDto<>(new SliceImpl<>(planListDtos, plans.getPageable(), plans.hasNext()));
     }
 
     // 사용자가 생성한 플랜 조회
@@ -424,30 +553,64 @@ public class PlanServiceImpl implements PlanService {
         return planRepository.findByPlanUser(user);
     }
 
-    // 프로필 썸네일 등록
+    // 프로필 썸네일 등록 - 접수만 하고 변환/반영은 커밋 후 비동기로 처리 (반영 시 UPDATED 이벤트 발행)
+    @Override
+    @Transactional
     public void updateThumbnailImage(Long planId, MultipartFile file) {
         Plan plan = planRepository.findByPlanId(planId).orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+        byte[] thumbnail = readThumbnail(file);
+        if (thumbnail == null) {
+            throw new RuntimeException("업로드할 썸네일 이미지가 없습니다.");
+        }
+        requestThumbnailRenditions(plan, thumbnail);
+    }
 
-        String existingImageUrl = plan.getPlanThumbnailUrl();
+    // 저장소에 직접 올린 원본(uploads/...)으로 썸네일 등록 - 원본은 변환 후 삭제
+    @Override
+    @Transactional
+    public void updateThumbnailImageFromUpload(Long planId, String uploadKey) {
+        Plan plan = planRepository.findByPlanId(planId).orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+        List<String> replacedUrls = thumbnailUrlsOf(plan);
+        imagePipeline.submitStagedAfterCommit(uploadKey, EnumSet.allOf(ImageRendition.class), replacedUrls,
+            issueThumbnailToken(plan));
+    }
 
-        if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            String existingFileName = existingImageUrl.substring(existingImageUrl.lastIndexOf("/") + 1);
-            try {
-                s3Service.deleteFile(existingFileName);
-            } catch (IOException e) {
-                throw new RuntimeException("존재하는 플랜 썸네일 삭제를 실패했습니다.", e);
-            }
+    private byte[] readThumbnail(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
         }
+        return imagePipeline.readUpload(file);
+    }
 
-        String imageUrl = null;
-        try {
-            imageUrl = s3Service.uploadFile(file);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    private void requestThumbnailRenditions(Plan plan, byte[] thumbnail) {
+        List<String> replacedUrls = thumbnailUrlsOf(plan);
+        imagePipeline.submitAfterCommit(thumbnail, EnumSet.allOf(ImageRendition.class), replacedUrls,
+            issueThumbnailToken(plan));
+    }
 
-        plan.setPlanThumbnailUrl(imageUrl);
-        planRepository.save(plan);
+    // 업로드 토큰을 새로 발급하고, 변환이 끝났을 때 URL을 반영할 핸들러 반환
+    // 변환 중 다시 업로드하면 토큰이 바뀌므로 이전 작업의 결과는 반영되지 않고 버려짐
+    // 토큰은 벌크 UPDATE로 발급해 썸네일만 바꿀 때 플랜 버전(수정 충돌 확인, 내보내기 ETag)이 바뀌지 않도록 함
+    private ImageAttachHandler issueThumbnailToken(Plan plan) {
+        Long planId = plan.getPlanId();
+        String token = UUID.randomUUID().toString();
+        planRepository.issueImageUploadToken(planId, token);
+
+        return urls -> {
+            int updated = planRepository.attachThumbnailImages(planId, token, urls.get(ImageRendition.FULL),
+                urls.get(ImageRendition.CARD), urls.get(ImageRendition.THUMBNAIL));
+            if (updated == 0) {
+                return false;
+            }
+            eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.UPDATED));
+            return true;
+        };
+    }
+
+    private List<String> thumbnailUrlsOf(Plan plan) {
+        return Stream.of(plan.getPlanThumbnailUrl(), plan.getPlanCardImageUrl(), plan.getPlanSmallImageUrl())
+            .filter(url -> url != null && !url.isEmpty())
+            .toList();
     }
 
     @Override
@@ -458,30 +621,14 @@ public class PlanServiceImpl implements PlanService {
     @Override
     public void savePlan(Plan plan) {
         planRepository.save(plan);
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.UPDATED));
     }
 
     //플랜 모집
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PlanListResponseDto> getRecruitmentPlans() {
         List<Plan> plans = planRepository.findAllByRecruitmentTrue();
-        List<PlanListResponseDto> planList = new ArrayList<>();
-        for (Plan plan : plans) {
-            planList.add(PlanListResponseDto.builder()
-                .planId(plan.getPlanId())
-                .title(plan.getTitle())
-                .location(plan.getLocation())
-                .description(plan.getDescription())
-                .startDate(plan.getStartDate())
-                .endDate(plan.getEndDate())
-                .participantsCount(plan.getParticipantsCount())
-                .planUserCount(plan.getPlanUsers().stream().filter(planUser -> planUser.getStatus() == PlanUser.StatusType.ACCEPTED).count())
-                .planUserNickname(plan.getPlanUser().getNickname())
-                .planThumbnailUrl(plan.getPlanThumbnailUrl())
-                .bookmarkNumber(bookmarkService.countBookmark(plan))
-                .likeNumber(likeService.countLike(plan))
-                .build());
-        }
-        return planList;
+        return convertToPlanListResponseDto(plans);
     }
 }
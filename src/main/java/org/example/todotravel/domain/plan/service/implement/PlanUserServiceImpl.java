@@ -7,6 +7,7 @@ import org.example.todotravel.domain.plan.dto.response.PendingPlanUserDto;
 import org.example.todotravel.domain.plan.dto.response.PlanListResponseDto;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
 import org.example.todotravel.domain.plan.repository.PlanUserRepository;
 import org.example.todotravel.domain.plan.service.PlanService;
 import org.example.todotravel.domain.plan.service.PlanUserService;
@@ -14,6 +15,7 @@ import org.example.todotravel.domain.user.dto.response.UserProfileResponseDto;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.service.UserService;
 import org.example.todotravel.global.security.CustomUserDetails;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -34,6 +36,7 @@ public class PlanUserServiceImpl implements PlanUserService {
     private final PlanService planService;
     private final UserService userService;
     private final AlarmService alarmService; //알림 자동 생성
+    private final ApplicationEventPublisher eventPublisher;
 
     //플랜 초대, 플랜 모집 참가
     @Override
@@ -48,6 +51,7 @@ public class PlanUserServiceImpl implements PlanUserService {
             .build();
 
         PlanUser newPlanUser = planUserRepository.save(planUser);
+        eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.PLAN_USER));
 
         if (!plan.getRecruitment()) {
             AlarmRequestDto requestDto = new AlarmRequestDto(plan.getPlanUser().getUserId(),
@@ -68,6 +72,7 @@ public class PlanUserServiceImpl implements PlanUserService {
     public PlanUser rejected(Long planParticipantId) {
         PlanUser planUser = planUserRepository.findById(planParticipantId).orElseThrow(() -> new RuntimeException("플랜 참여 상태를 찾을 수 없습니다."));
         planUser.setStatus(PlanUser.StatusType.REJECTED);
+        eventPublisher.publishEvent(new PlanChangedEvent(planUser.getPlan().getPlanId(), PlanChangedEvent.ChangeType.PLAN_USER));
         return planUserRepository.save(planUser);
     }
 
@@ -77,6 +82,7 @@ public class PlanUserServiceImpl implements PlanUserService {
     public PlanUser accepted(Long planParticipantId) {
         PlanUser planUser = planUserRepository.findById(planParticipantId).orElseThrow(() -> new RuntimeException("플랜 참여 상태를 찾을 수 없습니다."));
         planUser.setStatus(PlanUser.StatusType.ACCEPTED);
+        eventPublisher.publishEvent(new PlanChangedEvent(planUser.getPlan().getPlanId(), PlanChangedEvent.ChangeType.PLAN_USER));
         return planUserRepository.save(planUser);
     }
 
@@ -94,6 +100,7 @@ public class PlanUserServiceImpl implements PlanUserService {
         Plan plan = planService.getPlan(planId);
         User user = userService.getUserByUserId(userId).orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         planUserRepository.deletePlanUserByPlanAndUser(plan, user);
+        eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.PLAN_USER));
     }
 
     // 회원 탈퇴 시 사용자가 생성한 플랜에서 모든 사용자 제거
@@ -101,6 +108,7 @@ public class PlanUserServiceImpl implements PlanUserService {
     @Transactional
     public void removePlanUserFromOwnPlan(Plan plan) {
         planUserRepository.deleteAllByPlan(plan);
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.PLAN_USER));
     }
 
     // 회원 탈퇴 시 참여하고 있던 모든 플랜에서 사용자 제거
@@ -108,6 +116,7 @@ public class PlanUserServiceImpl implements PlanUserService {
     @Transactional
     public void removePlanUserFromPlan(Plan plan, User user) {
         planUserRepository.deleteByPlanIdAndUserId(plan.getPlanId(), user.getUserId());
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.PLAN_USER));
     }
 
     // 사용자 프로필 조회
@@ -153,16 +162,14 @@ public class PlanUserServiceImpl implements PlanUserService {
     @Override
     @Transactional(readOnly = true)
     public List<PlanListResponseDto> getAllPlansByUserAndStatusInPublic(Long userId) {
-        List<PlanListResponseDto> dtos = planUserRepository.findAllPublicPlanDtosByUserId(userId, PlanUser.StatusType.ACCEPTED);
-        return planService.setBookmarkAndLikeCounts(dtos);
+        return planUserRepository.findAllPublicPlanDtosByUserId(userId, PlanUser.StatusType.ACCEPTED);
     }
 
     // 특정 사용자가 참여한 모든 플랜 DTO로 조회
     @Override
     @Transactional(readOnly = true)
     public List<PlanListResponseDto> getAllPlansByUserAndStatus(Long userId) {
-        List<PlanListResponseDto> dtos = planUserRepository.findAllPlanDtosByUserId(userId, PlanUser.StatusType.ACCEPTED);
-        return planService.setBookmarkAndLikeCounts(dtos);
+        return planUserRepository.findAllPlanDtosByUserId(userId, PlanUser.StatusType.ACCEPTED);
     }
 
     // 특정 사용자가 관여한 플랜 중 모집 중인 플랜 4개 DTO로 조회
@@ -0,0 +1,190 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.todotravel.domain.plan.dto.response.DayRouteResponseDto;
+import org.example.todotravel.domain.plan.dto.response.PlanRouteResponseDto;
+import org.example.todotravel.domain.plan.dto.response.RouteOptimizeResponseDto;
+import org.example.todotravel.domain.plan.dto.response.RouteStopResponseDto;
+import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
+import org.example.todotravel.domain.plan.entity.Schedule;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.example.todotravel.domain.plan.route.DistanceMatrix;
+import org.example.todotravel.domain.plan.route.RouteCalculator;
+import org.example.todotravel.domain.plan.service.RouteService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+@Service
+public class RouteServiceImpl implements RouteService {
+    // 일정 표시 순서 - 시간이 정해진 일정이 먼저, 같으면 등록 순
+    private static final Comparator<ScheduleResponseDto> VISIT_ORDER = Comparator
+        .comparing(ScheduleResponseDto::getTravelTime, Comparator.nullsLast(Comparator.<LocalTime>naturalOrder()))
+        .thenComparing(ScheduleResponseDto::getScheduleId);
+
+    private final ScheduleRepository scheduleRepository;
+    private final ForkJoinPool routeForkJoinPool;
+    // planId -> (일차 -> 거리 행렬), 일정이 바뀌면 플랜 단위로 무효화
+    private final Cache<Long, ConcurrentMap<Integer, DistanceMatrix>> matrices;
+
+    public RouteServiceImpl(ScheduleRepository scheduleRepository,
+                            @Qualifier("routeForkJoinPool") ForkJoinPool routeForkJoinPool,
+                            @Value("${plan.route-cache.maximum-size:1000}") long maximumSize,
+                            @Value("${plan.route-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.scheduleRepository = scheduleRepository;
+        this.routeForkJoinPool = routeForkJoinPool;
+        this.matrices = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    // 플랜 전체 경로 - 일차별 계산은 서로 독립적이므로 fork/join으로 병렬 처리
+    @Override
+    public PlanRouteResponseDto getPlanRoute(Long planId) {
+        Map<Integer, List<ScheduleResponseDto>> days = loadDays(planId);
+        List<ForkJoinTask<DayRouteResponseDto>> tasks = days.entrySet().stream()
+            .map(day -> ForkJoinTask.adapt(() -> buildDayRoute(planId, day.getKey(), day.getValue())))
+            .collect(Collectors.toList());
+        List<DayRouteResponseDto> dayRoutes = routeForkJoinPool.submit(() -> ForkJoinTask.invokeAll(tasks)).join().stream()
+            .map(ForkJoinTask::join)
+            .collect(Collectors.toList());
+
+        return PlanRouteResponseDto.builder()
+            .planId(planId)
+            .days(dayRoutes)
+            .totalDistanceMeters(dayRoutes.stream().mapToLong(DayRouteResponseDto::getTotalDistanceMeters).sum())
+            .totalTravelMinutes(dayRoutes.stream().mapToLong(DayRouteResponseDto::getTotalTravelMinutes).sum())
+            .build();
+    }
+
+    // 하루 일정의 방문 순서 추천 - 현재 첫 일정을 출발지로 고정
+    @Override
+    public RouteOptimizeResponseDto optimizeDayRoute(Long planId, Integer travelDayCount) {
+        List<ScheduleResponseDto> stops = loadDays(planId).get(travelDayCount);
+        if (stops == null) {
+            throw new RuntimeException("해당 일차의 일정을 찾을 수 없습니다.");
+        }
+
+        DistanceMatrix matrix = getMatrix(planId, travelDayCount, stops);
+        int[] current = matrixOrder(matrix, stops);
+        int[] optimized = RouteCalculator.optimize(matrix.meters(), current[0]);
+
+        List<ScheduleResponseDto> byMatrixIndex = stops.stream()
+            .sorted(Comparator.comparing(ScheduleResponseDto::getScheduleId))
+            .collect(Collectors.toList());
+        List<ScheduleResponseDto> optimizedStops = new ArrayList<>(optimized.length);
+        for (int index : optimized) {
+            optimizedStops.add(byMatrixIndex.get(index));
+        }
+
+        return RouteOptimizeResponseDto.builder()
+            .travelDayCount(travelDayCount)
+            .originalDistanceMeters(Math.round(RouteCalculator.pathLength(matrix.meters(), current)))
+            .optimizedRoute(toDayRoute(travelDayCount, optimizedStops, matrix))
+            .build();
+    }
+
+    @Override
+    public void evict(Long planId) {
+        matrices.invalidate(planId);
+    }
+
+    // 롤백된 변경으로 캐시를 비우지 않도록 커밋 이후에 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlanChanged(PlanChangedEvent event) {
+        if (event.getChangeType() == PlanChangedEvent.ChangeType.SCHEDULE
+            || event.getChangeType() == PlanChangedEvent.ChangeType.DELETED) {
+            evict(event.getPlanId());
+        }
+    }
+
+    // 일차 순으로 묶고, 각 일차 안에서는 방문 순서로 정렬
+    private Map<Integer, List<ScheduleResponseDto>> loadDays(Long planId) {
+        Map<Integer, List<ScheduleResponseDto>> days = scheduleRepository.findScheduleDtosByPlanId(planId).stream()
+            .collect(Collectors.groupingBy(ScheduleResponseDto::getTravelDayCount, TreeMap::new, Collectors.toList()));
+        days.values().forEach(stops -> stops.sort(VISIT_ORDER));
+        return days;
+    }
+
+    private DayRouteResponseDto buildDayRoute(Long planId, Integer travelDayCount, List<ScheduleResponseDto> stops) {
+        return toDayRoute(travelDayCount, stops, getMatrix(planId, travelDayCount, stops));
+    }
+
+    // 캐시된 행렬의 일정 구성이나 좌표가 현재와 다르면(무효화 전에 채워진 경우, 장소만 교체된 경우 등) 다시 계산
+    private DistanceMatrix getMatrix(Long planId, Integer travelDayCount, List<ScheduleResponseDto> stops) {
+        List<ScheduleResponseDto> byScheduleId = stops.stream()
+            .sorted(Comparator.comparing(ScheduleResponseDto::getScheduleId))
+            .collect(Collectors.toList());
+        List<Long> scheduleIds = byScheduleId.stream().map(ScheduleResponseDto::getScheduleId).collect(Collectors.toList());
+        double[] latitudes = byScheduleId.stream().mapToDouble(ScheduleResponseDto::getLatitude).toArray();
+        double[] longitudes = byScheduleId.stream().mapToDouble(ScheduleResponseDto::getLongitude).toArray();
+
+        ConcurrentMap<Integer, DistanceMatrix> planMatrices = matrices.get(planId, key -> new ConcurrentHashMap<>());
+        DistanceMatrix cached = planMatrices.get(travelDayCount);
+        if (cached != null && cached.matches(scheduleIds, latitudes, longitudes)) {
+            return cached;
+        }
+
+        DistanceMatrix matrix = new DistanceMatrix(List.copyOf(scheduleIds), latitudes, longitudes,
+            RouteCalculator.distanceMatrix(latitudes, longitudes));
+        planMatrices.put(travelDayCount, matrix);
+        return matrix;
+    }
+
+    // 방문 순서의 각 일정을 행렬 인덱스로 변환
+    private static int[] matrixOrder(DistanceMatrix matrix, List<ScheduleResponseDto> stops) {
+        return stops.stream().mapToInt(stop -> matrix.scheduleIds().indexOf(stop.getScheduleId())).toArray();
+    }
+
+    // 각 구간의 교통수단은 도착 일정에 등록된 교통수단 기준
+    private static DayRouteResponseDto toDayRoute(Integer travelDayCount, List<ScheduleResponseDto> stops, DistanceMatrix matrix) {
+        int[] order = matrixOrder(matrix, stops);
+        List<RouteStopResponseDto> routeStops = new ArrayList<>(stops.size());
+        double totalDistance = 0;
+        double totalMinutes = 0;
+        for (int i = 0; i < stops.size(); i++) {
+            ScheduleResponseDto stop = stops.get(i);
+            double distance = i == 0 ? 0 : matrix.meters()[order[i - 1]][order[i]];
+            double minutes = RouteCalculator.travelMinutes(distance,
+                stop.getVehicle() != null ? Schedule.VehicleType.valueOf(stop.getVehicle()) : null);
+            totalDistance += distance;
+            totalMinutes += minutes;
+            routeStops.add(RouteStopResponseDto.builder()
+                .scheduleId(stop.getScheduleId())
+                .locationId(stop.getLocationId())
+                .locationName(stop.getLocationName())
+                .latitude(stop.getLatitude())
+                .longitude(stop.getLongitude())
+                .travelTime(stop.getTravelTime())
+                .vehicle(stop.getVehicle())
+                .distanceMeters(Math.round(distance))
+                .travelMinutes(Math.round(minutes))
+                .build());
+        }
+
+        return DayRouteResponseDto.builder()
+            .travelDayCount(travelDayCount)
+            .stops(routeStops)
+            .totalDistanceMeters(Math.round(totalDistance))
+            .totalTravelMinutes(Math.round(totalMinutes))
+            .build();
+    }
+}
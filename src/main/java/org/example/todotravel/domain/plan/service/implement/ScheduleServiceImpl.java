@@ -1,27 +1,46 @@
 package org.example.todotravel.domain.plan.service.implement;
 
 import lombok.RequiredArgsConstructor;
+import org.example.todotravel.domain.plan.dto.request.ScheduleBatchRequestDto;
 import org.example.todotravel.domain.plan.dto.request.ScheduleCreateRequestDto;
+import org.example.todotravel.domain.plan.dto.request.ScheduleDeleteRequestDto;
+import org.example.todotravel.domain.plan.dto.request.ScheduleReorderRequestDto;
+import org.example.todotravel.domain.plan.dto.request.ScheduleUpdateRequestDto;
 import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
 import org.example.todotravel.domain.plan.entity.Location;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.plan.entity.Schedule;
+import org.example.todotravel.domain.plan.event.PlanChangedEvent;
+import org.example.todotravel.domain.plan.repository.PlanDayBudgetRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
 import org.example.todotravel.domain.plan.repository.ScheduleRepository;
 import org.example.todotravel.domain.plan.service.LocationService;
 import org.example.todotravel.domain.plan.service.PlanService;
 import org.example.todotravel.domain.plan.service.ScheduleService;
+import org.example.todotravel.global.exception.EditConflictException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ScheduleServiceImpl implements ScheduleService {
     private final ScheduleRepository scheduleRepository;
+    private final PlanRepository planRepository;
+    private final PlanDayBudgetRepository planDayBudgetRepository;
     private final LocationService locationService;
     private final PlanService planService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //여행 일정 찾기
     @Override
@@ -54,40 +73,91 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .plan(plan)
                 .location(location)
                 .build();
-        return  scheduleRepository.save(schedule);
+        Schedule newSchedule = scheduleRepository.save(schedule);
+        publishScheduleChanged(newSchedule);
+        return newSchedule;
     }
 
-    //여행 일정 삭제하기
+    //투표 선정 결과 반영하기 - 이전 선정으로 만든 일정이 남아 있으면 장소/일차/시간을 새 선정 결과로 교체하고, 없으면 새로 생성
+    @Override
+    @Transactional
+    public Schedule applyVoteResult(Long planId, Long scheduleId, ScheduleCreateRequestDto dto) {
+        Schedule schedule = findVoteResult(planId, scheduleId);
+        if (schedule == null) {
+            return createSchedule(planId, dto);
+        }
+
+        // 일차가 바뀌면 일정 가격을 이전 일차 지출에서 새 일차 지출로 옮김
+        Integer previousDay = schedule.getTravelDayCount();
+        if (!Objects.equals(previousDay, dto.getTravelDayCount())) {
+            applySpentDelta(planId, previousDay, -priceOf(schedule));
+            applySpentDelta(planId, dto.getTravelDayCount(), priceOf(schedule));
+        }
+        schedule.setLocation(locationService.getByLocationId(dto.getLocationId()));
+        schedule.setTravelDayCount(dto.getTravelDayCount());
+        schedule.setTravelTime(dto.getTravelTime());
+        publishScheduleChanged(schedule);
+        return scheduleRepository.save(schedule);
+    }
+
+    //투표 선정 결과 취소하기 - 선정된 투표가 삭제되면 그 선정으로 만든 일정도 삭제 (사용자가 이미 지운 일정이면 무시)
     @Override
     @Transactional
-    public void removeSchedule(Long scheduleId) {
+    public void removeVoteResult(Long planId, Long scheduleId) {
+        Schedule schedule = findVoteResult(planId, scheduleId);
+        if (schedule == null) {
+            return;
+        }
+        scheduleRepository.delete(schedule);
+        applySpentDelta(planId, schedule.getTravelDayCount(), -priceOf(schedule));
+        publishScheduleChanged(schedule);
+    }
+
+    private Schedule findVoteResult(Long planId, Long scheduleId) {
+        return scheduleId == null ? null : scheduleRepository.findById(scheduleId)
+                .filter(s -> s.getPlan().getPlanId().equals(planId))
+                .orElse(null);
+    }
 
-        scheduleRepository.delete(getByScheduleId(scheduleId));
+    //여행 일정 삭제하기
+    @Override
+    @Transactional
+    public void removeSchedule(Long scheduleId, Long version) {
+        Schedule schedule = getByScheduleId(scheduleId);
+        checkVersion(schedule, version);
+        scheduleRepository.delete(schedule);
+        applySpentDelta(schedule.getPlan().getPlanId(), schedule.getTravelDayCount(), -priceOf(schedule));
+        publishScheduleChanged(schedule);
     }
 
     //여행 일정 등록(수정)하기 - price
     @Override
     @Transactional
-    public Schedule updateDescription(Long scheduleId, String description) {
+    public Schedule updateDescription(Long scheduleId, String description, Long version) {
         Schedule schedule = getByScheduleId(scheduleId);
+        checkVersion(schedule, version);
         schedule.setDescription(description);
+        publishScheduleChanged(schedule);
         return scheduleRepository.save(schedule);
     }
 
     //여행 일정 수정하기 - status
     @Override
     @Transactional
-    public Schedule updateStatus(Long scheduleId) {
+    public Schedule updateStatus(Long scheduleId, Long version) {
         Schedule schedule = getByScheduleId(scheduleId);
+        checkVersion(schedule, version);
         schedule.setStatus(!schedule.getStatus());
+        publishScheduleChanged(schedule);
         return scheduleRepository.save(schedule);
     }
 
     //여행 일정 등록(수정)하기 - vehicle
     @Override
     @Transactional
-    public Schedule updateVehicle(Long scheduleId, Schedule.VehicleType vehicle) {
+    public Schedule updateVehicle(Long scheduleId, Schedule.VehicleType vehicle, Long version) {
         Schedule schedule = getByScheduleId(scheduleId);
+        checkVersion(schedule, version);
         // Enum 값을 검증하는 방법
         Schedule.VehicleType vehicleType;
         try {
@@ -96,15 +166,20 @@ public class ScheduleServiceImpl implements ScheduleService {
             throw new RuntimeException("유효하지 않은 값입니다. : " + vehicle);
         }
         schedule.setVehicle(vehicleType);
+        publishScheduleChanged(schedule);
         return scheduleRepository.save(schedule);
     }
 
     //여행 일정 등록(수정)하기 - price
     @Override
     @Transactional
-    public Schedule updatePrice(Long scheduleId, Long price) {
+    public Schedule updatePrice(Long scheduleId, Long price, Long version) {
         Schedule schedule = getByScheduleId(scheduleId);
+        checkVersion(schedule, version);
+        long previousPrice = priceOf(schedule);
         schedule.setPrice(price);
+        applySpentDelta(schedule.getPlan().getPlanId(), schedule.getTravelDayCount(), priceOf(schedule) - previousPrice);
+        publishScheduleChanged(schedule);
         return scheduleRepository.save(schedule);
     }
 
@@ -124,5 +199,135 @@ public class ScheduleServiceImpl implements ScheduleService {
     @Transactional
     public void removeAllSchedulesByPlan(Plan plan) {
         scheduleRepository.deleteAllByPlan(plan);
+        planDayBudgetRepository.deleteAllByPlanId(plan.getPlanId());
+        planRepository.resetSpentBudget(plan.getPlanId());
+        eventPublisher.publishEvent(new PlanChangedEvent(plan.getPlanId(), PlanChangedEvent.ChangeType.SCHEDULE));
+    }
+
+    // 일정 일괄 편집 - 생성/수정/삭제/순서 변경을 한 트랜잭션에서 적용
+    // 변경 대상 일정과 새 일정의 장소는 각각 한 번의 쿼리로 조회하고, 수정은 flush 시점에 JDBC 배치로 반영
+    @Override
+    @Transactional
+    public List<ScheduleResponseDto> applyScheduleBatch(Long planId, ScheduleBatchRequestDto dto) {
+        Plan plan = planService.getPlan(planId);
+        List<ScheduleCreateRequestDto> creates = emptyIfNull(dto.getCreates());
+        List<ScheduleUpdateRequestDto> updates = emptyIfNull(dto.getUpdates());
+        List<ScheduleReorderRequestDto> reorders = emptyIfNull(dto.getReorders());
+        List<ScheduleDeleteRequestDto> deletes = emptyIfNull(dto.getDeletes());
+        Set<Long> deleteIds = deletes.stream().map(ScheduleDeleteRequestDto::getScheduleId).collect(Collectors.toSet());
+
+        Set<Long> affectedIds = new HashSet<>(deleteIds);
+        updates.forEach(update -> affectedIds.add(update.getScheduleId()));
+        reorders.forEach(reorder -> affectedIds.add(reorder.getScheduleId()));
+
+        Map<Long, Schedule> schedules = new HashMap<>();
+        if (!affectedIds.isEmpty()) {
+            scheduleRepository.findAllByPlanIdAndScheduleIds(planId, affectedIds)
+                .forEach(schedule -> schedules.put(schedule.getScheduleId(), schedule));
+            if (schedules.size() != affectedIds.size()) {
+                throw new RuntimeException("일정을 찾을 수 없습니다.");
+            }
+        }
+
+        // 조회 이후 다른 사용자가 수정한 일정이 있으면 일괄 편집 전체를 거절 (버전을 보낸 항목만 확인)
+        updates.forEach(update -> checkVersion(schedules.get(update.getScheduleId()), update.getVersion()));
+        reorders.forEach(reorder -> checkVersion(schedules.get(reorder.getScheduleId()), reorder.getVersion()));
+        deletes.forEach(delete -> checkVersion(schedules.get(delete.getScheduleId()), delete.getVersion()));
+
+        // 변경 전 일차별 지출을 빼고, 변경 후(삭제되지 않은 일정) 지출을 더해 일차별 증감분 계산
+        Map<Integer, Long> spentDeltas = new HashMap<>();
+        schedules.values().forEach(schedule -> spentDeltas.merge(schedule.getTravelDayCount(), -priceOf(schedule), Long::sum));
+
+        // 삭제될 일정에 대한 수정/순서 변경은 무시
+        for (ScheduleUpdateRequestDto update : updates) {
+            if (deleteIds.contains(update.getScheduleId())) {
+                continue;
+            }
+            Schedule schedule = schedules.get(update.getScheduleId());
+            if (update.getDescription() != null) {
+                schedule.setDescription(update.getDescription());
+            }
+            if (update.getStatus() != null) {
+                schedule.setStatus(update.getStatus());
+            }
+            if (update.getVehicle() != null) {
+                schedule.setVehicle(update.getVehicle());
+            }
+            if (update.getPrice() != null) {
+                schedule.setPrice(update.getPrice());
+            }
+        }
+        for (ScheduleReorderRequestDto reorder : reorders) {
+            if (deleteIds.contains(reorder.getScheduleId())) {
+                continue;
+            }
+            Schedule schedule = schedules.get(reorder.getScheduleId());
+            schedule.setTravelDayCount(reorder.getTravelDayCount());
+            schedule.setTravelTime(reorder.getTravelTime());
+        }
+
+        schedules.values().stream()
+            .filter(schedule -> !deleteIds.contains(schedule.getScheduleId()))
+            .forEach(schedule -> spentDeltas.merge(schedule.getTravelDayCount(), priceOf(schedule), Long::sum));
+        spentDeltas.forEach((travelDayCount, delta) -> applySpentDelta(planId, travelDayCount, delta));
+
+        // 엔티티 단위로 삭제해 버전 조건(WHERE version = ?)이 붙도록 함 - 확인 이후 다른 트랜잭션이 수정했다면 충돌로 거절
+        if (!deleteIds.isEmpty()) {
+            List<Schedule> deleted = deleteIds.stream().map(schedules::get).collect(Collectors.toList());
+            scheduleRepository.deleteAll(deleted);
+        }
+
+        List<Long> changedIds = new ArrayList<>(affectedIds);
+        if (!creates.isEmpty()) {
+            Map<Long, Location> locations = new HashMap<>();
+            locationService.getAllByLocationIds(creates.stream().map(ScheduleCreateRequestDto::getLocationId).collect(Collectors.toList()))
+                .forEach(location -> locations.put(location.getLocationId(), location));
+            List<Schedule> newSchedules = creates.stream()
+                .map(create -> Schedule.builder()
+                    .status(false)
+                    .travelDayCount(create.getTravelDayCount())
+                    .description(create.getDescription())
+                    .travelTime(create.getTravelTime())
+                    .plan(plan)
+                    .location(locations.get(create.getLocationId()))
+                    .build())
+                .collect(Collectors.toList());
+            scheduleRepository.saveAll(newSchedules);
+            newSchedules.forEach(schedule -> changedIds.add(schedule.getScheduleId()));
+        }
+
+        eventPublisher.publishEvent(new PlanChangedEvent(planId, PlanChangedEvent.ChangeType.SCHEDULE, changedIds));
+        // 조회 전에 변경 사항이 flush되므로 최종 일정 목록을 반환
+        return scheduleRepository.findScheduleDtosByPlanId(planId);
+    }
+
+    // 요청에 버전이 있으면 조회 시점 이후 다른 사용자가 수정했는지 확인 (없으면 기존처럼 확인하지 않음)
+    static void checkVersion(Schedule schedule, Long version) {
+        if (version != null && !version.equals(schedule.getVersion())) {
+            throw new EditConflictException("다른 사용자가 먼저 수정한 일정입니다. 최신 일정을 확인 후 다시 시도해주세요.");
+        }
+    }
+
+    private static <T> List<T> emptyIfNull(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
+
+    // 일정 가격 증감을 일차별 지출과 플랜 전체 지출에 반영 (합계를 다시 계산하지 않음)
+    private void applySpentDelta(Long planId, Integer travelDayCount, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        planDayBudgetRepository.addSpent(planId, travelDayCount, delta);
+        planRepository.addSpentBudget(planId, delta);
+    }
+
+    private static long priceOf(Schedule schedule) {
+        return schedule.getPrice() != null ? schedule.getPrice() : 0L;
+    }
+
+    // 일정 변경은 커밋 이후 해당 플랜의 상세 조회 캐시를 무효화
+    private void publishScheduleChanged(Schedule schedule) {
+        eventPublisher.publishEvent(new PlanChangedEvent(schedule.getPlan().getPlanId(), PlanChangedEvent.ChangeType.SCHEDULE,
+            List.of(schedule.getScheduleId())));
     }
 }
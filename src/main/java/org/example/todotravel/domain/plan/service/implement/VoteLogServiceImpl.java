@@ -3,56 +3,41 @@ package org.example.todotravel.domain.plan.service.implement;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.example.todotravel.domain.plan.entity.Vote;
-import org.example.todotravel.domain.plan.entity.VoteLog;
+import org.example.todotravel.domain.plan.event.VoteTallyChangedEvent;
 import org.example.todotravel.domain.plan.repository.VoteLogRepository;
 import org.example.todotravel.domain.plan.repository.VoteRepository;
-import org.example.todotravel.domain.plan.service.LocationService;
-import org.example.todotravel.domain.plan.service.PlanService;
 import org.example.todotravel.domain.plan.service.VoteLogService;
 import org.example.todotravel.domain.user.entity.User;
-import org.example.todotravel.domain.user.service.UserService;
-import org.example.todotravel.global.jwt.util.JwtTokenizer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-
 @Service
 @RequiredArgsConstructor
 public class VoteLogServiceImpl implements VoteLogService {
     private final VoteRepository voteRepository;
     private final VoteLogRepository voteLogRepository;
-    private final UserService userService;
-    private final JwtTokenizer jwtTokenizer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 투표하기
+    // 투표하기 (이미 투표했다면 취소) - 투표 후 상태 반환
+    // 투표 기록은 upsert 한 문장으로 전환하고 투표 수는 증감만 반영하므로 동시에 투표해도 수가 정확함
+    // 투표 기록 삽입 시 외래 키 검사가 투표 행에 공유 잠금을 걸기 때문에, 투표 행을 먼저 배타 잠금해야
+    // 두 요청이 공유 잠금을 쥔 채 서로의 배타 잠금을 기다리는 교착이 생기지 않음 (마감 처리와도 이 잠금으로 순서가 정해짐)
     @Override
     @Transactional
-    public void castVote(Long voteId, User user) {
-        Vote vote = voteRepository.findById(voteId)
+    public boolean castVote(Long voteId, User user) {
+        Vote vote = voteRepository.findWithLockByVoteId(voteId)
                 .orElseThrow(() -> new RuntimeException("해당 투표를 찾을 수 없습니다."));
-
-        Optional<VoteLog> voteLogOptional = voteLogRepository.findByVoteAndUser(vote, user);
-
-        if (voteLogOptional.isPresent()) {
-            VoteLog voteLog = voteLogOptional.get();
-            if (voteLog.isVoted()) {
-                vote.setVoteCount(vote.getVoteCount() - 1);
-                voteLog.setVoted(false);
-            } else {
-                vote.setVoteCount(vote.getVoteCount() + 1);
-                voteLog.setVoted(true);
-            }
-            voteLogRepository.save(voteLog);
-        } else {
-            vote.setVoteCount(vote.getVoteCount() + 1);
-            VoteLog voteLog = VoteLog.builder()
-                    .vote(vote)
-                    .user(user)
-                    .isVoted(true)
-                    .build();
-            voteLogRepository.save(voteLog);
+        if (vote.isClosed()) {
+            throw new RuntimeException("마감된 투표입니다.");
         }
 
-        voteRepository.save(vote);
+        voteLogRepository.toggleVote(voteId, user.getUserId());
+        boolean voted = voteLogRepository.findVotedState(voteId, user.getUserId())
+                .orElseThrow(() -> new RuntimeException("투표 기록을 찾을 수 없습니다."));
+        if (voteRepository.addVoteCount(voteId, voted ? 1 : -1) == 0) {
+            throw new RuntimeException("마감된 투표입니다.");
+        }
+        eventPublisher.publishEvent(new VoteTallyChangedEvent(voteId));
+        return voted;
     }
-}
\ No newline at end of file
+}
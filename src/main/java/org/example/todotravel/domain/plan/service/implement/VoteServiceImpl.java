@@ -1,26 +1,41 @@
 package org.example.todotravel.domain.plan.service.implement;
 
 import lombok.RequiredArgsConstructor;
+import org.example.todotravel.domain.notification.dto.request.AlarmRequestDto;
+import org.example.todotravel.domain.notification.service.AlarmService;
+import org.example.todotravel.domain.plan.dto.request.ScheduleCreateRequestDto;
 import org.example.todotravel.domain.plan.dto.request.VoteRequestDto;
-import org.example.todotravel.domain.plan.dto.response.VoteResponseDto;
+import org.example.todotravel.domain.plan.dto.response.VoteListResponseDto;
 import org.example.todotravel.domain.plan.entity.Location;
 import org.example.todotravel.domain.plan.entity.Plan;
 import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.entity.Schedule;
 import org.example.todotravel.domain.plan.entity.Vote;
+import org.example.todotravel.domain.plan.event.VoteDeadlineChangedEvent;
+import org.example.todotravel.domain.plan.event.VoteTallyChangedEvent;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
 import org.example.todotravel.domain.plan.repository.VoteRepository;
 import org.example.todotravel.domain.plan.service.LocationService;
 import org.example.todotravel.domain.plan.service.PlanService;
+import org.example.todotravel.domain.plan.service.ScheduleService;
 import org.example.todotravel.domain.plan.service.VoteService;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.service.UserService;
 import org.example.todotravel.global.jwt.util.JwtTokenizer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +43,10 @@ public class VoteServiceImpl implements VoteService{
     private final VoteRepository voteRepository;
     private final PlanService planService;
     private final LocationService locationService;
+    private final PlanRepository planRepository;
+    private final ScheduleService scheduleService;
+    private final AlarmService alarmService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //투표 생성
     @Override
@@ -41,6 +60,7 @@ public class VoteServiceImpl implements VoteService{
                 .filter(pu -> pu.getUser().equals(user) && pu.getStatus() == PlanUser.StatusType.ACCEPTED)
                 .findFirst()
                 .orElseThrow(() -> new RuntimeException("플랜에 참여하지 않았거나 승인이 되지 않은 사용자입니다."));
+        checkTravelDayCount(plan, dto.getTravelDayCount());
 
         Vote vote = Vote.builder()
                 .plan(plan)
@@ -50,12 +70,17 @@ public class VoteServiceImpl implements VoteService{
                 .startDate(LocalDateTime.now())
                 .endDate(dto.getEndDate())
                 .category(dto.getCategory())
+                .travelDayCount(dto.getTravelDayCount())
+                .travelTime(dto.getTravelTime())
                 .build();
 
-        return voteRepository.save(vote);
+        Vote newVote = voteRepository.save(vote);
+        eventPublisher.publishEvent(new VoteDeadlineChangedEvent(newVote.getVoteId(), newVote.getEndDate()));
+        return newVote;
     }
 
     //투표 수정 (종류일, 카테고리)
+    // 카테고리/일차를 옮기면 이전 그룹에 남은 후보가 모두 마감됐을 수 있으므로 이전 그룹을 다시 확인해 선정
     @Override
     @Transactional
     public Vote updateVote(Long planId, Long voteId, User user, VoteRequestDto dto) {
@@ -64,17 +89,39 @@ public class VoteServiceImpl implements VoteService{
                 .filter(pu -> pu.getUser().equals(user) && pu.getStatus() == PlanUser.StatusType.ACCEPTED)
                 .findFirst()
                 .orElseThrow(() -> new RuntimeException("플랜에 참여하지 않았거나 승인이 되지 않은 사용자입니다."));
+        checkTravelDayCount(plan, dto.getTravelDayCount());
 
-        Vote vote = voteRepository.findById(voteId)
+        // 마감 처리(closeVote)와 같은 순서(플랜 -> 투표)로 잠그고 마감 여부 확인
+        planRepository.findWithLockByPlanId(planId)
+                .orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+        Vote vote = voteRepository.findWithLockByVoteId(voteId)
+                .filter(v -> v.getPlan().getPlanId().equals(planId))
                 .orElseThrow(() -> new RuntimeException("해당하는 투표가 없습니다."));
+        if (vote.isClosed()) {
+            throw new RuntimeException("마감된 투표는 수정할 수 없습니다.");
+        }
 
+        Vote.Category previousCategory = vote.getCategory();
+        Integer previousTravelDayCount = vote.getTravelDayCount();
         vote.setEndDate(dto.getEndDate());
         vote.setCategory(dto.getCategory());
+        vote.setTravelDayCount(dto.getTravelDayCount());
+        vote.setTravelTime(dto.getTravelTime());
+        Vote updatedVote = voteRepository.save(vote);
+        eventPublisher.publishEvent(new VoteDeadlineChangedEvent(voteId, vote.getEndDate()));
 
-        return voteRepository.save(vote);
+        if (previousCategory != vote.getCategory() || !Objects.equals(previousTravelDayCount, vote.getTravelDayCount())) {
+            List<Vote> previousGroup = voteRepository.findVoteGroupForUpdate(planId, previousCategory, previousTravelDayCount);
+            if (!previousGroup.isEmpty() && previousGroup.stream().allMatch(Vote::isClosed)) {
+                settleVoteGroup(plan, previousGroup);
+            }
+        }
+        return updatedVote;
     }
 
     //투표 삭제
+    // 선정된 투표를 지우면 그 선정으로 만든 일정을 지우고, 진행 중인 투표를 지우면 남은 후보가 모두 마감됐을 수 있으므로
+    // 두 경우 모두 남은 후보로 다시 선정 (마감된 비선정 후보는 결과에 영향이 없으므로 그대로 둠)
     @Override
     @Transactional
     public void removeVote(Long planId, Long voteId, User user) {
@@ -83,24 +130,49 @@ public class VoteServiceImpl implements VoteService{
                 .filter(pu -> pu.getUser().equals(user) && pu.getStatus() == PlanUser.StatusType.ACCEPTED)
                 .findFirst()
                 .orElseThrow(() -> new RuntimeException("플랜에 참여하지 않았거나 승인이 되지 않은 사용자입니다."));
-        voteRepository.deleteById(voteId);
+
+        // 마감 처리(closeVote)와 같은 순서(플랜 -> 투표)로 잠가 선정 결과가 엇갈리지 않도록 함
+        planRepository.findWithLockByPlanId(planId)
+                .orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+        Vote vote = voteRepository.findWithLockByVoteId(voteId)
+                .filter(v -> v.getPlan().getPlanId().equals(planId))
+                .orElseThrow(() -> new RuntimeException("해당하는 투표가 없습니다."));
+
+        voteRepository.delete(vote);
+        eventPublisher.publishEvent(new VoteDeadlineChangedEvent(voteId, null));
+
+        if (vote.isWinner() && vote.getScheduleId() != null) {
+            scheduleService.removeVoteResult(planId, vote.getScheduleId());
+        }
+        if (vote.isWinner() || !vote.isClosed()) {
+            List<Vote> group = voteRepository.findVoteGroupForUpdate(planId, vote.getCategory(), vote.getTravelDayCount());
+            if (!group.isEmpty() && group.stream().allMatch(Vote::isClosed)) {
+                settleVoteGroup(plan, group);
+            }
+        }
+    }
+
+    // 일차는 플랜 기간(1일차 ~ 마지막 날) 안에서만 지정 가능 (null이면 일차 없이 투표만 진행)
+    private static void checkTravelDayCount(Plan plan, Integer travelDayCount) {
+        if (travelDayCount == null) {
+            return;
+        }
+        long days = ChronoUnit.DAYS.between(plan.getStartDate(), plan.getEndDate()) + 1;
+        if (travelDayCount < 1 || travelDayCount > days) {
+            throw new RuntimeException("여행 일차는 1일차부터 " + days + "일차까지 지정할 수 있습니다.");
+        }
     }
 
     //투표 전체 보기
     @Override
     @Transactional(readOnly = true)
-    public Page<VoteResponseDto> getAllVoteList(Long planId, Pageable pageable) {
-        Plan plan = planService.getPlan(planId);
-        Page<Vote> votePage = voteRepository.findAllByPlan(plan, pageable);
-
-        return votePage.map(vote -> VoteResponseDto.builder()
-                .voteId(vote.getVoteId())
-                .locationId(vote.getLocation().getLocationId())
-                .voteCount(vote.getVoteCount())
-                .startDate(vote.getStartDate())
-                .endDate(vote.getEndDate())
-                .category(vote.getCategory())
-                .build());
+    public Page<VoteListResponseDto> getAllVoteList(Long planId, User user, Pageable pageable) {
+        Page<VoteListResponseDto> votePage = voteRepository.findVoteDtosByPlanId(planId, user.getUserId(), pageable);
+        // 목록이 비었을 때만 플랜 존재 여부 확인 (없는 플랜이면 기존과 같이 예외)
+        if (votePage.isEmpty() && !planRepository.existsById(planId)) {
+            throw new RuntimeException("여행 플랜을 찾을 수 없습니다.");
+        }
+        return votePage;
     }
     //투표 단일 보기
     @Override
@@ -109,4 +181,85 @@ public class VoteServiceImpl implements VoteService{
         return voteRepository.findById(voteId)
                 .orElseThrow(() -> new RuntimeException("해당 투표가 존재하지 않습니다."));
     }
+
+    //투표 마감하기 (마감 타이머에서 호출) - 아직 마감 시각 전이면 닫지 않고 현재 마감 시각을 반환
+    @Override
+    @Transactional
+    public Optional<LocalDateTime> closeVote(Long voteId) {
+        Optional<Long> planId = voteRepository.findPlanIdByVoteId(voteId);
+        if (planId.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 같은 플랜의 마감 처리는 플랜 행 잠금으로 하나씩 실행 (서버가 여러 대여도 한 번만 마감/선정)
+        Plan plan = planRepository.findWithLockByPlanId(planId.get())
+                .orElseThrow(() -> new RuntimeException("플랜을 찾을 수 없습니다."));
+        Vote vote = voteRepository.findWithLockByVoteId(voteId).orElse(null);
+        if (vote == null || vote.isClosed()) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (vote.getEndDate().isAfter(now)) {
+            // 다른 서버에서 마감 시각이 연장된 경우
+            return Optional.of(vote.getEndDate());
+        }
+
+        // 투표 행을 잠근 상태에서 마감하므로 진행 중이던 투표까지 반영된 수로 고정됨
+        vote.setClosedAt(now);
+        eventPublisher.publishEvent(new VoteTallyChangedEvent(voteId));
+
+        List<Vote> group = voteRepository.findVoteGroupForUpdate(plan.getPlanId(), vote.getCategory(), vote.getTravelDayCount());
+        if (group.stream().allMatch(Vote::isClosed)) {
+            settleVoteGroup(plan, group);
+        }
+        return Optional.empty();
+    }
+
+    // 같은 플랜/카테고리/일차의 후보가 모두 마감되면 가장 많은 표를 받은 투표를 선정 (동점이면 먼저 등록된 투표)
+    // 나중에 후보가 추가되어 다시 마감되면 선정을 새로 하고, 이전 선정으로 만든 일정은 장소만 교체
+    private void settleVoteGroup(Plan plan, List<Vote> group) {
+        Vote previousWinner = group.stream().filter(Vote::isWinner).findFirst().orElse(null);
+        Vote winner = group.stream()
+                .filter(v -> v.getVoteCount() > 0)
+                .max(Comparator.comparingInt(Vote::getVoteCount)
+                        .thenComparing(Vote::getVoteId, Comparator.reverseOrder()))
+                .orElse(null);
+
+        for (Vote candidate : group) {
+            if (candidate.isWinner() != (candidate == winner)) {
+                candidate.setWinner(candidate == winner);
+                eventPublisher.publishEvent(new VoteTallyChangedEvent(candidate.getVoteId()));
+            }
+        }
+
+        if (winner != null && winner.getTravelDayCount() != null) {
+            Long scheduleId = previousWinner != null ? previousWinner.getScheduleId() : null;
+            Schedule schedule = scheduleService.applyVoteResult(plan.getPlanId(), scheduleId, ScheduleCreateRequestDto.builder()
+                    .locationId(winner.getLocation().getLocationId())
+                    .travelDayCount(winner.getTravelDayCount())
+                    .travelTime(winner.getTravelTime())
+                    .build());
+            if (previousWinner != null) {
+                previousWinner.setScheduleId(null);
+            }
+            winner.setScheduleId(schedule.getScheduleId());
+        }
+
+        notifyVoteResult(plan, winner);
+    }
+
+    // 플랜 참여자 모두에게 투표 결과 알림
+    private void notifyVoteResult(Plan plan, Vote winner) {
+        String result = winner == null
+                ? "투표한 참여자가 없어 선정된 장소가 없습니다."
+                : "선정된 장소: " + winner.getLocation().getName() + " (" + winner.getVoteCount() + "표)";
+        String content = "[" + plan.getTitle() + "] 플랜의 투표가 마감되었습니다. " + result;
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        userIds.add(plan.getPlanUser().getUserId());
+        plan.getPlanUsers().stream()
+                .filter(pu -> pu.getStatus() == PlanUser.StatusType.ACCEPTED)
+                .forEach(pu -> userIds.add(pu.getUser().getUserId()));
+        userIds.forEach(userId -> alarmService.createAlarm(new AlarmRequestDto(userId, content)));
+    }
 }
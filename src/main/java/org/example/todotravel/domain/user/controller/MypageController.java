@@ -18,6 +18,10 @@ import org.example.todotravel.global.controller.ApiResponse;
 import org.example.todotravel.global.dto.PagedResponseDto;
 import org.example.todotravel.global.jwt.util.AuthenticationUtil;
 import org.example.todotravel.global.jwt.util.JwtTokenizer;
+import org.example.todotravel.global.storage.UploadKeys;
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.example.todotravel.global.exception.UnsupportedImageException;
+import org.example.todotravel.global.image.ImagePipeline;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -41,6 +45,7 @@ public class MypageController {
     private final FollowService followService;
     private final PlanService planService;
     private final UserService userService;
+    private final ImagePipeline imagePipeline;
 
     // 프론트할 때 컴포넌트를 나누지 못해서 한 번에 처리된다,,
     // 특정 사용자 프로필 보기 (본인, 타인에 대한 처리)
@@ -218,18 +223,35 @@ public class MypageController {
         return new ApiResponse<>(true, "댓글을 단 여행 조회에 성공했습니다.", planList);
     }
 
-    // 프로필 이미지
+    // 프로필 이미지 (file 대신 /api/storage/uploads로 미리 올린 uploadKey 전달 가능)
     @PostMapping("/profile-image/{userId}")
     public ApiResponse<UserProfileImageRequestDTO> uploadProfileImage(@PathVariable("userId") Long userId,
-                                                                      @RequestParam("file") MultipartFile file) {
+                                                                      @RequestParam(value = "file", required = false) MultipartFile file,
+                                                                      @RequestParam(value = "uploadKey", required = false) String uploadKey,
+                                                                      Authentication authentication) {
         try {
-            userService.updateProfileImage(userId, file);
+            if (uploadKey != null) {
+                // 본인 확인 후 본인이 올린 원본만 사용 가능
+                verifyAuthenticatedUser(authentication, userService.getUserById(userId));
+                if (!UploadKeys.isStagingKeyOf(uploadKey, userId)) {
+                    return new ApiResponse<>(false, "업로드한 이미지를 찾을 수 없습니다.");
+                }
+                // 저장소 확인은 트랜잭션 밖에서
+                imagePipeline.checkStagedUpload(uploadKey);
+                userService.updateProfileImageFromUpload(userId, uploadKey);
+            } else {
+                userService.updateProfileImage(userId, file);
+            }
 
             User user = userService.getProfileImageUrl(userId);
             String profileImageUrl = user.getProfileImageUrl();
 
+            // 변환은 비동기로 진행되므로 응답의 URL은 변환이 끝나기 전까지 기존 이미지
             UserProfileImageRequestDTO response = new UserProfileImageRequestDTO(userId, profileImageUrl);
-            return new ApiResponse<>(true, "프로필 이미지가 성공적으로 업로드 되었습니다.", response);
+            return new ApiResponse<>(true, "프로필 이미지 업로드가 접수되었습니다. 변환이 끝나면 반영됩니다.", response);
+        } catch (UnsupportedImageException | ServerBusyException e) {
+            // 변환할 수 없는 이미지는 400, 변환 대기열이 가득 찬 경우는 503으로 응답
+            throw e;
         } catch (Exception e) {
             return new ApiResponse<>(false, "프로필 이미지 업로드 실패했습니다.");
         }
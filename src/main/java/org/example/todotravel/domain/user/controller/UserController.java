@@ -12,7 +12,6 @@ import org.example.todotravel.domain.user.dto.response.OAuth2EmailResponseDto;
 import org.example.todotravel.domain.user.dto.response.UsernameResponseDto;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.service.UserService;
-import org.example.todotravel.global.aws.S3Service;
 import org.example.todotravel.global.controller.ApiResponse;
 import org.example.todotravel.global.jwt.util.JwtTokenizer;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,7 +25,6 @@ public class UserController {
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenizer jwtTokenizer;
-    private final S3Service s3Service;
 
     // 회원가입
     @PostMapping("/signup")
@@ -30,7 +30,8 @@ public class UserListResponseDto {
                 .username(user.getUsername())
                 .name(user.getName())
                 .nickname(user.getNickname())
-                .profileImageUrl(user.getProfileImageUrl())
+                // 목록에서는 작은 이미지 사용 (변환 전 이미지는 원본 그대로)
+                .profileImageUrl(user.getProfileSmallImageUrl() != null ? user.getProfileSmallImageUrl() : user.getProfileImageUrl())
                 .build();
     }
 }
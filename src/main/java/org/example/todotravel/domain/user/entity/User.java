@@ -56,6 +56,14 @@ public class User {
     @Column(name = "profile_image_url")
     private String profileImageUrl;
 
+    // 목록/아바타용 작은 프로필 이미지 (비동기 변환 완료 후 채워짐)
+    @Column(name = "profile_small_image_url")
+    private String profileSmallImageUrl;
+
+    // 진행 중인 프로필 이미지 변환 작업 식별자 - 마지막으로 올린 이미지의 결과만 반영
+    @Column(name = "profile_image_upload_token", length = 36)
+    private String profileImageUploadToken;
+
     // 성별
     @Column(name = "gender")
     @Enumerated(EnumType.STRING)
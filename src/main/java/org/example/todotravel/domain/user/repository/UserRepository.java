@@ -2,6 +2,9 @@ package org.example.todotravel.domain.user.repository;
 
 import org.example.todotravel.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -30,4 +33,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // userId로 사용자 삭제
     void deleteByUserId(Long userId);
+
+    // 프로필 이미지 변환 결과 반영 - 마지막 업로드의 토큰과 일치할 때만 갱신
+    @Modifying
+    @Query("""
+        UPDATE User u SET u.profileImageUrl = :imageUrl, u.profileSmallImageUrl = :smallImageUrl,
+        u.profileImageUploadToken = null
+        WHERE u.userId = :userId AND u.profileImageUploadToken = :token
+        """)
+    int attachProfileImages(@Param("userId") Long userId, @Param("token") String token,
+                            @Param("imageUrl") String imageUrl, @Param("smallImageUrl") String smallImageUrl);
 }
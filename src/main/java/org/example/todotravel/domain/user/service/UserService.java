@@ -69,6 +69,9 @@ public interface UserService {
     // 사용자 이미지 프로필 업로드
     void updateProfileImage(Long userId, MultipartFile file);
 
+    // 저장소에 직접 올린 원본으로 프로필 이미지 설정
+    void updateProfileImageFromUpload(Long userId, String uploadKey);
+
     // 사용자 프로필 이미지 조회
     User getProfileImageUrl(Long userId);
 
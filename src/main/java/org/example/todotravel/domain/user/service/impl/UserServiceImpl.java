@@ -2,8 +2,6 @@ package org.example.todotravel.domain.user.service.impl;
 
 import io.jsonwebtoken.Claims;
 
-import java.io.IOException;
-
 import lombok.RequiredArgsConstructor;
 import org.example.todotravel.domain.user.dto.request.*;
 import org.example.todotravel.domain.user.dto.response.*;
@@ -11,7 +9,10 @@ import org.example.todotravel.domain.user.entity.Role;
 import org.example.todotravel.domain.user.entity.User;
 import org.example.todotravel.domain.user.repository.UserRepository;
 import org.example.todotravel.domain.user.service.UserService;
-import org.example.todotravel.global.aws.S3Service;
+import org.example.todotravel.global.image.ImageAttachHandler;
+import org.example.todotravel.global.image.ImagePipeline;
+import org.example.todotravel.global.image.ImageRendition;
+import org.example.todotravel.global.storage.ObjectDeletionQueue;
 import org.example.todotravel.global.exception.DuplicateUserException;
 import org.example.todotravel.global.exception.SocialUserPasswordResetException;
 import org.example.todotravel.global.exception.UserNotFoundException;
@@ -22,17 +23,24 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
+    private static final Set<ImageRendition> PROFILE_RENDITIONS = EnumSet.of(ImageRendition.CARD, ImageRendition.THUMBNAIL);
+
     private final UserRepository userRepository;
     private final JwtTokenizer jwtTokenizer;
-    private final S3Service s3Service;
+    private final ImagePipeline imagePipeline;
+    private final ObjectDeletionQueue objectDeletionQueue;
 
     @Override
     @Transactional(readOnly = true)
@@ -254,31 +262,38 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByUsername(username).orElseThrow(() -> new UserNotFoundException("존재하지 않는 사용자입니다."));
     }
 
-    // 사용자 프로필 이미지 설정
+    // 사용자 프로필 이미지 설정 - 원본만 접수하고 커밋 후 크기별 변환이 끝나면 URL 반영 (기존 이미지는 반영 후 삭제)
+    // 변환 중 다시 업로드하면 토큰이 바뀌어 이전 작업의 결과는 버려짐
     @Override
+    @Transactional
     public void updateProfileImage(Long userId, MultipartFile file) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("존재하지 않는 사용자입니다."));
+        byte[] original = imagePipeline.readUpload(file);
+        List<String> replacedUrls = profileImageUrlsOf(user);
+        imagePipeline.submitAfterCommit(original, PROFILE_RENDITIONS, replacedUrls, issueProfileImageToken(user));
+    }
 
-        String existingImageUrl = user.getProfileImageUrl();
-
-        if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            String existingFileName = existingImageUrl.substring(existingImageUrl.lastIndexOf("/") + 1);
-            try {
-                s3Service.deleteFile(existingFileName);
-            } catch (IOException e) {
-                throw new RuntimeException("존재하는 프로필 이미지 삭제를 실패했습니다.", e);
-            }
-        }
+    // 저장소에 직접 올린 원본(uploads/...)으로 프로필 이미지 설정 - 원본은 변환 후 삭제
+    @Override
+    @Transactional
+    public void updateProfileImageFromUpload(Long userId, String uploadKey) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("존재하지 않는 사용자입니다."));
+        List<String> replacedUrls = profileImageUrlsOf(user);
+        imagePipeline.submitStagedAfterCommit(uploadKey, PROFILE_RENDITIONS, replacedUrls, issueProfileImageToken(user));
+    }
 
-        String imageUrl = null;
-        try {
-            imageUrl = s3Service.uploadFile(file);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    private ImageAttachHandler issueProfileImageToken(User user) {
+        Long userId = user.getUserId();
+        String token = UUID.randomUUID().toString();
+        user.setProfileImageUploadToken(token);
+        return urls -> userRepository.attachProfileImages(userId, token,
+            urls.get(ImageRendition.CARD), urls.get(ImageRendition.THUMBNAIL)) > 0;
+    }
 
-        user.setProfileImageUrl(imageUrl);
-        userRepository.save(user);
+    private List<String> profileImageUrlsOf(User user) {
+        return Stream.of(user.getProfileImageUrl(), user.getProfileSmallImageUrl())
+            .filter(url -> url != null && !url.isEmpty())
+            .toList();
     }
 
     @Override
@@ -290,18 +305,9 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public void removeUser(User user) {
-        String existingImageUrl = user.getProfileImageUrl();
-
-        if (existingImageUrl != null && !existingImageUrl.isEmpty()) {
-            String existingFileName = existingImageUrl.substring(existingImageUrl.lastIndexOf("/") + 1);
-            try {
-                s3Service.deleteFile(existingFileName);
-            } catch (IOException e) {
-                throw new RuntimeException("존재하는 프로필 이미지 삭제를 실패했습니다.", e);
-            }
-        }
+        // 프로필 이미지는 사용자 삭제와 같은 트랜잭션에 삭제 예약 (실제 삭제는 커밋 후 일괄 처리)
+        objectDeletionQueue.enqueueUrls(profileImageUrlsOf(user));
 
-        // S3에서 프로필 이미지 삭제 후 사용자 삭제
         userRepository.deleteByUserId(user.getUserId());
     }
 }
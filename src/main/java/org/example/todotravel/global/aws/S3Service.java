@@ -1,41 +0,0 @@
-package org.example.todotravel.global.aws;
-
-import com.amazonaws.SdkClientException;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import java.io.IOException;
-import java.util.UUID;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-
-@Slf4j
-@RequiredArgsConstructor
-@Service
-public class S3Service {
-    private final AmazonS3 amazonS3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucketName;
-
-    public String uploadFile(MultipartFile file) throws IOException {
-        String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
-
-        amazonS3.putObject(bucketName, fileName, file.getInputStream(), metadata);
-
-        return amazonS3.getUrl(bucketName, fileName).toString();
-    }
-
-    public void deleteFile(String fileName) throws IOException{
-        try{
-            amazonS3.deleteObject(bucketName, fileName);
-        } catch (SdkClientException e){
-            throw new IOException("이미지 삭제에 실패했습니다.", e);
-        }
-    }
-}
@@ -0,0 +1,62 @@
+package org.example.todotravel.global.config.executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 플랜 상세 조회의 독립적인 하위 조회(플랜, 일정, 댓글)를 동시에 실행하기 위한 가상 스레드 실행기
+    // 대기 시간 대부분이 DB I/O이므로 작업마다 가상 스레드를 새로 만들어도 부담이 적음
+    @Bean(name = "planDetailExecutor", destroyMethod = "close")
+    public ExecutorService planDetailExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // 일정 경로 계산(거리 행렬, 방문 순서 최적화)처럼 CPU만 쓰는 작업을 일차별로 나눠 실행하는 풀
+    // 요청 스레드와 공용 풀(parallel stream 등)에 영향을 주지 않도록 별도로 둠
+    @Bean(name = "routeForkJoinPool", destroyMethod = "shutdown")
+    public ForkJoinPool routeForkJoinPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    // 업로드 이미지 크기별 변환/업로드 실행기
+    // 디코딩한 이미지가 메모리를 많이 쓰므로 스레드와 대기열을 제한하고, 대기열이 차면 거절
+    // (커밋 직후 요청 스레드에서 실행하면 외부 트랜잭션의 커넥션을 잡은 채 변환/업로드하게 되므로 CallerRuns를 쓰지 않음)
+    @Bean(name = "imageExecutor", destroyMethod = "shutdown")
+    public ExecutorService imageExecutor(@Value("${image.executor.threads:2}") int threads,
+                                         @Value("${image.executor.queue-capacity:50}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "image-" + sequence.incrementAndGet()),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 투표 마감 타이머 - 마감 시각 순으로 정렬된 지연 큐(힙)에서 가장 이른 작업만 기다리는 단일 스레드 실행기
+    // 마감 처리는 짧은 DB 트랜잭션이라 스레드 하나로 충분하고, 취소된 타이머는 큐에서 바로 제거
+    @Bean(name = "voteCloseExecutor", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService voteCloseExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> new Thread(runnable, "vote-close"));
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    // 투표 집계 실시간 전송 주기 실행기
+    // @Scheduled 작업은 기본 스케줄러 스레드 하나를 함께 쓰므로, 고아 파일 정리처럼 오래 걸리는 작업 중에도 전송이 밀리지 않도록 분리
+    @Bean(name = "voteTallyExecutor", destroyMethod = "shutdownNow")
+    public ScheduledExecutorService voteTallyExecutor() {
+        return new ScheduledThreadPoolExecutor(1, runnable -> new Thread(runnable, "vote-tally"));
+    }
+}
@@ -1,15 +1,29 @@
 package org.example.todotravel.global.config.jpa;
 
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+
 @Configuration
 public class JpaConfig {
 
+    // 스키마 보정(중복 정리 후 unique 키 추가)이 Hibernate ddl-auto보다 먼저 실행되도록 순서 지정
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigrationDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(VoteLogUniqueKeyMigration.BEAN_NAME);
+    }
+
+    @Bean(name = VoteLogUniqueKeyMigration.BEAN_NAME)
+    public VoteLogUniqueKeyMigration voteLogUniqueKeyMigration(DataSource dataSource) {
+        return new VoteLogUniqueKeyMigration(dataSource);
+    }
+
     @Bean(name = "transactionManager")
     @Primary
     public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
@@ -0,0 +1,71 @@
+package org.example.todotravel.global.config.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+// vote_logs (vote_id, user_id) unique 키를 JPA(ddl-auto) 시작 전에 생성
+// 중복 행이 남은 DB에서는 Hibernate의 ALTER가 실패해도 로그만 남기므로, 중복을 먼저 정리한 뒤 직접 키를 추가
+// (키가 없으면 투표 전환의 ON DUPLICATE KEY UPDATE가 매번 새 행을 넣어 투표가 깨짐)
+@Slf4j
+public class VoteLogUniqueKeyMigration implements InitializingBean {
+    static final String BEAN_NAME = "voteLogUniqueKeyMigration";
+    static final String KEY_NAME = "uk_vote_logs_vote_user";
+    // 다른 서버가 정리와 키 추가 사이에 중복 행을 넣은 경우 다시 시도
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String TABLE_EXISTS_SQL = """
+        SELECT COUNT(*) FROM information_schema.tables
+        WHERE table_schema = DATABASE() AND table_name = 'vote_logs'
+        """;
+    private static final String KEY_EXISTS_SQL = """
+        SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = 'vote_logs' AND index_name = ?
+        """;
+    // unique 키 도입 이전에 생긴 중복 행 중 가장 먼저 생긴 행만 남김 (투표 수는 시작 후 보정 작업에서 다시 계산)
+    private static final String DELETE_DUPLICATES_SQL = """
+        DELETE l1 FROM vote_logs l1
+        JOIN vote_logs l2 ON l1.vote_id = l2.vote_id AND l1.user_id = l2.user_id AND l1.log_id > l2.log_id
+        """;
+    private static final String ADD_KEY_SQL = "ALTER TABLE vote_logs ADD CONSTRAINT " + KEY_NAME + " UNIQUE (vote_id, user_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VoteLogUniqueKeyMigration(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // 새 DB는 Hibernate가 키를 포함해 테이블을 만듦
+        if (count(TABLE_EXISTS_SQL) == 0 || count(KEY_EXISTS_SQL, KEY_NAME) > 0) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            int removed = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+            try {
+                jdbcTemplate.execute(ADD_KEY_SQL);
+                log.info("vote_logs unique 키 추가 완료 (중복 투표 기록 {}건 제거)", removed);
+                return;
+            } catch (DataAccessException e) {
+                if (count(KEY_EXISTS_SQL, KEY_NAME) > 0) {
+                    // 다른 서버가 먼저 추가함
+                    return;
+                }
+                if (attempt >= MAX_ATTEMPTS) {
+                    // 키 없이 시작하면 투표가 깨지므로 시작을 중단
+                    throw e;
+                }
+                log.warn("vote_logs unique 키 추가 실패, 중복 정리 후 다시 시도합니다. ({}회)", attempt, e);
+            }
+        }
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count != null ? count : 0;
+    }
+}
@@ -35,15 +35,21 @@ public class SecurityConfig {
         "/api/chat/rooms/**",
         "/ws/**",
         "/api/plan/{plan_id}",
+        "/api/plan/{plan_id}/comments",
         "/api/plan/public",
+        "/api/plan/public/stream",
         "/api/plan/popular/**",
         "/api/plan/recent/**",
         "/api/plan/search/{keyword}",
+        "/api/plan/nearby",
+        "/api/plan/area",
         "/api/plan/recruitment",
         "/api/plan/{plan_id}/course/{schedule_id}",
         "/api/recruitment/recent/**",
         "/api/auth/logout",
         "/api/token/refresh",
+        "/api/storage/local/**", // 로컬 저장소 presigned 업로드 (URL 서명으로 검증)
+        "/files/**", // 로컬 저장소 파일 제공
     };
 
     // 비로그인 유저 허용 URL
@@ -0,0 +1,110 @@
+package org.example.todotravel.global.config.socket;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.PlanUserRepository;
+import org.example.todotravel.domain.user.entity.Role;
+import org.example.todotravel.global.jwt.token.JwtAuthenticationToken;
+import org.example.todotravel.global.jwt.util.JwtTokenizer;
+import org.example.todotravel.global.security.CustomUserDetails;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 인바운드 메시지 인증/인가 인터셉터
+ * - CONNECT: Authorization 헤더의 액세스 토큰으로 사용자 설정 (토큰이 없으면 비로그인 연결)
+ * - SUBSCRIBE: /sub/plan/{planId}, /sub/plan/{planId}/** 는 공개 플랜이거나 플랜 작성자/참여자만 구독 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private static final Pattern PLAN_TOPIC = Pattern.compile("^/sub/plan/(\\d+)(/.*)?$");
+
+    private final JwtTokenizer jwtTokenizer;
+    private final PlanRepository planRepository;
+    private final PlanUserRepository planUserRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String token = getJwtFromHeader(accessor);
+            if (token != null) {
+                accessor.setUser(authenticate(token));
+            }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkSubscription(accessor.getDestination(), accessor.getUser());
+        }
+        return message;
+    }
+
+    // 플랜 토픽 구독 권한 확인 - 비공개 플랜은 로그인한 작성자/수락된 참여자만
+    void checkSubscription(String destination, Principal user) {
+        if (destination == null) {
+            return;
+        }
+        Matcher matcher = PLAN_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Long planId = Long.valueOf(matcher.group(1));
+        Boolean isPublic = planRepository.findIsPublicByPlanId(planId)
+            .orElseThrow(() -> new AccessDeniedException("플랜을 찾을 수 없습니다."));
+        if (Boolean.TRUE.equals(isPublic)) {
+            return;
+        }
+        if (user == null
+            || !planUserRepository.existsMemberByPlanIdAndUsername(planId, user.getName(), PlanUser.StatusType.ACCEPTED)) {
+            throw new AccessDeniedException("비공개 플랜은 참여자만 구독할 수 있습니다.");
+        }
+    }
+
+    // 토큰 검증 후 HTTP 필터(JwtAuthenticationFilter)와 같은 형태의 인증 객체 생성
+    private JwtAuthenticationToken authenticate(String token) {
+        try {
+            Claims claims = jwtTokenizer.parseAccessToken(token);
+            String email = claims.getSubject();
+            String username = claims.get("username", String.class);
+            Role role = Role.valueOf(claims.get("roles", String.class));
+
+            List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role.name()));
+            return new JwtAuthenticationToken(authorities, new CustomUserDetails(email, username, "", role), null);
+        } catch (Exception e) {
+            log.error("STOMP CONNECT - Invalid Token", e);
+            throw new BadCredentialsException("Invalid token exception", e);
+        }
+    }
+
+    private String getJwtFromHeader(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.todotravel.global.config.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.example.todotravel.global.storage.LocalObjectStorage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 로컬 저장소 사용 시 저장된 파일을 /files/** 로 제공
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageWebConfig implements WebMvcConfigurer {
+    private final LocalObjectStorage localObjectStorage;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(LocalObjectStorage.FILES_PATH + "**")
+            .addResourceLocations(localObjectStorage.getRootDir().toUri().toString());
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.todotravel.global.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.todotravel.global.storage.LocalObjectStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 로컬 저장소의 presigned 업로드 수신 (S3의 presigned PUT과 같은 방식으로 동작)
+// 인증은 URL 서명으로 대신하므로 SecurityConfig에서 허용
+@RestController
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+    private final LocalObjectStorage localObjectStorage;
+    private final long maxUploadBytes;
+
+    public LocalStorageController(LocalObjectStorage localObjectStorage,
+                                  @Value("${image.max-upload-bytes:20971520}") long maxUploadBytes) {
+        this.localObjectStorage = localObjectStorage;
+        this.maxUploadBytes = maxUploadBytes;
+    }
+
+    @PutMapping("/api/storage/local/{*key}")
+    public ResponseEntity<Void> upload(@PathVariable("key") String key,
+                                       @RequestParam("expires") long expires,
+                                       @RequestParam("signature") String signature,
+                                       HttpServletRequest request) throws IOException {
+        String objectKey = key.startsWith("/") ? key.substring(1) : key;
+        long contentLength = request.getContentLengthLong();
+        // 크기를 모르는 chunked 요청은 받지 않음 (서명된 크기와 비교할 수 없음)
+        if (contentLength < 0) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).build();
+        }
+        if (contentLength > maxUploadBytes) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        if (!localObjectStorage.verifyUpload(objectKey, request.getContentType(), contentLength, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        // 본문이 Content-Length보다 길면 그 시점에 읽기를 중단하고 쓰던 파일은 삭제됨
+        try (InputStream body = request.getInputStream()) {
+            localObjectStorage.put(objectKey, body, contentLength, request.getContentType());
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
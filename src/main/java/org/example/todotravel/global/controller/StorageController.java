@@ -0,0 +1,84 @@
+package org.example.todotravel.global.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.example.todotravel.domain.user.entity.User;
+import org.example.todotravel.domain.user.service.UserService;
+import org.example.todotravel.global.dto.UploadRequestDto;
+import org.example.todotravel.global.dto.UploadResponseDto;
+import org.example.todotravel.global.storage.ObjectStorage;
+import org.example.todotravel.global.storage.PresignedUpload;
+import org.example.todotravel.global.storage.UploadKeys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+// 이미지 원본 업로드 - 업로드 후 받은 key로 썸네일/프로필 이미지를 등록
+// 1) POST /uploads : 저장소로 직접 올릴 presigned URL 발급 (앱 서버를 거치지 않음)
+// 2) PUT  /uploads : 요청 본문을 그대로 저장소로 전달 (multipart 파싱/임시 파일 없이 스트리밍)
+@RestController
+@RequestMapping("/api/storage")
+public class StorageController {
+    private final ObjectStorage objectStorage;
+    private final UserService userService;
+    private final long maxUploadBytes;
+    private final Duration presignTtl;
+
+    public StorageController(ObjectStorage objectStorage,
+                             UserService userService,
+                             @Value("${image.max-upload-bytes:20971520}") long maxUploadBytes,
+                             @Value("${storage.presign-ttl:PT10M}") Duration presignTtl) {
+        this.objectStorage = objectStorage;
+        this.userService = userService;
+        this.maxUploadBytes = maxUploadBytes;
+        this.presignTtl = presignTtl;
+    }
+
+    // 직접 업로드 URL 발급
+    @PostMapping("/uploads")
+    public ApiResponse<PresignedUpload> presignUpload(@Valid @RequestBody UploadRequestDto dto,
+                                                      Authentication authentication) {
+        validate(dto.getContentType(), dto.getContentLength());
+        String key = UploadKeys.newStagingKey(currentUser(authentication).getUserId());
+        PresignedUpload upload = objectStorage.presignUpload(key, dto.getContentType(), dto.getContentLength(), presignTtl);
+        return new ApiResponse<>(true, "업로드 URL 발급 성공", upload);
+    }
+
+    // 스트리밍 업로드 - Content-Type에 이미지 형식, Content-Length에 크기를 지정하고 파일 내용을 본문으로 전송
+    @PutMapping("/uploads")
+    public ApiResponse<UploadResponseDto> streamUpload(HttpServletRequest request,
+                                                       Authentication authentication) throws IOException {
+        String contentType = request.getContentType();
+        long contentLength = request.getContentLengthLong();
+        validate(contentType, contentLength);
+
+        String key = UploadKeys.newStagingKey(currentUser(authentication).getUserId());
+        try (InputStream body = request.getInputStream()) {
+            String url = objectStorage.put(key, body, contentLength, contentType);
+            return new ApiResponse<>(true, "파일 업로드 성공", new UploadResponseDto(key, url));
+        }
+    }
+
+    private void validate(String contentType, long contentLength) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new RuntimeException("이미지 파일만 업로드할 수 있습니다.");
+        }
+        // 길이를 모르는 chunked 요청은 받지 않음 (저장소로 바로 흘려보내려면 크기가 필요)
+        if (contentLength <= 0) {
+            throw new RuntimeException("Content-Length가 필요합니다.");
+        }
+        if (contentLength > maxUploadBytes) {
+            throw new RuntimeException("이미지 파일 크기가 너무 큽니다.");
+        }
+    }
+
+    private User currentUser(Authentication authentication) {
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return userService.getUserByUsername(userDetails.getUsername());
+    }
+}
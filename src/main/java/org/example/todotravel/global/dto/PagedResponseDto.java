@@ -1,7 +1,9 @@
 package org.example.todotravel.global.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -10,10 +12,20 @@ public class PagedResponseDto<T> {
     private final List<T> content;
     private final int pageNo;
     private final int pageSize;
-    private final long totalElements;
-    private final int totalPages;
+
+    // 전체 개수를 조회하지 않는 Slice/커서 페이징에서는 null (직렬화하지 않음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long totalElements;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer totalPages;
+
     private final boolean last;
 
+    // 커서 페이징 시 다음 페이지 요청에 사용할 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long nextCursor;
+
     public PagedResponseDto(Page<T> page) {
         this.content = page.getContent();
         this.pageNo = page.getNumber();
@@ -21,5 +33,22 @@ public class PagedResponseDto<T> {
         this.totalElements = page.getTotalElements();
         this.totalPages = page.getTotalPages();
         this.last = page.isLast();
+        this.nextCursor = null;
+    }
+
+    // COUNT 쿼리 없이 다음 페이지 여부만 담는 응답
+    public PagedResponseDto(Slice<T> slice) {
+        this(slice, null);
+    }
+
+    // 커서 기반 페이징 응답
+    public PagedResponseDto(Slice<T> slice, Long nextCursor) {
+        this.content = slice.getContent();
+        this.pageNo = slice.getNumber();
+        this.pageSize = slice.getSize();
+        this.totalElements = null;
+        this.totalPages = null;
+        this.last = !slice.hasNext();
+        this.nextCursor = nextCursor;
     }
 }
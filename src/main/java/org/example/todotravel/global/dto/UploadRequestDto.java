@@ -0,0 +1,20 @@
+package org.example.todotravel.global.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 직접 업로드 URL 발급 요청 - 업로드할 파일의 형식과 크기
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadRequestDto {
+    @NotBlank
+    private String contentType;
+    @NotNull
+    @Positive
+    private Long contentLength;
+}
@@ -0,0 +1,12 @@
+package org.example.todotravel.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 업로드 완료된 원본 - key를 썸네일/프로필 이미지 등록 API에 전달
+@Getter
+@AllArgsConstructor
+public class UploadResponseDto {
+    private String key;
+    private String url;
+}
@@ -0,0 +1,8 @@
+package org.example.todotravel.global.exception;
+
+// 다른 사용자가 먼저 수정한 데이터를 이전 버전 기준으로 수정하려 할 때 발생
+public class EditConflictException extends RuntimeException {
+    public EditConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.todotravel.global.exception;
+
+// 동시에 처리할 수 있는 요청 수를 넘어 잠시 후 다시 시도해야 하는 경우 발생
+public class ServerBusyException extends RuntimeException {
+    public ServerBusyException(String message) {
+        super(message);
+    }
+}
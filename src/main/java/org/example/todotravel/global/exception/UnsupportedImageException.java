@@ -0,0 +1,8 @@
+package org.example.todotravel.global.exception;
+
+// 변환할 수 없는 이미지(지원하지 않는 형식/색 공간, 너무 큰 해상도)를 업로드한 경우 발생
+public class UnsupportedImageException extends RuntimeException {
+    public UnsupportedImageException(String message) {
+        super(message);
+    }
+}
@@ -9,8 +9,12 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.example.todotravel.global.exception.CustomJwtException;
 import org.example.todotravel.global.exception.DuplicateUserException;
+import org.example.todotravel.global.exception.EditConflictException;
+import org.example.todotravel.global.exception.ServerBusyException;
 import org.example.todotravel.global.exception.SocialUserPasswordResetException;
+import org.example.todotravel.global.exception.UnsupportedImageException;
 import org.example.todotravel.global.exception.UserNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -56,6 +60,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    // 동시 수정 충돌 - 요청에 담긴 버전이 현재 버전과 다른 경우
+    @ExceptionHandler(EditConflictException.class)
+    public ResponseEntity<ErrorDetails> handleEditConflictException(Exception ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
+    // 동시 수정 충돌 - 같은 데이터를 수정하는 트랜잭션이 먼저 커밋된 경우 (@Version)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDetails> handleOptimisticLockingFailureException(Exception ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), "다른 사용자가 먼저 수정했습니다. 최신 내용을 확인 후 다시 시도해주세요.", request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
     // BadCredentialsException 예외를 처리하는 핸들러
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ErrorDetails> handleBadCredentialsException(Exception ex, WebRequest request) {
@@ -84,6 +102,22 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
     }
 
+    // 변환할 수 없는 이미지 업로드
+    @ExceptionHandler(UnsupportedImageException.class)
+    public ResponseEntity<ErrorDetails> handleUnsupportedImageException(Exception ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    // 동시 처리 한도 초과 - 잠시 후 다시 시도
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ErrorDetails> handleServerBusyException(Exception ex, WebRequest request) {
+        ErrorDetails errorDetails = new ErrorDetails(LocalDateTime.now(), ex.getMessage(), request.getDescription(false));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "5")
+            .body(errorDetails);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
         Map<String, String> errors = ex.getBindingResult().getFieldErrors().stream()
@@ -0,0 +1,102 @@
+package org.example.todotravel.global.image;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// JPEG의 EXIF 방향(Orientation) 태그 적용 - ImageIO는 방향을 무시하므로 휴대폰 세로 사진이 눕혀져 보이는 것을 방지
+final class ExifOrientation {
+    private static final String JPEG_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1 = "225";
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    // JPEG 메타데이터의 APP1(Exif) 세그먼트에서 방향 값(1~8) 조회, 없으면 1(정방향)
+    static int of(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return 1;
+        }
+        Node root = metadata.getAsTree(JPEG_FORMAT);
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!"markerSequence".equals(child.getNodeName())) {
+                continue;
+            }
+            for (Node marker = child.getFirstChild(); marker != null; marker = marker.getNextSibling()) {
+                if (marker instanceof IIOMetadataNode node && "unknown".equals(node.getNodeName())
+                    && APP1.equals(node.getAttribute("MarkerTag")) && node.getUserObject() instanceof byte[] data) {
+                    int orientation = parse(data);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                }
+            }
+        }
+        return 1;
+    }
+
+    // "Exif\0\0" + TIFF 헤더(바이트 순서, 42, IFD0 위치) 뒤 IFD0 항목에서 방향 태그를 찾음 (없거나 잘못된 값이면 0)
+    static int parse(byte[] data) {
+        if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i' || data[3] != 'f') {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        if (tiff.getShort(0) == 0x4949) {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.getShort(0) != 0x4D4D) {
+            return 0;
+        }
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return 0;
+        }
+        int count = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+        return 0;
+    }
+
+    // 방향 값에 맞게 뒤집기/회전한 이미지 (5~8은 가로세로가 바뀜)
+    static BufferedImage apply(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도 회전
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 좌우 반전 후 반시계 90도
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 90도 회전
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 좌우 반전 후 시계 90도
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 90도 회전
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.todotravel.global.image;
+
+import java.util.Map;
+
+// 변환이 끝난 URL을 엔티티에 반영 (트랜잭션 안에서 호출됨)
+// 그 사이 다른 업로드로 교체되었거나 엔티티가 삭제되어 반영하지 않았다면 false
+@FunctionalInterface
+public interface ImageAttachHandler {
+    boolean attach(Map<ImageRendition, String> urls);
+}
@@ -0,0 +1,214 @@
+package org.example.todotravel.global.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.example.todotravel.global.exception.UnsupportedImageException;
+import org.example.todotravel.global.storage.ObjectDeletionQueue;
+import org.example.todotravel.global.storage.ObjectStorage;
+import org.example.todotravel.global.storage.UploadKeys;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 업로드 이미지를 요청 스레드에서는 메모리로만 받아두고,
+// 트랜잭션 커밋 이후 별도 실행기에서 크기별로 변환/업로드한 뒤 URL을 반영
+// 실행기에 맡긴 원본의 총 바이트나 대기열이 한도에 차면 접수 단계에서 거절 (503)
+// 커밋 직후(afterCommit)에는 외부 트랜잭션의 커넥션이 아직 반환되지 않았으므로 요청 스레드에서 직접 변환하지 않음
+@Slf4j
+@Component
+public class ImagePipeline {
+    private final ObjectStorage objectStorage;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final ExecutorService imageExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxUploadBytes;
+    private final long maxPixels;
+    private final long maxQueuedBytes;
+    private final AtomicLong queuedBytes = new AtomicLong();
+
+    public ImagePipeline(ObjectStorage objectStorage,
+                         ObjectDeletionQueue objectDeletionQueue,
+                         @Qualifier("imageExecutor") ExecutorService imageExecutor,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${image.max-upload-bytes:20971520}") long maxUploadBytes,
+                         @Value("${image.max-pixels:40000000}") long maxPixels,
+                         @Value("${image.executor.max-queued-bytes:104857600}") long maxQueuedBytes) {
+        this.objectStorage = objectStorage;
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.imageExecutor = imageExecutor;
+        // 트랜잭션 동기화 없이 호출된 경우에도 호출한 쪽 트랜잭션과 섞이지 않도록 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxUploadBytes = maxUploadBytes;
+        this.maxPixels = maxPixels;
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    // 업로드 파일 검증 후 원본 복사 (요청이 끝나면 multipart 임시 파일이 지워지므로 미리 읽어 둠)
+    // 변환할 수 없는 이미지는 커밋 후 변환 단계에서 조용히 버려지지 않도록 접수 시점에 거절
+    public byte[] readUpload(MultipartFile file) {
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new RuntimeException("이미지 파일만 업로드할 수 있습니다.");
+        }
+        if (file.getSize() > maxUploadBytes) {
+            throw new RuntimeException("이미지 파일 크기가 너무 큽니다.");
+        }
+        checkCapacity(file.getSize());
+        byte[] bytes;
+        try {
+            bytes = file.getBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 파일을 읽지 못했습니다.", e);
+        }
+        checkDecodable(new ByteArrayInputStream(bytes));
+        return bytes;
+    }
+
+    // 변환 대기 중인 원본이 한도를 넘었거나 실행기 대기열이 가득 차면 잠시 후 다시 시도하도록 거절
+    private void checkCapacity(long bytes) {
+        boolean queueFull = imageExecutor instanceof ThreadPoolExecutor pool && pool.getQueue().remainingCapacity() == 0;
+        if (queueFull || queuedBytes.get() + bytes > maxQueuedBytes) {
+            throw new ServerBusyException("이미지 처리 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 헤더만 읽어 형식/색 공간/해상도 확인
+    private void checkDecodable(InputStream input) {
+        try {
+            ImageResizer.check(input, maxPixels);
+        } catch (IOException e) {
+            throw new UnsupportedImageException("변환할 수 없는 이미지입니다. (" + e.getMessage() + ")");
+        }
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 변환 작업 등록 (롤백되면 변환하지 않음)
+    // 반영에 성공하면 replacedUrls(이전 이미지)를, 실패하면 이번에 올린 사본을 삭제
+    public void submitAfterCommit(byte[] original, Set<ImageRendition> renditions,
+                                  Collection<String> replacedUrls, ImageAttachHandler handler) {
+        List<String> replaced = List.copyOf(replacedUrls);
+        submitAfterCommit(() -> process(() -> ImageResizer.read(original, maxPixels), renditions, replaced, handler),
+            original.length);
+    }
+
+    // 직접 올린 원본(uploads/...)이 있고 변환할 수 있는 이미지인지 헤더만 읽어 확인
+    // 저장소 요청(S3 GET)이 DB 커넥션을 붙잡지 않도록 트랜잭션 밖(컨트롤러)에서 호출
+    public void checkStagedUpload(String stagingKey) {
+        checkCapacity(0);
+        try (InputStream input = objectStorage.open(stagingKey)) {
+            checkDecodable(input);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드된 이미지를 찾을 수 없습니다.", e);
+        }
+    }
+
+    // 클라이언트가 저장소에 직접 올린 원본(uploads/...)으로 변환 - 원본은 변환이 끝나면 삭제
+    // 원본 확인은 checkStagedUpload로 미리 해 둠 (변환 시점에 없으면 변환 실패로 처리)
+    public void submitStagedAfterCommit(String stagingKey, Set<ImageRendition> renditions,
+                                        Collection<String> replacedUrls, ImageAttachHandler handler) {
+        List<String> replaced = List.copyOf(replacedUrls);
+        submitAfterCommit(() -> {
+            try {
+                process(() -> {
+                    try (InputStream input = objectStorage.open(stagingKey)) {
+                        return ImageResizer.read(input, maxPixels);
+                    }
+                }, renditions, replaced, handler);
+            } finally {
+                enqueueDeletion(() -> objectDeletionQueue.enqueueKeys(List.of(stagingKey)));
+            }
+        }, 0);
+    }
+
+    private void submitAfterCommit(Runnable job, long bytes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(job, bytes);
+                }
+            });
+        } else {
+            dispatch(job, bytes);
+        }
+    }
+
+    // 원본 바이트 한도 안에서만 실행기에 맡김
+    // 접수 이후 다른 요청이 먼저 자리를 차지해 한도를 넘었다면 변환을 건너뜀 (요청 스레드에서 직접 실행하지 않음)
+    // 건너뛴 경우 대상 이미지는 바뀌지 않고, 직접 올린 원본(uploads/...)은 고아 파일 정리에서 회수
+    private void dispatch(Runnable job, long bytes) {
+        if (queuedBytes.addAndGet(bytes) > maxQueuedBytes && bytes > 0) {
+            queuedBytes.addAndGet(-bytes);
+            log.warn("이미지 변환 대기열이 가득 차 변환을 건너뜁니다. ({} bytes)", bytes);
+            return;
+        }
+        try {
+            imageExecutor.execute(() -> {
+                try {
+                    job.run();
+                } finally {
+                    queuedBytes.addAndGet(-bytes);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedBytes.addAndGet(-bytes);
+            log.warn("이미지 변환 대기열이 가득 차 변환을 건너뜁니다. ({} bytes)", bytes, e);
+        }
+    }
+
+    // 삭제 예약 실패는 로그만 남김 (남은 파일은 고아 파일 정리에서 회수)
+    private void enqueueDeletion(Runnable enqueue) {
+        try {
+            enqueue.run();
+        } catch (RuntimeException e) {
+            log.warn("이미지 삭제 예약 실패", e);
+        }
+    }
+
+    private void process(Callable<BufferedImage> source, Set<ImageRendition> renditions,
+                         List<String> replacedUrls, ImageAttachHandler handler) {
+        Map<ImageRendition, String> urls = new EnumMap<>(ImageRendition.class);
+        try {
+            BufferedImage image = source.call();
+            String baseName = UploadKeys.IMAGE_PREFIX + UUID.randomUUID();
+            for (ImageRendition rendition : renditions) {
+                byte[] resized = ImageResizer.toJpeg(image, rendition.getMaxWidth());
+                String url = objectStorage.put(baseName + "-" + rendition.suffix() + ".jpg", resized,
+                    ImageResizer.CONTENT_TYPE);
+                urls.put(rendition, url);
+            }
+
+            // URL 반영과 이전 이미지 삭제 예약을 한 트랜잭션으로 처리
+            // 변환 중 새 이미지가 올라왔거나 대상이 삭제되어 반영하지 못했다면 이번 결과를 삭제 예약
+            transactionTemplate.executeWithoutResult(status -> {
+                boolean attached = handler.attach(urls);
+                objectDeletionQueue.enqueueUrls(attached ? replacedUrls : List.copyOf(urls.values()));
+            });
+        } catch (Exception e) {
+            log.warn("이미지 변환 실패", e);
+            enqueueDeletion(() -> objectDeletionQueue.enqueueUrls(List.copyOf(urls.values())));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.todotravel.global.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 업로드된 이미지로 만드는 크기별 사본 (가로 기준 최대 픽셀, 원본이 더 작으면 확대하지 않음)
+@Getter
+@RequiredArgsConstructor
+public enum ImageRendition {
+    THUMBNAIL(240),  // 목록의 작은 썸네일, 프로필 아바타
+    CARD(720),       // 피드 카드
+    FULL(1600);      // 상세 화면
+
+    private final int maxWidth;
+
+    public String suffix() {
+        return name().toLowerCase();
+    }
+}
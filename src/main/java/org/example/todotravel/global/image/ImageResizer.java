@@ -0,0 +1,111 @@
+package org.example.todotravel.global.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+// 이미지 디코딩/축소/JPEG 재인코딩 (상태 없음)
+public final class ImageResizer {
+    public static final String CONTENT_TYPE = "image/jpeg";
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ImageResizer() {
+    }
+
+    // 픽셀 수를 먼저 확인한 뒤 디코딩 (작은 파일로 거대한 이미지를 만드는 압축 폭탄 방지)
+    public static BufferedImage read(byte[] data, long maxPixels) throws IOException {
+        return read(new ByteArrayInputStream(data), maxPixels);
+    }
+
+    public static BufferedImage read(InputStream source, long maxPixels) throws IOException {
+        return open(source, maxPixels, true);
+    }
+
+    // 헤더만 읽어 변환할 수 있는 이미지인지 확인 (업로드 접수 시 미리 거절하기 위함)
+    // 리더가 없는 형식(WebP, HEIC 등)이나 리더는 있어도 디코딩할 수 없는 색 공간(CMYK JPEG 등)이면 예외
+    public static void check(InputStream source, long maxPixels) throws IOException {
+        open(source, maxPixels, false);
+    }
+
+    private static BufferedImage open(InputStream source, long maxPixels, boolean decode) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                // EXIF 방향을 읽기 위해 메타데이터는 무시하지 않음
+                reader.setInput(input, true, false);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다.");
+                }
+                if (!reader.getImageTypes(0).hasNext()) {
+                    throw new IOException("지원하지 않는 색상 형식의 이미지입니다.");
+                }
+                if (!decode) {
+                    return null;
+                }
+                BufferedImage image = reader.read(0);
+                return ExifOrientation.apply(image, ExifOrientation.of(reader.getImageMetadata(0)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로 maxWidth 이하로 비율을 유지해 축소한 JPEG (투명 영역은 흰색으로 채움)
+    public static byte[] toJpeg(BufferedImage source, int maxWidth) throws IOException {
+        int width = Math.min(source.getWidth(), maxWidth);
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나눠서 축소
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= width && current.getWidth() / 2 > 0) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        BufferedImage target = draw(current, width, height);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(target, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
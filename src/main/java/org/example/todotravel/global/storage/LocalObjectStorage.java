@@ -0,0 +1,204 @@
+package org.example.todotravel.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 로컬 디렉터리 저장소 (AWS 없이 개발/테스트/부하 측정할 때 사용)
+// 파일은 {publicUrl}/files/{key}로 제공되고, 직접 업로드는 서명된 {publicUrl}/api/storage/local/{key}로 받음
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+    public static final String FILES_PATH = "/files/";
+    public static final String UPLOAD_PATH = "/api/storage/local/";
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9._-]+(/[A-Za-z0-9._-]+)*");
+
+    private final Path rootDir;
+    private final String publicUrl;
+    private final byte[] signingKey;
+
+    public LocalObjectStorage(@Value("${storage.local.root-dir:./storage}") String rootDir,
+                              @Value("${storage.local.public-url:http://localhost:8080}") String publicUrl,
+                              @Value("${storage.local.signing-key:}") String signingKey) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        this.publicUrl = publicUrl.endsWith("/") ? publicUrl.substring(0, publicUrl.length() - 1) : publicUrl;
+        // 키를 지정하지 않으면 기동할 때마다 새로 만듦 (재시작 전에 발급한 업로드 URL은 무효)
+        this.signingKey = signingKey.isEmpty() ? randomKey() : signingKey.getBytes(StandardCharsets.UTF_8);
+        Files.createDirectories(this.rootDir);
+    }
+
+    public Path getRootDir() {
+        return rootDir;
+    }
+
+    @Override
+    public String put(String key, InputStream input, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        // 같은 디렉터리의 임시 파일에 쓴 뒤 이동해서, 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            // 요청한 크기를 넘으면 끝까지 읽지 않고 바로 중단 (임시 파일은 finally에서 삭제)
+            long written = copy(input, temp, contentLength >= 0 ? contentLength : Long.MAX_VALUE);
+            if (contentLength >= 0 && written != contentLength) {
+                throw new IOException("업로드된 파일 크기가 요청과 다릅니다.");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return publicUrl + FILES_PATH + key;
+    }
+
+    private static long copy(InputStream input, Path target, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long written = 0;
+        try (OutputStream output = Files.newOutputStream(target)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                written += read;
+                if (written > limit) {
+                    throw new IOException("업로드된 파일 크기가 요청과 다릅니다.");
+                }
+                output.write(buffer, 0, read);
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return isValidKey(key) && Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            Files.delete(resolve(key));
+        } catch (NoSuchFileException e) {
+            // 이미 삭제됨
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failed = new HashMap<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (IOException | IllegalArgumentException e) {
+                failed.put(key, e.getMessage());
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void forEachObject(String prefix, BiConsumer<String, Instant> visitor) throws IOException {
+        try (Stream<Path> files = Files.walk(rootDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                // 업로드 중인 임시 파일은 제외
+                if (!Files.isRegularFile(file) || file.getFileName().toString().startsWith(".upload-")) {
+                    continue;
+                }
+                String key = rootDir.relativize(file).toString().replace(File.separatorChar, '/');
+                if (key.startsWith(prefix)) {
+                    visitor.accept(key, Files.getLastModifiedTime(file).toInstant());
+                }
+            }
+        }
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String prefix = publicUrl + FILES_PATH;
+        if (url == null || !url.startsWith(prefix)) {
+            return null;
+        }
+        String key = url.substring(prefix.length());
+        return isValidKey(key) ? key : null;
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        resolve(key);
+        Instant expiresAt = Instant.now().plus(ttl);
+        long expires = expiresAt.getEpochSecond();
+        String uploadUrl = publicUrl + UPLOAD_PATH + key
+            + "?expires=" + expires + "&signature=" + sign(key, contentType, contentLength, expires);
+        return new PresignedUpload(key, uploadUrl, contentType, contentLength, expiresAt);
+    }
+
+    // 업로드 URL의 서명/만료 확인 (S3 presigned URL처럼 키, Content-Type, Content-Length, 만료 시각이 서명에 포함됨)
+    public boolean verifyUpload(String key, String contentType, long contentLength, long expires, String signature) {
+        if (!isValidKey(key) || contentType == null || contentLength < 0 || signature == null
+            || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingKey, "HmacSHA256"));
+            byte[] digest = mac.doFinal(("PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires)
+                .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 키는 영문/숫자/._- 경로만 허용하고 루트 디렉터리 밖을 가리키지 못하게 함
+    private Path resolve(String key) {
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("잘못된 파일 키입니다.");
+        }
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new IllegalArgumentException("잘못된 파일 키입니다.");
+        }
+        return path;
+    }
+
+    private static boolean isValidKey(String key) {
+        return key != null && !key.contains("..") && KEY_PATTERN.matcher(key).matches();
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
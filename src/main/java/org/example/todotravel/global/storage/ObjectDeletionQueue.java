@@ -0,0 +1,38 @@
+package org.example.todotravel.global.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.example.todotravel.global.storage.repository.PendingObjectDeletionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// 저장소 파일 삭제 예약 - 호출한 트랜잭션에 참여하므로 롤백되면 예약도 취소됨
+// 실제 삭제는 ObjectStorageReclaimer가 모아서 처리 (요청 처리 중에는 저장소를 호출하지 않음)
+@Component
+@RequiredArgsConstructor
+public class ObjectDeletionQueue {
+    private final ObjectStorage objectStorage;
+    private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+
+    // 저장소 URL만 예약 (소셜 로그인 프로필 등 외부 URL은 무시)
+    @Transactional
+    public void enqueueUrls(Collection<String> urls) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String url : urls) {
+            String key = objectStorage.keyOf(url);
+            if (key != null) {
+                pendingObjectDeletionRepository.enqueue(key, now);
+            }
+        }
+    }
+
+    @Transactional
+    public void enqueueKeys(Collection<String> keys) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String key : keys) {
+            pendingObjectDeletionRepository.enqueue(key, now);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.todotravel.global.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// 업로드 파일 저장소 (storage.type=s3 이면 S3, local 이면 로컬 디렉터리)
+public interface ObjectStorage {
+
+    // 스트림을 그대로 저장소로 전달하고 공개 URL 반환
+    // contentLength를 알고 있어야 파일 전체를 메모리/임시 파일에 모으지 않고 바로 전송할 수 있음
+    String put(String key, InputStream input, long contentLength, String contentType) throws IOException;
+
+    default String put(String key, byte[] bytes, String contentType) throws IOException {
+        return put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    InputStream open(String key) throws IOException;
+
+    boolean exists(String key);
+
+    void delete(String key) throws IOException;
+
+    // 여러 파일을 한 번에 삭제하고 실패한 키와 사유 반환 (없는 키는 성공으로 봄)
+    Map<String, String> deleteAll(Collection<String> keys);
+
+    // prefix로 시작하는 모든 파일의 키와 마지막 수정 시각 순회
+    void forEachObject(String prefix, BiConsumer<String, Instant> visitor) throws IOException;
+
+    // 이 저장소가 발급한 공개 URL에서 키 추출 (소셜 로그인 프로필 등 외부 URL이면 null)
+    String keyOf(String url);
+
+    // 클라이언트가 서버를 거치지 않고 직접 PUT 할 수 있는 만료 시간이 있는 업로드 URL 발급
+    // contentLength를 서명에 포함해 발급 시 검증한 크기보다 큰 파일은 올릴 수 없도록 함
+    PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl);
+}
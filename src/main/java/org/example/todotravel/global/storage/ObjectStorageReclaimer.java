@@ -0,0 +1,154 @@
+package org.example.todotravel.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.todotravel.global.storage.entity.PendingObjectDeletion;
+import org.example.todotravel.global.storage.repository.PendingObjectDeletionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 삭제 예약된 저장소 파일을 모아서 삭제하고, 주기적으로 DB에서 참조하지 않는 고아 파일을 찾아 예약
+@Slf4j
+@Component
+public class ObjectStorageReclaimer {
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int ENQUEUE_CHUNK = 500;
+    private static final Duration MAX_BACKOFF = Duration.ofHours(6);
+    // 이 애플리케이션이 만드는 키만 정리 대상 (버킷의 다른 경로, 예전에 루트에 올린 파일은 참조 여부를 알 수 없으므로 건드리지 않음)
+    static final List<String> SWEEP_PREFIXES = List.of(UploadKeys.IMAGE_PREFIX, UploadKeys.STAGING_PREFIX);
+
+    private final ObjectStorage objectStorage;
+    private final PendingObjectDeletionRepository pendingObjectDeletionRepository;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration orphanGracePeriod;
+
+    // 누적 처리 건수 (실행할 때마다 로그로 남김)
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong orphanCount = new AtomicLong();
+
+    public ObjectStorageReclaimer(ObjectStorage objectStorage,
+                                  PendingObjectDeletionRepository pendingObjectDeletionRepository,
+                                  ObjectDeletionQueue objectDeletionQueue,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${storage.reclaim.batch-size:500}") int batchSize,
+                                  @Value("${storage.reclaim.max-attempts:10}") int maxAttempts,
+                                  @Value("${storage.orphan-sweep.grace-period:P1D}") Duration orphanGracePeriod) {
+        this.objectStorage = objectStorage;
+        this.pendingObjectDeletionRepository = pendingObjectDeletionRepository;
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.orphanGracePeriod = orphanGracePeriod;
+    }
+
+    // 예약된 삭제 처리 - 배치 단위로 잠그고 삭제한 뒤 커밋
+    @Scheduled(fixedDelayString = "${storage.reclaim.fixed-delay-ms:60000}")
+    public void reclaim() {
+        int deleted = 0;
+        int failed = 0;
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            int[] result = transactionTemplate.execute(status -> reclaimBatch());
+            deleted += result[0];
+            failed += result[1];
+            if (result[0] + result[1] < batchSize) {
+                break;
+            }
+        }
+        if (deleted + failed > 0) {
+            log.info("저장소 파일 삭제 {}건, 실패 {}건 (누적 삭제 {}건, 실패 {}건, 포기 {}건)",
+                deleted, failed, deletedCount.addAndGet(deleted), failedCount.addAndGet(failed),
+                pendingObjectDeletionRepository.countByAttemptsGreaterThanEqual(maxAttempts));
+        }
+    }
+
+    // 반환값: {삭제 성공 수, 실패 수}
+    private int[] reclaimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingObjectDeletion> due = pendingObjectDeletionRepository.findDueForUpdate(now, maxAttempts, batchSize);
+        if (due.isEmpty()) {
+            return new int[]{0, 0};
+        }
+
+        List<String> keys = due.stream().map(PendingObjectDeletion::getObjectKey).toList();
+        Map<String, String> errors = objectStorage.deleteAll(keys);
+
+        List<PendingObjectDeletion> done = new ArrayList<>();
+        for (PendingObjectDeletion deletion : due) {
+            String error = errors.get(deletion.getObjectKey());
+            if (error == null) {
+                done.add(deletion);
+                continue;
+            }
+            // 실패하면 1분, 2분, 4분 ... 최대 6시간 뒤 재시도
+            int attempts = deletion.getAttempts() + 1;
+            deletion.setAttempts(attempts);
+            deletion.setNextAttemptAt(now.plus(backoff(attempts)));
+            deletion.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+            if (attempts >= maxAttempts) {
+                log.warn("저장소 파일 삭제 재시도 한도 초과: {} ({})", deletion.getObjectKey(), error);
+            }
+        }
+        pendingObjectDeletionRepository.deleteAllInBatch(done);
+        return new int[]{done.size(), due.size() - done.size()};
+    }
+
+    static Duration backoff(int attempts) {
+        long minutes = 1L << Math.min(attempts - 1, 16);
+        Duration delay = Duration.ofMinutes(minutes);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    // 고아 파일 정리 - 저장소의 파일 중 DB(플랜 썸네일, 프로필 이미지)에서 참조하지 않는 파일을 삭제 예약
+    // 업로드 직후 아직 반영되지 않은 파일(변환 중, presigned 업로드 대기 등)을 지우지 않도록 유예 기간보다 오래된 파일만 대상
+    @Scheduled(cron = "${storage.orphan-sweep.cron:0 30 4 * * *}")
+    public void sweepOrphans() {
+        Instant cutoff = Instant.now().minus(orphanGracePeriod);
+        Set<String> referenced = new HashSet<>();
+        for (String url : pendingObjectDeletionRepository.findReferencedObjectUrls()) {
+            String key = objectStorage.keyOf(url);
+            if (key != null) {
+                referenced.add(key);
+            }
+        }
+
+        List<String> orphans = new ArrayList<>();
+        int[] scanned = {0};
+        try {
+            for (String prefix : SWEEP_PREFIXES) {
+                objectStorage.forEachObject(prefix, (key, lastModified) -> {
+                    scanned[0]++;
+                    if (lastModified.isBefore(cutoff) && !referenced.contains(key)) {
+                        orphans.add(key);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            log.warn("고아 파일 정리 실패", e);
+            return;
+        }
+
+        for (int from = 0; from < orphans.size(); from += ENQUEUE_CHUNK) {
+            objectDeletionQueue.enqueueKeys(orphans.subList(from, Math.min(from + ENQUEUE_CHUNK, orphans.size())));
+        }
+        log.info("고아 파일 정리: {}개 중 {}개 삭제 예약 (누적 {}개)",
+            scanned[0], orphans.size(), orphanCount.addAndGet(orphans.size()));
+    }
+}
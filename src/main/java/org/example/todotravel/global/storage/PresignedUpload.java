@@ -0,0 +1,8 @@
+package org.example.todotravel.global.storage;
+
+import java.time.Instant;
+
+// 직접 업로드 정보 - 클라이언트는 uploadUrl로 Content-Type, Content-Length 헤더를 맞춰 PUT 한 뒤 key를 서버에 전달
+// 두 헤더 모두 서명에 포함되므로 발급 요청과 다른 형식/크기의 파일은 저장소가 거절함
+public record PresignedUpload(String key, String uploadUrl, String contentType, long contentLength, Instant expiresAt) {
+}
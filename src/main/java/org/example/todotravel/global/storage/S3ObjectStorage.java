@@ -0,0 +1,149 @@
+package org.example.todotravel.global.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+    private static final int MAX_DELETE_BATCH = 1000;
+
+    private final AmazonS3 amazonS3;
+    private final String bucketName;
+    private final String urlPrefix;
+
+    public S3ObjectStorage(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        this.amazonS3 = amazonS3;
+        this.bucketName = bucketName;
+        // https://{bucket}.s3.{region}.amazonaws.com/
+        this.urlPrefix = amazonS3.getUrl(bucketName, "").toString();
+    }
+
+    @Override
+    public String put(String key, InputStream input, long contentLength, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        // 길이를 지정하지 않으면 SDK가 스트림 전체를 메모리에 올린 뒤 전송함
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        try {
+            amazonS3.putObject(bucketName, key, input, metadata);
+        } catch (SdkClientException e) {
+            throw new IOException("파일 업로드에 실패했습니다.", e);
+        }
+        return amazonS3.getUrl(bucketName, key).toString();
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        try {
+            return amazonS3.getObject(bucketName, key).getObjectContent();
+        } catch (SdkClientException e) {
+            throw new IOException("파일을 읽지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return amazonS3.doesObjectExist(bucketName, key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            amazonS3.deleteObject(bucketName, key);
+        } catch (SdkClientException e) {
+            throw new IOException("이미지 삭제에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failed = new HashMap<>();
+        List<String> remaining = new ArrayList<>(keys);
+        // DeleteObjects 요청 한 번에 최대 1000개
+        for (int from = 0; from < remaining.size(); from += MAX_DELETE_BATCH) {
+            List<String> chunk = remaining.subList(from, Math.min(from + MAX_DELETE_BATCH, remaining.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(chunk.toArray(String[]::new))
+                .withQuiet(true);
+            try {
+                amazonS3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                    failed.put(error.getKey(), error.getCode() + ": " + error.getMessage());
+                }
+            } catch (SdkClientException e) {
+                for (String key : chunk) {
+                    failed.put(key, e.getMessage());
+                }
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void forEachObject(String prefix, BiConsumer<String, Instant> visitor) throws IOException {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+            .withBucketName(bucketName)
+            .withPrefix(prefix);
+        try {
+            ListObjectsV2Result result;
+            do {
+                result = amazonS3.listObjectsV2(request);
+                for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                    visitor.accept(summary.getKey(), summary.getLastModified().toInstant());
+                }
+                request.setContinuationToken(result.getNextContinuationToken());
+            } while (result.isTruncated());
+        } catch (SdkClientException e) {
+            throw new IOException("파일 목록을 읽지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(urlPrefix)) {
+            return null;
+        }
+        return URLDecoder.decode(url.substring(urlPrefix.length()), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public PresignedUpload presignUpload(String key, String contentType, long contentLength, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        // 서명에 Content-Type, Content-Length가 포함되므로 클라이언트는 같은 형식/크기로 PUT 해야 함
+        // (크기를 서명하지 않으면 URL만 받아 한도보다 큰 파일을 올릴 수 있음)
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, key, HttpMethod.PUT)
+            .withExpiration(Date.from(expiresAt))
+            .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        String uploadUrl = amazonS3.generatePresignedUrl(request).toString();
+        return new PresignedUpload(key, uploadUrl, contentType, contentLength, expiresAt);
+    }
+}
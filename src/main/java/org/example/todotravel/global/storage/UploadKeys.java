@@ -0,0 +1,22 @@
+package org.example.todotravel.global.storage;
+
+import java.util.UUID;
+
+// 업로드 키 규칙
+// uploads/{userId}/... : 클라이언트가 직접 올린 원본 (변환 후 삭제, 사용자별 경로로 다른 사용자의 파일 사용을 막음)
+// images/...           : 서버가 만든 변환본
+public final class UploadKeys {
+    public static final String STAGING_PREFIX = "uploads/";
+    public static final String IMAGE_PREFIX = "images/";
+
+    private UploadKeys() {
+    }
+
+    public static String newStagingKey(Long userId) {
+        return STAGING_PREFIX + userId + "/" + UUID.randomUUID();
+    }
+
+    public static boolean isStagingKeyOf(String key, Long userId) {
+        return key != null && !key.contains("..") && key.startsWith(STAGING_PREFIX + userId + "/");
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.todotravel.global.storage.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+// 저장소에서 삭제할 파일 목록 - 엔티티 변경과 같은 트랜잭션에 기록하고, ObjectStorageReclaimer가 모아서 삭제
+@Entity
+@Table(name = "pending_object_deletions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_pending_object_deletions_key", columnNames = "object_key")
+}, indexes = {
+    @Index(name = "idx_pending_object_deletions_next", columnList = "next_attempt_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingObjectDeletion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pending_object_deletion_id", nullable = false)
+    private Long pendingObjectDeletionId;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    // 실패한 삭제 시도 횟수
+    @Column(name = "attempts", nullable = false)
+    @ColumnDefault("0")
+    private Integer attempts;
+
+    // 다음 삭제 시도 시각 (실패할수록 뒤로 미룸)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,50 @@
+package org.example.todotravel.global.storage.repository;
+
+import org.example.todotravel.global.storage.entity.PendingObjectDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingObjectDeletionRepository extends JpaRepository<PendingObjectDeletion, Long> {
+
+    // 삭제 예약 - 이미 예약된 키면 재시도 횟수를 초기화하고 바로 시도하도록 당김
+    // (재시도 한도를 넘겨 멈춘 행도 다시 예약되면 살아나므로, 고아 파일 정리가 매일 다시 시도하게 됨)
+    @Modifying
+    @Query(value = """
+        INSERT INTO pending_object_deletions (object_key, attempts, next_attempt_at, created_at)
+        VALUES (:objectKey, 0, :now, :now)
+        ON DUPLICATE KEY UPDATE attempts = 0, next_attempt_at = :now, last_error = NULL
+        """, nativeQuery = true)
+    void enqueue(@Param("objectKey") String objectKey, @Param("now") LocalDateTime now);
+
+    // 삭제할 차례가 된 행을 잠그고 조회 - 다른 서버가 잡고 있는 행은 건너뜀 (여러 인스턴스가 동시에 실행해도 중복 삭제 없음)
+    @Query(value = """
+        SELECT * FROM pending_object_deletions
+        WHERE next_attempt_at <= :now AND attempts < :maxAttempts
+        ORDER BY next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<PendingObjectDeletion> findDueForUpdate(@Param("now") LocalDateTime now,
+                                                 @Param("maxAttempts") int maxAttempts,
+                                                 @Param("limit") int limit);
+
+    // 재시도 한도를 넘겨 더 이상 시도하지 않는 행 수 (수동 확인 필요)
+    long countByAttemptsGreaterThanEqual(int attempts);
+
+    // 고아 파일 정리용 - DB에서 참조 중인 모든 이미지 URL
+    @Query(value = """
+        SELECT plan_thumbnail_url FROM plans WHERE plan_thumbnail_url IS NOT NULL
+        UNION ALL SELECT plan_card_image_url FROM plans WHERE plan_card_image_url IS NOT NULL
+        UNION ALL SELECT plan_small_image_url FROM plans WHERE plan_small_image_url IS NOT NULL
+        UNION ALL SELECT profile_image_url FROM users WHERE profile_image_url IS NOT NULL
+        UNION ALL SELECT profile_small_image_url FROM users WHERE profile_small_image_url IS NOT NULL
+        """, nativeQuery = true)
+    List<String> findReferencedObjectUrls();
+}
@@ -0,0 +1,108 @@
+package org.example.todotravel.domain.plan.event;
+
+import org.example.todotravel.domain.plan.dto.response.VoteCountProjection;
+import org.example.todotravel.domain.plan.dto.response.VoteTallyMessageDto;
+import org.example.todotravel.domain.plan.repository.VoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class VoteTallyPublisherTest {
+    private VoteRepository voteRepository;
+    private SimpMessageSendingOperations template;
+    private VoteTallyPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        template = mock(SimpMessageSendingOperations.class);
+        publisher = new VoteTallyPublisher(voteRepository, template, mock(ScheduledExecutorService.class), 500);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 여러 번 바뀐 투표는 한 번의 조회로 모아 플랜별로 한 번씩만 전송한다")
+    @SuppressWarnings("unchecked")
+    void coalescesChangesPerInterval() {
+        // given - 투표 1, 2(플랜 10)와 투표 3(플랜 20)이 여러 번 바뀜
+        for (int i = 0; i < 100; i++) {
+            publisher.onVoteTallyChanged(new VoteTallyChangedEvent(1L + i % 3));
+        }
+        List<VoteCountProjection> counts = List.of(count(1L, 10L, 34), count(2L, 10L, 33), count(3L, 20L, 33));
+        when(voteRepository.findVoteCountsByVoteIdIn(anyList())).thenReturn(counts);
+
+        // when
+        publisher.publish();
+
+        // then
+        ArgumentCaptor<List<Long>> voteIds = ArgumentCaptor.forClass(List.class);
+        verify(voteRepository).findVoteCountsByVoteIdIn(voteIds.capture());
+        assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(voteIds.getValue()));
+        assertEquals(3, voteIds.getValue().size());
+
+        ArgumentCaptor<VoteTallyMessageDto> message = ArgumentCaptor.forClass(VoteTallyMessageDto.class);
+        verify(template).convertAndSend(eq("/sub/plan/10/vote"), message.capture());
+        assertEquals(2, message.getValue().getTallies().size());
+        verify(template).convertAndSend(eq("/sub/plan/20/vote"), any(Object.class));
+
+        // 다음 주기에는 바뀐 투표가 없으므로 조회/전송하지 않음
+        publisher.publish();
+        verify(voteRepository, times(1)).findVoteCountsByVoteIdIn(anyList());
+        verify(template, times(2)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("바뀐 투표가 없으면 조회하지 않는다")
+    void skipsWhenNothingChanged() {
+        publisher.publish();
+
+        verifyNoInteractions(voteRepository, template);
+    }
+
+    @Test
+    @DisplayName("집계 조회에 실패하면 다음 주기에 같은 투표를 다시 전송한다")
+    void retriesAfterQueryFailure() {
+        // given
+        publisher.onVoteTallyChanged(new VoteTallyChangedEvent(1L));
+        List<VoteCountProjection> counts = List.of(count(1L, 10L, 1));
+        when(voteRepository.findVoteCountsByVoteIdIn(anyList()))
+            .thenThrow(new RuntimeException("DB 연결 실패"))
+            .thenReturn(counts);
+
+        // when
+        publisher.publish();
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+        publisher.publish();
+
+        // then
+        verify(voteRepository, times(2)).findVoteCountsByVoteIdIn(List.of(1L));
+        verify(template).convertAndSend(eq("/sub/plan/10/vote"), any(Object.class));
+    }
+
+    private static VoteCountProjection count(Long voteId, Long planId, int voteCount) {
+        VoteCountProjection projection = mock(VoteCountProjection.class);
+        when(projection.getVoteId()).thenReturn(voteId);
+        when(projection.getPlanId()).thenReturn(planId);
+        when(projection.getVoteCount()).thenReturn(voteCount);
+        when(projection.getClosed()).thenReturn(false);
+        when(projection.getWinner()).thenReturn(false);
+        return projection;
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.todotravel.domain.plan.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsWriterTest {
+
+    @Test
+    @DisplayName("텍스트 속성의 특수문자와 줄바꿈을 이스케이프한다")
+    void escapesText() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        IcsWriter ics = new IcsWriter(out);
+
+        // when
+        ics.text("DESCRIPTION", "해운대, 광안리; 산책\n야경");
+        ics.text("LOCATION", null);
+
+        // then
+        assertEquals("DESCRIPTION:해운대\\, 광안리\\; 산책\\n야경\r\n", out.toString());
+    }
+
+    @Test
+    @DisplayName("75바이트를 넘는 줄은 한글을 자르지 않고 접는다")
+    void foldsLongLinesOnCharacterBoundary() throws IOException {
+        // given
+        StringWriter out = new StringWriter();
+        IcsWriter ics = new IcsWriter(out);
+
+        // when
+        ics.text("SUMMARY", "부산".repeat(30));
+
+        // then
+        String[] lines = out.toString().split("\r\n");
+        assertTrue(lines.length > 1);
+        for (String line : lines) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertTrue(lines[1].startsWith(" "));
+        assertEquals("SUMMARY:" + "부산".repeat(30), out.toString().replace("\r\n ", "").trim());
+    }
+}
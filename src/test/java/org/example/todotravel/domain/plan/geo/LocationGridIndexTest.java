@@ -0,0 +1,69 @@
+package org.example.todotravel.domain.plan.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationGridIndexTest {
+
+    private final LocationGridIndex locationGridIndex = new LocationGridIndex();
+
+    @Test
+    @DisplayName("반경 안의 장소만 가까운 순으로 반환한다")
+    void withinRadiusSortsByDistance() {
+        // given - 서울시청 기준 약 0m, 약 550m, 약 2.2km 떨어진 장소
+        locationGridIndex.add(1L, 37.5665, 126.9780);
+        locationGridIndex.add(2L, 37.5715, 126.9780);
+        locationGridIndex.add(3L, 37.5865, 126.9780);
+
+        // when
+        List<LocationGridIndex.Neighbor> result = locationGridIndex.withinRadius(37.5664, 126.9780, 1000);
+
+        // then
+        assertEquals(List.of(1L, 2L), result.stream().map(LocationGridIndex.Neighbor::locationId).toList());
+        assertTrue(result.get(0).distanceMeters() < result.get(1).distanceMeters());
+    }
+
+    @Test
+    @DisplayName("격자 경계를 넘는 가까운 장소도 중복 장소로 찾는다")
+    void nearestAcrossCellBoundary() {
+        // given - 위도 격자 경계(37.57) 양쪽에 약 2m 떨어진 두 좌표
+        locationGridIndex.add(1L, 37.570009, 126.9780);
+
+        // when
+        Optional<LocationGridIndex.Neighbor> nearest = locationGridIndex.nearest(37.569991, 126.9780, 10);
+        Optional<LocationGridIndex.Neighbor> farAway = locationGridIndex.nearest(37.5705, 126.9780, 10);
+
+        // then
+        assertEquals(1L, nearest.orElseThrow().locationId());
+        assertTrue(farAway.isEmpty());
+    }
+
+    @Test
+    @DisplayName("사각 영역 안의 장소만 반환한다")
+    void withinBoxReturnsContainedLocations() {
+        // given
+        locationGridIndex.add(1L, 35.1587, 129.1604); // 해운대
+        locationGridIndex.add(2L, 35.1532, 129.1186); // 광안리
+        locationGridIndex.add(3L, 37.5665, 126.9780); // 서울
+
+        // when
+        List<Long> result = locationGridIndex.withinBox(35.0, 129.0, 35.3, 129.3);
+
+        // then
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("haversine 거리는 위도 1도에 약 111km이다")
+    void haversineDistance() {
+        double distance = GeoUtils.distanceMeters(37.0, 127.0, 38.0, 127.0);
+
+        assertEquals(111_195, distance, 50);
+    }
+}
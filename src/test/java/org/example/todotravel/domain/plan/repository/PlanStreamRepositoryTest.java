@@ -0,0 +1,25 @@
+package org.example.todotravel.domain.plan.repository;
+
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class PlanStreamRepositoryTest {
+
+    @Test
+    void streamPermitsAreCappedAndReturnedOnClose() {
+        PlanStreamRepository repository = new PlanStreamRepository(mock(DataSource.class), 1, 100, Duration.ofSeconds(30));
+
+        PlanStreamRepository.StreamPermit permit = repository.acquireStreamPermit();
+        assertThrows(ServerBusyException.class, repository::acquireStreamPermit);
+
+        permit.close();
+        assertDoesNotThrow(() -> repository.acquireStreamPermit().close());
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.todotravel.domain.plan.route;
+
+import org.example.todotravel.domain.plan.entity.Schedule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteCalculatorTest {
+
+    // 같은 경도 위에 북쪽으로 0, 1, 2, 3 km 떨어진 장소
+    private final double[] latitudes = {37.5, 37.509, 37.518, 37.527};
+    private final double[] longitudes = {127.0, 127.0, 127.0, 127.0};
+
+    @Test
+    @DisplayName("거리 행렬은 대칭이고 대각선은 0이다")
+    void distanceMatrixIsSymmetric() {
+        double[][] meters = RouteCalculator.distanceMatrix(latitudes, longitudes);
+
+        assertEquals(0, meters[2][2]);
+        assertEquals(meters[0][3], meters[3][0]);
+        assertEquals(3_000, meters[0][3], 30);
+    }
+
+    @Test
+    @DisplayName("2-opt는 되돌아가는 구간을 제거해 출발지에서 한 방향으로 방문한다")
+    void twoOptRemovesBacktracking() {
+        // given - 0 -> 2 -> 1 -> 3 순서는 1km 구간을 되돌아감
+        double[][] meters = RouteCalculator.distanceMatrix(latitudes, longitudes);
+        int[] zigzag = {0, 2, 1, 3};
+
+        // when
+        int[] improved = RouteCalculator.twoOpt(meters, zigzag);
+
+        // then
+        assertArrayEquals(new int[]{0, 1, 2, 3}, improved);
+        assertTrue(RouteCalculator.pathLength(meters, improved) < RouteCalculator.pathLength(meters, zigzag));
+    }
+
+    @Test
+    @DisplayName("최적화 시 출발지는 고정된다")
+    void optimizeKeepsStart() {
+        double[][] meters = RouteCalculator.distanceMatrix(latitudes, longitudes);
+
+        int[] order = RouteCalculator.optimize(meters, 3);
+
+        assertArrayEquals(new int[]{3, 2, 1, 0}, order);
+    }
+
+    @Test
+    @DisplayName("교통수단이 빠를수록 예상 이동 시간이 짧다")
+    void travelMinutesByVehicle() {
+        double walk = RouteCalculator.travelMinutes(3_000, Schedule.VehicleType.WALK);
+        double car = RouteCalculator.travelMinutes(3_000, Schedule.VehicleType.CAR);
+
+        assertTrue(walk > car);
+        assertEquals(car, RouteCalculator.travelMinutes(3_000, null));
+    }
+}
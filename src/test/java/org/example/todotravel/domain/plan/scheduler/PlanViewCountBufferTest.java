@@ -0,0 +1,144 @@
+package org.example.todotravel.domain.plan.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PlanViewCountBuffer planViewCountBuffer;
+
+    @Test
+    @DisplayName("조회 수는 플랜별로 합산되어 한 번의 배치로 반영된다")
+    @SuppressWarnings("unchecked")
+    void flushAggregatesViewsPerPlan() {
+        // given
+        planViewCountBuffer.record(1L);
+        planViewCountBuffer.record(1L);
+        planViewCountBuffer.record(1L);
+        planViewCountBuffer.record(2L);
+
+        // when
+        planViewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        List<Object[]> batchArgs = captor.getValue();
+        assertEquals(2, batchArgs.size());
+        for (Object[] args : batchArgs) {
+            long expected = args[2].equals(1L) ? 3L : 1L;
+            assertEquals(expected, args[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("반영할 조회 수가 없으면 쿼리를 실행하지 않는다")
+    void flushWithoutViewsDoesNothing() {
+        // when
+        planViewCountBuffer.flush();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회 수는 다음 주기에 다시 반영된다")
+    @SuppressWarnings("unchecked")
+    void failedFlushIsRetried() {
+        // given
+        planViewCountBuffer.record(1L);
+        planViewCountBuffer.record(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new DataAccessResourceFailureException("connection lost"))
+            .thenReturn(new int[]{1});
+
+        // when
+        planViewCountBuffer.flush();
+        planViewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+        assertEquals(2L, captor.getAllValues().get(1).get(0)[0]);
+        // 실패한 배치는 롤백되어 일부만 반영된 채 남지 않음
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("flush가 카운터를 정리하는 중에 들어온 조회도 유실되지 않는다")
+    @SuppressWarnings("unchecked")
+    void concurrentRecordsDuringFlushAreNotLost() throws Exception {
+        // given - 조회가 드문드문 들어와 flush가 0인 카운터를 자주 정리하는 상황
+        int threads = 4;
+        int recordsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long planId = t % 2 + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < recordsPerThread; i++) {
+                    planViewCountBuffer.record(planId);
+                    if (i % 100 == 0) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        try {
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                planViewCountBuffer.flush();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        planViewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), captor.capture());
+        long flushed = captor.getAllValues().stream()
+            .flatMap(List::stream)
+            .mapToLong(args -> (Long) args[0])
+            .sum();
+        assertEquals((long) threads * recordsPerThread, flushed);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.todotravel.domain.plan.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanSearchIndexTest {
+
+    private final PlanSearchIndex planSearchIndex = new PlanSearchIndex();
+
+    @Test
+    @DisplayName("띄어쓰기와 무관하게 부분 일치하는 플랜을 찾고 제목 일치가 더 높은 순위를 가진다")
+    void searchRanksTitleMatchesFirst() {
+        // given
+        planSearchIndex.index(1L, "부산 맛집 투어", "부산", "해운대에서 시작");
+        planSearchIndex.index(2L, "제주 여행", "제주", "맛집 위주로 다니는 일정");
+        planSearchIndex.index(3L, "서울 나들이", "서울", "궁궐 산책");
+
+        // when
+        List<Long> result = planSearchIndex.search("맛집");
+
+        // then
+        assertEquals(List.of(1L, 2L), result);
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 플랜만 반환한다")
+    void searchRequiresAllTokens() {
+        // given
+        planSearchIndex.index(1L, "부산 맛집 투어", "부산", null);
+        planSearchIndex.index(2L, "부산 바다 여행", "부산", null);
+
+        // when
+        List<Long> result = planSearchIndex.search("부산맛집");
+
+        // then
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    @DisplayName("수정된 플랜은 이전 내용으로 검색되지 않고, 삭제된 플랜은 결과에서 빠진다")
+    void reindexAndRemove() {
+        // given
+        planSearchIndex.index(1L, "강릉 여행", "강릉", null);
+        planSearchIndex.index(2L, "강릉 카페", "강릉", null);
+
+        // when
+        planSearchIndex.index(1L, "속초 여행", "속초", null);
+        planSearchIndex.remove(2L);
+
+        // then
+        assertTrue(planSearchIndex.search("강릉").isEmpty());
+        assertEquals(List.of(1L), planSearchIndex.search("속초"));
+        assertEquals(1, planSearchIndex.size());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 해당 글자를 포함하는 플랜을 찾는다")
+    void singleCharacterQuery() {
+        // given
+        planSearchIndex.index(1L, "Busan Trip", "부산", null);
+        planSearchIndex.index(2L, "서울 나들이", "서울", null);
+
+        // when & then
+        assertEquals(List.of(1L), planSearchIndex.search("부"));
+        assertEquals(List.of(1L), planSearchIndex.search("busan"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색은 수정/삭제된 플랜의 토큰을 더 이상 찾지 않는다")
+    void singleCharacterQueryAfterReindexAndRemove() {
+        // given
+        planSearchIndex.index(1L, "부산 여행", "부산", null);
+        planSearchIndex.index(2L, "부여 여행", "부여", null);
+
+        // when
+        planSearchIndex.index(1L, "서울 여행", "서울", null);
+        planSearchIndex.remove(2L);
+
+        // then
+        assertTrue(planSearchIndex.search("부").isEmpty());
+        assertEquals(List.of(1L), planSearchIndex.search("울"));
+    }
+}
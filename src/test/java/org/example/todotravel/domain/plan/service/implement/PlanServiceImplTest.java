@@ -0,0 +1,118 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.geo.LocationGridIndex;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.example.todotravel.global.image.ImageAttachHandler;
+import org.example.todotravel.global.image.ImagePipeline;
+import org.example.todotravel.global.image.ImageRendition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlanServiceImplTest {
+
+    @Mock
+    private LocationGridIndex locationGridIndex;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private ImagePipeline imagePipeline;
+
+    @InjectMocks
+    private PlanServiceImpl planService;
+
+    @Test
+    @DisplayName("주변 플랜 조회는 가까운 장소부터 최대 후보 수만 나눠서 조회한다")
+    @SuppressWarnings("unchecked")
+    void nearbyCandidatesAreCappedAndChunked() {
+        // given - 가까운 순으로 정렬된 2500개 장소
+        List<LocationGridIndex.Neighbor> neighbors = LongStream.rangeClosed(1, 2500)
+            .mapToObj(id -> new LocationGridIndex.Neighbor(id, id))
+            .toList();
+        when(locationGridIndex.withinRadius(anyDouble(), anyDouble(), anyDouble())).thenReturn(neighbors);
+        when(scheduleRepository.findPublicPlanLocationsByLocationIds(anyCollection())).thenReturn(List.of());
+
+        // when
+        planService.getNearbyPlans(35.1, 129.0, 50_000, 0, 12);
+
+        // then
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(scheduleRepository, times(4)).findPublicPlanLocationsByLocationIds(captor.capture());
+        List<Long> queried = captor.getAllValues().stream().flatMap(Collection::stream).toList();
+        assertEquals(PlanServiceImpl.MAX_CANDIDATE_LOCATIONS, queried.size());
+        assertTrue(captor.getAllValues().stream().allMatch(chunk -> chunk.size() <= PlanServiceImpl.LOCATION_ID_CHUNK_SIZE));
+        assertEquals(2000L, queried.stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("영역 플랜 조회도 후보 장소 수를 제한한다")
+    @SuppressWarnings("unchecked")
+    void areaCandidatesAreCapped() {
+        // given
+        List<Long> locationIds = LongStream.rangeClosed(1, 3000).boxed().toList();
+        when(locationGridIndex.withinBox(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenReturn(locationIds);
+        when(scheduleRepository.findPublicPlanLocationsByLocationIds(anyCollection())).thenReturn(List.of());
+
+        // when
+        planService.getPlansInArea(35.0, 128.9, 35.2, 129.1, 0, 12);
+
+        // then
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(scheduleRepository, atLeastOnce()).findPublicPlanLocationsByLocationIds(captor.capture());
+        assertEquals(PlanServiceImpl.MAX_CANDIDATE_LOCATIONS, captor.getAllValues().stream().mapToInt(Collection::size).sum());
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 조회하지 않는다")
+    void invalidPageSizeIsRejected() {
+        assertThrows(RuntimeException.class, () -> planService.getNearbyPlans(35.1, 129.0, 5000, 0, 0));
+        assertThrows(RuntimeException.class, () -> planService.getNearbyPlans(35.1, 129.0, 5000, 0, PlanServiceImpl.MAX_PAGE_SIZE + 1));
+        assertThrows(RuntimeException.class, () -> planService.getPlansInArea(35.0, 128.9, 35.2, 129.1, -1, 12));
+        verifyNoInteractions(locationGridIndex, scheduleRepository);
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드 토큰은 벌크 UPDATE로 발급해 플랜 엔티티를 변경하지 않는다")
+    void thumbnailTokenIsIssuedWithoutDirtyingPlan() {
+        // given
+        Plan plan = Plan.builder().planId(1L).version(3L).build();
+        when(planRepository.findByPlanId(1L)).thenReturn(Optional.of(plan));
+
+        // when
+        planService.updateThumbnailImageFromUpload(1L, "uploads/a");
+
+        // then - 발급한 토큰으로만 변환 결과가 반영됨
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(planRepository).issueImageUploadToken(eq(1L), token.capture());
+        assertNull(plan.getImageUploadToken());
+
+        ArgumentCaptor<ImageAttachHandler> handler = ArgumentCaptor.forClass(ImageAttachHandler.class);
+        verify(imagePipeline).submitStagedAfterCommit(eq("uploads/a"), any(), eq(List.of()), handler.capture());
+        handler.getValue().attach(Map.of(ImageRendition.FULL, "full", ImageRendition.CARD, "card", ImageRendition.THUMBNAIL, "small"));
+        verify(planRepository).attachThumbnailImages(1L, token.getValue(), "full", "card", "small");
+    }
+}
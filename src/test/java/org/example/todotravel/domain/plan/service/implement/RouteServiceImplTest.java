@@ -0,0 +1,80 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import org.example.todotravel.domain.plan.dto.response.PlanRouteResponseDto;
+import org.example.todotravel.domain.plan.dto.response.ScheduleResponseDto;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RouteServiceImplTest {
+    private static final Long PLAN_ID = 1L;
+
+    private ScheduleRepository scheduleRepository;
+    private ForkJoinPool forkJoinPool;
+    private RouteServiceImpl routeService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        forkJoinPool = new ForkJoinPool(2);
+        routeService = new RouteServiceImpl(scheduleRepository, forkJoinPool, 100, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("일정 id가 같아도 장소 좌표가 바뀌면 캐시된 거리 행렬을 쓰지 않는다")
+    void locationSwapOnSameScheduleRecomputesMatrix() {
+        // given - 두 번째 일정의 장소가 1km 지점에서 2km 지점으로 교체됨 (무효화 이벤트 없이)
+        when(scheduleRepository.findScheduleDtosByPlanId(PLAN_ID))
+            .thenReturn(List.of(stop(10L, 37.5), stop(11L, 37.509)))
+            .thenReturn(List.of(stop(10L, 37.5), stop(11L, 37.518)));
+
+        // when
+        PlanRouteResponseDto before = routeService.getPlanRoute(PLAN_ID);
+        PlanRouteResponseDto after = routeService.getPlanRoute(PLAN_ID);
+
+        // then
+        assertEquals(1_000, before.getTotalDistanceMeters().doubleValue(), 10);
+        assertEquals(2_000, after.getTotalDistanceMeters().doubleValue(), 20);
+    }
+
+    @Test
+    @DisplayName("일정 구성과 좌표가 같으면 같은 결과를 돌려준다")
+    void unchangedSchedulesReuseMatrix() {
+        // given
+        when(scheduleRepository.findScheduleDtosByPlanId(PLAN_ID))
+            .thenReturn(List.of(stop(10L, 37.5), stop(11L, 37.509)));
+
+        // when
+        PlanRouteResponseDto first = routeService.getPlanRoute(PLAN_ID);
+        PlanRouteResponseDto second = routeService.getPlanRoute(PLAN_ID);
+
+        // then
+        assertEquals(first.getTotalDistanceMeters(), second.getTotalDistanceMeters());
+    }
+
+    private static ScheduleResponseDto stop(Long scheduleId, double latitude) {
+        return ScheduleResponseDto.builder()
+            .scheduleId(scheduleId)
+            .status(false)
+            .travelDayCount(1)
+            .planId(PLAN_ID)
+            .locationId(scheduleId)
+            .locationName("장소" + scheduleId)
+            .latitude(latitude)
+            .longitude(127.0)
+            .build();
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.todotravel.domain.plan.dto.request.ScheduleBatchRequestDto;
+import org.example.todotravel.domain.plan.dto.request.ScheduleCreateRequestDto;
+import org.example.todotravel.domain.plan.dto.request.ScheduleDeleteRequestDto;
+import org.example.todotravel.domain.plan.entity.Location;
+import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.entity.Schedule;
+import org.example.todotravel.domain.plan.repository.PlanDayBudgetRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.ScheduleRepository;
+import org.example.todotravel.domain.plan.service.LocationService;
+import org.example.todotravel.domain.plan.service.PlanService;
+import org.example.todotravel.global.exception.EditConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleServiceImplTest {
+    private static final Long PLAN_ID = 1L;
+
+    private ScheduleRepository scheduleRepository;
+    private PlanRepository planRepository;
+    private PlanDayBudgetRepository planDayBudgetRepository;
+    private LocationService locationService;
+    private PlanService planService;
+    private ScheduleServiceImpl scheduleService;
+    private Plan plan;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        planRepository = mock(PlanRepository.class);
+        planDayBudgetRepository = mock(PlanDayBudgetRepository.class);
+        locationService = mock(LocationService.class);
+        planService = mock(PlanService.class);
+        scheduleService = new ScheduleServiceImpl(scheduleRepository, planRepository, planDayBudgetRepository,
+            locationService, planService, mock(ApplicationEventPublisher.class));
+        plan = Plan.builder().planId(PLAN_ID).build();
+        when(planService.getPlan(PLAN_ID)).thenReturn(plan);
+    }
+
+    private Schedule schedule(Long scheduleId, Long version) {
+        return Schedule.builder().scheduleId(scheduleId).version(version).plan(plan).travelDayCount(1).price(1000L).status(false).build();
+    }
+
+    @Test
+    void checkVersionSkipsWhenVersionIsNotSent() {
+        assertDoesNotThrow(() -> ScheduleServiceImpl.checkVersion(schedule(10L, 3L), null));
+        assertDoesNotThrow(() -> ScheduleServiceImpl.checkVersion(schedule(10L, 3L), 3L));
+        assertThrows(EditConflictException.class, () -> ScheduleServiceImpl.checkVersion(schedule(10L, 3L), 2L));
+    }
+
+    @Test
+    void removeScheduleRejectsStaleVersion() {
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule(10L, 3L)));
+
+        assertThrows(EditConflictException.class, () -> scheduleService.removeSchedule(10L, 2L));
+        verify(scheduleRepository, never()).delete(any());
+    }
+
+    @Test
+    void singleFieldUpdatesRejectStaleVersion() {
+        Schedule schedule = schedule(10L, 3L);
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+
+        assertThrows(EditConflictException.class, () -> scheduleService.updatePrice(10L, 5000L, 2L));
+        assertThrows(EditConflictException.class, () -> scheduleService.updateDescription(10L, "변경", 2L));
+        assertThrows(EditConflictException.class, () -> scheduleService.updateStatus(10L, 2L));
+        assertThrows(EditConflictException.class, () -> scheduleService.updateVehicle(10L, Schedule.VehicleType.WALK, 2L));
+
+        assertEquals(1000L, schedule.getPrice());
+        verify(scheduleRepository, never()).save(any());
+    }
+
+    @Test
+    void batchDeleteRejectsStaleVersion() {
+        when(scheduleRepository.findAllByPlanIdAndScheduleIds(eq(PLAN_ID), anyCollection()))
+            .thenReturn(List.of(schedule(10L, 3L)));
+        ScheduleBatchRequestDto dto = ScheduleBatchRequestDto.builder()
+            .deletes(List.of(new ScheduleDeleteRequestDto(10L, 2L)))
+            .build();
+
+        assertThrows(EditConflictException.class, () -> scheduleService.applyScheduleBatch(PLAN_ID, dto));
+        verify(scheduleRepository, never()).deleteAll(anyIterable());
+    }
+
+    @Test
+    void batchDeleteWithCurrentVersionDeletes() {
+        Schedule schedule = schedule(10L, 3L);
+        when(scheduleRepository.findAllByPlanIdAndScheduleIds(eq(PLAN_ID), anyCollection()))
+            .thenReturn(List.of(schedule));
+        ScheduleBatchRequestDto dto = ScheduleBatchRequestDto.builder()
+            .deletes(List.of(new ScheduleDeleteRequestDto(10L, 3L)))
+            .build();
+
+        scheduleService.applyScheduleBatch(PLAN_ID, dto);
+        verify(scheduleRepository).deleteAll(List.of(schedule));
+    }
+
+    @Test
+    void applyVoteResultReplacesLocationDayAndTimeOfPreviousSchedule() {
+        Schedule schedule = schedule(10L, 3L);
+        schedule.setTravelTime(LocalTime.of(9, 0));
+        Location location = Location.builder().locationId(7L).build();
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+        when(scheduleRepository.save(schedule)).thenReturn(schedule);
+        when(locationService.getByLocationId(7L)).thenReturn(location);
+
+        scheduleService.applyVoteResult(PLAN_ID, 10L, ScheduleCreateRequestDto.builder()
+            .locationId(7L).travelDayCount(2).travelTime(LocalTime.of(14, 30)).build());
+
+        assertEquals(location, schedule.getLocation());
+        assertEquals(2, schedule.getTravelDayCount());
+        assertEquals(LocalTime.of(14, 30), schedule.getTravelTime());
+        // 일차가 바뀌었으므로 가격을 1일차 지출에서 2일차 지출로 옮김 (플랜 전체 지출은 그대로)
+        verify(planDayBudgetRepository).addSpent(PLAN_ID, 1, -1000L);
+        verify(planDayBudgetRepository).addSpent(PLAN_ID, 2, 1000L);
+    }
+
+    @Test
+    void removeVoteResultDeletesScheduleAndRefundsSpent() {
+        Schedule schedule = schedule(10L, 3L);
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.of(schedule));
+
+        scheduleService.removeVoteResult(PLAN_ID, 10L);
+
+        verify(scheduleRepository).delete(schedule);
+        verify(planDayBudgetRepository).addSpent(PLAN_ID, 1, -1000L);
+        verify(planRepository).addSpentBudget(PLAN_ID, -1000L);
+    }
+
+    @Test
+    void removeVoteResultIgnoresScheduleAlreadyDeleted() {
+        when(scheduleRepository.findById(10L)).thenReturn(Optional.empty());
+
+        scheduleService.removeVoteResult(PLAN_ID, 10L);
+
+        verify(scheduleRepository, never()).delete(any());
+    }
+
+    @Test
+    void deleteRequestAcceptsPlainIdOrObject() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ScheduleBatchRequestDto dto = objectMapper.readValue(
+            "{\"deletes\": [10, {\"scheduleId\": 11, \"version\": 4}]}", ScheduleBatchRequestDto.class);
+
+        assertEquals(10L, dto.getDeletes().get(0).getScheduleId());
+        assertNull(dto.getDeletes().get(0).getVersion());
+        assertEquals(11L, dto.getDeletes().get(1).getScheduleId());
+        assertEquals(4L, dto.getDeletes().get(1).getVersion());
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import org.example.todotravel.domain.plan.entity.Location;
+import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.entity.Vote;
+import org.example.todotravel.domain.plan.entity.VoteLog;
+import org.example.todotravel.domain.plan.repository.LocationRepository;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.PlanUserRepository;
+import org.example.todotravel.domain.plan.repository.VoteLogRepository;
+import org.example.todotravel.domain.plan.repository.VoteRepository;
+import org.example.todotravel.domain.plan.service.VoteLogService;
+import org.example.todotravel.domain.user.entity.Role;
+import org.example.todotravel.domain.user.entity.User;
+import org.example.todotravel.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 여러 사용자가 동시에 투표해도 투표 수와 투표 기록이 정확히 맞는지 확인
+// 외래 키 공유 잠금, 갭 잠금으로 인한 교착은 InnoDB에서만 재현되므로 실제 MySQL로 실행 (Docker가 없으면 건너뜀)
+// 각 스레드가 자신의 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(VoteLogServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VoteLogServiceImplConcurrencyTest {
+    private static final int VOTERS = 40;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private VoteLogService voteLogService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlanRepository planRepository;
+    @Autowired
+    private PlanUserRepository planUserRepository;
+    @Autowired
+    private LocationRepository locationRepository;
+    @Autowired
+    private VoteRepository voteRepository;
+    @Autowired
+    private VoteLogRepository voteLogRepository;
+
+    private Long voteId;
+    private List<User> voters;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(user("owner"));
+        Plan plan = planRepository.save(Plan.builder()
+            .title("부산 여행")
+            .frontLocation("부산광역시")
+            .location("해운대구")
+            .startDate(LocalDate.now())
+            .endDate(LocalDate.now().plusDays(2))
+            .isPublic(true)
+            .status(false)
+            .recruitment(false)
+            .viewCount(0L)
+            .popularityScore(0.0)
+            .likeCount(0L)
+            .bookmarkCount(0L)
+            .spentBudget(0L)
+            .planUser(owner)
+            .build());
+        PlanUser planUser = planUserRepository.save(PlanUser.builder()
+            .status(PlanUser.StatusType.ACCEPTED)
+            .user(owner)
+            .plan(plan)
+            .build());
+        Location location = locationRepository.save(Location.builder()
+            .name("해운대 해수욕장")
+            .latitude(35.1587)
+            .longitude(129.1604)
+            .build());
+        voteId = voteRepository.save(Vote.builder()
+            .plan(plan)
+            .location(location)
+            .planUser(planUser)
+            .voteCount(0)
+            .startDate(LocalDateTime.now())
+            .endDate(LocalDateTime.now().plusDays(1))
+            .category(Vote.Category.LUNCH)
+            .build()).getVoteId();
+
+        voters = new ArrayList<>();
+        for (int i = 0; i < VOTERS; i++) {
+            voters.add(userRepository.save(user("voter" + i)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteLogRepository.deleteAllInBatch();
+        voteRepository.deleteAllInBatch();
+        planUserRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+        locationRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 사용자가 동시에 투표해도 투표 수가 누락되지 않는다")
+    void concurrentVotesAreCounted() throws Exception {
+        // when
+        List<Boolean> results = runConcurrently(voters.stream()
+            .<Callable<Boolean>>map(voter -> () -> voteLogService.castVote(voteId, voter))
+            .toList());
+
+        // then - 모든 요청이 성공(교착/잠금 대기 시간 초과 없음)하고 모두 투표 상태
+        assertTrue(results.stream().allMatch(Boolean::booleanValue));
+        assertEquals(VOTERS, voteCount());
+        assertEquals(VOTERS, voteLogsOfVote().size());
+        assertEquals(VOTERS, votedLogCount());
+    }
+
+    @Test
+    @DisplayName("투표와 취소가 동시에 섞여도 투표 수는 투표한 사용자 수와 같다")
+    void concurrentTogglesMatchVotedState() throws Exception {
+        // given - 짝수 번째 사용자는 투표 후 취소(2회), 홀수 번째 사용자는 투표-취소-투표(3회)
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < voters.size(); i++) {
+            User voter = voters.get(i);
+            int times = i % 2 == 0 ? 2 : 3;
+            tasks.add(() -> {
+                boolean voted = false;
+                for (int n = 0; n < times; n++) {
+                    voted = voteLogService.castVote(voteId, voter);
+                }
+                return voted;
+            });
+        }
+
+        // when
+        List<Boolean> results = runConcurrently(tasks);
+
+        // then - 각 사용자의 마지막 응답은 자신의 최종 투표 상태와 같음
+        for (int i = 0; i < voters.size(); i++) {
+            assertEquals(i % 2 == 1, results.get(i));
+        }
+        assertEquals(VOTERS / 2, voteCount());
+        assertEquals(VOTERS, voteLogsOfVote().size());
+        assertEquals(VOTERS / 2, votedLogCount());
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 여러 번 눌러도 투표 기록은 한 행이고 투표 수와 일치한다")
+    void sameUserConcurrentClicksKeepSingleLog() throws Exception {
+        // given
+        User voter = voters.get(0);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(() -> voteLogService.castVote(voteId, voter));
+        }
+
+        // when
+        List<Boolean> results = runConcurrently(tasks);
+
+        // then - 10번 모두 순서대로 토글되어 투표/취소 응답이 절반씩이고 최종 상태는 취소
+        assertEquals(5, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(1, voteLogsOfVote().size());
+        assertEquals(0, voteCount());
+        assertEquals(0, votedLogCount());
+    }
+
+    // 모든 작업을 동시에 시작시키고 작업 순서대로 결과 반환
+    // 하나라도 실패하면(교착으로 인한 롤백 등) 그 예외를 그대로 던져 테스트를 실패시킴
+    private List<Boolean> runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Boolean> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int voteCount() {
+        return voteRepository.findById(voteId).orElseThrow().getVoteCount();
+    }
+
+    private List<VoteLog> voteLogsOfVote() {
+        return voteLogRepository.findAll().stream()
+            .filter(log -> log.getVote().getVoteId().equals(voteId))
+            .toList();
+    }
+
+    private long votedLogCount() {
+        return voteLogsOfVote().stream().filter(VoteLog::isVoted).count();
+    }
+
+    private static User user(String username) {
+        return User.builder()
+            .username(username)
+            .email(username + "@todotravel.com")
+            .password("password")
+            .name(username)
+            .nickname(username)
+            .createdDate(LocalDateTime.now())
+            .birthDate(LocalDate.of(2000, 1, 1))
+            .role(Role.ROLE_USER)
+            .build();
+    }
+}
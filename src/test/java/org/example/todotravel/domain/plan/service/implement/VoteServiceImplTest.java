@@ -0,0 +1,276 @@
+package org.example.todotravel.domain.plan.service.implement;
+
+import org.example.todotravel.domain.notification.dto.request.AlarmRequestDto;
+import org.example.todotravel.domain.notification.service.AlarmService;
+import org.example.todotravel.domain.plan.dto.request.ScheduleCreateRequestDto;
+import org.example.todotravel.domain.plan.dto.request.VoteRequestDto;
+import org.example.todotravel.domain.plan.entity.Location;
+import org.example.todotravel.domain.plan.entity.Plan;
+import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.entity.Schedule;
+import org.example.todotravel.domain.plan.entity.Vote;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.VoteRepository;
+import org.example.todotravel.domain.plan.service.LocationService;
+import org.example.todotravel.domain.plan.service.PlanService;
+import org.example.todotravel.domain.plan.service.ScheduleService;
+import org.example.todotravel.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteServiceImplTest {
+    private static final Long PLAN_ID = 1L;
+
+    private VoteRepository voteRepository;
+    private PlanRepository planRepository;
+    private ScheduleService scheduleService;
+    private AlarmService alarmService;
+    private VoteServiceImpl voteService;
+    private Plan plan;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        planRepository = mock(PlanRepository.class);
+        scheduleService = mock(ScheduleService.class);
+        alarmService = mock(AlarmService.class);
+        PlanService planService = mock(PlanService.class);
+        voteService = new VoteServiceImpl(voteRepository, planService, mock(LocationService.class), planRepository,
+            scheduleService, alarmService, mock(ApplicationEventPublisher.class));
+
+        User owner = User.builder().userId(1L).build();
+        member = User.builder().userId(2L).build();
+        // 3일 일정 (1일차 ~ 3일차)
+        plan = Plan.builder().planId(PLAN_ID).title("여행").planUser(owner)
+            .startDate(LocalDate.of(2026, 5, 1)).endDate(LocalDate.of(2026, 5, 3)).build();
+        plan.setPlanUsers(Set.of(PlanUser.builder().user(member).plan(plan).status(PlanUser.StatusType.ACCEPTED).build()));
+
+        when(planService.getPlan(PLAN_ID)).thenReturn(plan);
+        when(planRepository.findWithLockByPlanId(PLAN_ID)).thenReturn(Optional.of(plan));
+    }
+
+    private Vote vote(Long voteId, int voteCount, LocalDateTime endDate) {
+        return Vote.builder().voteId(voteId).plan(plan)
+            .location(Location.builder().locationId(voteId * 100).name("장소" + voteId).build())
+            .voteCount(voteCount).endDate(endDate).category(Vote.Category.LUNCH)
+            .travelDayCount(2).travelTime(LocalTime.of(12, voteId.intValue() % 60)).build();
+    }
+
+    private Vote closedVote(Long voteId, int voteCount) {
+        Vote vote = vote(voteId, voteCount, LocalDateTime.now().minusHours(1));
+        vote.setClosedAt(LocalDateTime.now().minusMinutes(30));
+        return vote;
+    }
+
+    // 마감 타이머가 돌아야 하는 투표 (마감 시각은 지났지만 아직 닫히지 않음)
+    private Vote dueVote(Long voteId, int voteCount) {
+        Vote vote = vote(voteId, voteCount, LocalDateTime.now().minusMinutes(1));
+        when(voteRepository.findPlanIdByVoteId(voteId)).thenReturn(Optional.of(PLAN_ID));
+        when(voteRepository.findWithLockByVoteId(voteId)).thenReturn(Optional.of(vote));
+        return vote;
+    }
+
+    private void stubGroup(List<Vote> group) {
+        when(voteRepository.findVoteGroupForUpdate(PLAN_ID, Vote.Category.LUNCH, 2)).thenReturn(group);
+    }
+
+    private static Schedule scheduleWithId(Long scheduleId) {
+        return Schedule.builder().scheduleId(scheduleId).build();
+    }
+
+    @Test
+    void closeVoteReturnsExtendedDeadlineWithoutClosing() {
+        LocalDateTime extended = LocalDateTime.now().plusHours(1);
+        Vote vote = vote(10L, 3, extended);
+        when(voteRepository.findPlanIdByVoteId(10L)).thenReturn(Optional.of(PLAN_ID));
+        when(voteRepository.findWithLockByVoteId(10L)).thenReturn(Optional.of(vote));
+
+        assertEquals(Optional.of(extended), voteService.closeVote(10L));
+
+        assertFalse(vote.isClosed());
+        verify(voteRepository, never()).findVoteGroupForUpdate(anyLong(), any(), any());
+        verify(scheduleService, never()).applyVoteResult(anyLong(), any(), any());
+    }
+
+    @Test
+    void closeVoteBreaksTieByEarliestVote() {
+        Vote earlier = closedVote(10L, 3);
+        Vote later = dueVote(11L, 3);
+        stubGroup(List.of(earlier, later));
+        when(scheduleService.applyVoteResult(eq(PLAN_ID), isNull(), any())).thenReturn(scheduleWithId(100L));
+
+        assertEquals(Optional.empty(), voteService.closeVote(11L));
+
+        assertTrue(later.isClosed());
+        assertTrue(earlier.isWinner());
+        assertFalse(later.isWinner());
+        assertEquals(100L, earlier.getScheduleId());
+        ArgumentCaptor<ScheduleCreateRequestDto> dto = ArgumentCaptor.forClass(ScheduleCreateRequestDto.class);
+        verify(scheduleService).applyVoteResult(eq(PLAN_ID), isNull(), dto.capture());
+        assertEquals(1000L, dto.getValue().getLocationId());
+    }
+
+    @Test
+    void reSettlementMovesPreviousScheduleToNewWinner() {
+        Vote previousWinner = closedVote(10L, 2);
+        previousWinner.setWinner(true);
+        previousWinner.setScheduleId(100L);
+        Vote added = dueVote(12L, 5);
+        stubGroup(List.of(previousWinner, added));
+        when(scheduleService.applyVoteResult(eq(PLAN_ID), eq(100L), any())).thenReturn(scheduleWithId(100L));
+
+        voteService.closeVote(12L);
+
+        // 새 일정을 만들지 않고 이전 선정 일정을 새 결과(장소/시간)로 교체
+        ArgumentCaptor<ScheduleCreateRequestDto> dto = ArgumentCaptor.forClass(ScheduleCreateRequestDto.class);
+        verify(scheduleService).applyVoteResult(eq(PLAN_ID), eq(100L), dto.capture());
+        assertEquals(1200L, dto.getValue().getLocationId());
+        assertEquals(added.getTravelTime(), dto.getValue().getTravelTime());
+        assertFalse(previousWinner.isWinner());
+        assertNull(previousWinner.getScheduleId());
+        assertTrue(added.isWinner());
+        assertEquals(100L, added.getScheduleId());
+    }
+
+    @Test
+    void closeVoteWithoutAnyBallotCreatesNoScheduleAndNotifiesNoWinner() {
+        Vote vote = dueVote(10L, 0);
+        stubGroup(List.of(vote));
+
+        voteService.closeVote(10L);
+
+        assertFalse(vote.isWinner());
+        verify(scheduleService, never()).applyVoteResult(anyLong(), any(), any());
+        ArgumentCaptor<AlarmRequestDto> alarm = ArgumentCaptor.forClass(AlarmRequestDto.class);
+        verify(alarmService, times(2)).createAlarm(alarm.capture());
+        assertEquals(List.of(1L, 2L), alarm.getAllValues().stream().map(AlarmRequestDto::getUserId).toList());
+        assertTrue(alarm.getValue().getAlarmContent().contains("선정된 장소가 없습니다"));
+    }
+
+    @Test
+    void removeWinnerDeletesItsScheduleAndResettlesGroup() {
+        Vote winner = closedVote(10L, 3);
+        winner.setWinner(true);
+        winner.setScheduleId(100L);
+        Vote runnerUp = closedVote(11L, 1);
+        when(voteRepository.findWithLockByVoteId(10L)).thenReturn(Optional.of(winner));
+        stubGroup(List.of(runnerUp));
+        when(scheduleService.applyVoteResult(eq(PLAN_ID), isNull(), any())).thenReturn(scheduleWithId(101L));
+
+        voteService.removeVote(PLAN_ID, 10L, member);
+
+        InOrder order = inOrder(voteRepository, scheduleService);
+        order.verify(voteRepository).delete(winner);
+        order.verify(scheduleService).removeVoteResult(PLAN_ID, 100L);
+        order.verify(scheduleService).applyVoteResult(eq(PLAN_ID), isNull(), any());
+        assertTrue(runnerUp.isWinner());
+        assertEquals(101L, runnerUp.getScheduleId());
+    }
+
+    @Test
+    void removeClosedLoserKeepsResult() {
+        Vote loser = closedVote(11L, 1);
+        when(voteRepository.findWithLockByVoteId(11L)).thenReturn(Optional.of(loser));
+
+        voteService.removeVote(PLAN_ID, 11L, member);
+
+        verify(voteRepository).delete(loser);
+        verify(scheduleService, never()).removeVoteResult(anyLong(), any());
+        verify(voteRepository, never()).findVoteGroupForUpdate(anyLong(), any(), any());
+    }
+
+    @Test
+    void removeVoteRejectsVoteOfAnotherPlan() {
+        Vote other = closedVote(11L, 1);
+        other.setPlan(Plan.builder().planId(2L).build());
+        when(voteRepository.findWithLockByVoteId(11L)).thenReturn(Optional.of(other));
+
+        assertThrows(RuntimeException.class, () -> voteService.removeVote(PLAN_ID, 11L, member));
+        verify(voteRepository, never()).delete(any());
+    }
+
+    private static VoteRequestDto moveTo(Vote.Category category, Integer travelDayCount) {
+        return VoteRequestDto.builder().locationId(1L).category(category)
+            .endDate(LocalDateTime.now().plusDays(1)).travelDayCount(travelDayCount).travelTime(LocalTime.NOON).build();
+    }
+
+    @Test
+    void movingLastOpenCandidateSettlesPreviousGroup() {
+        Vote closed = closedVote(10L, 3);
+        Vote open = vote(11L, 1, LocalDateTime.now().plusHours(1));
+        when(voteRepository.findWithLockByVoteId(11L)).thenReturn(Optional.of(open));
+        when(voteRepository.save(open)).thenReturn(open);
+        stubGroup(List.of(closed));
+        when(scheduleService.applyVoteResult(eq(PLAN_ID), isNull(), any())).thenReturn(scheduleWithId(100L));
+
+        voteService.updateVote(PLAN_ID, 11L, member, moveTo(Vote.Category.DINNER, 2));
+
+        // 남은 후보(마감됨)로 이전 그룹을 선정
+        assertEquals(Vote.Category.DINNER, open.getCategory());
+        assertTrue(closed.isWinner());
+        assertEquals(100L, closed.getScheduleId());
+        verify(alarmService, times(2)).createAlarm(any());
+    }
+
+    @Test
+    void updateWithinSameGroupDoesNotSettle() {
+        Vote open = vote(11L, 1, LocalDateTime.now().plusHours(1));
+        when(voteRepository.findWithLockByVoteId(11L)).thenReturn(Optional.of(open));
+        when(voteRepository.save(open)).thenReturn(open);
+
+        voteService.updateVote(PLAN_ID, 11L, member, moveTo(Vote.Category.LUNCH, 2));
+
+        verify(voteRepository, never()).findVoteGroupForUpdate(anyLong(), any(), any());
+    }
+
+    @Test
+    void updateVoteRejectsVoteOfAnotherPlan() {
+        Vote other = vote(11L, 1, LocalDateTime.now().plusHours(1));
+        other.setPlan(Plan.builder().planId(2L).build());
+        when(voteRepository.findWithLockByVoteId(11L)).thenReturn(Optional.of(other));
+
+        assertThrows(RuntimeException.class, () -> voteService.updateVote(PLAN_ID, 11L, member, moveTo(Vote.Category.DINNER, 2)));
+        assertEquals(Vote.Category.LUNCH, other.getCategory());
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void travelDayCountOutsidePlanIsRejected() {
+        VoteRequestDto tooLate = VoteRequestDto.builder().locationId(1L).category(Vote.Category.LUNCH)
+            .endDate(LocalDateTime.now().plusDays(1)).travelDayCount(4).build();
+        VoteRequestDto zero = VoteRequestDto.builder().locationId(1L).category(Vote.Category.LUNCH)
+            .endDate(LocalDateTime.now().plusDays(1)).travelDayCount(0).build();
+
+        assertThrows(RuntimeException.class, () -> voteService.createVote(PLAN_ID, member, tooLate));
+        assertThrows(RuntimeException.class, () -> voteService.createVote(PLAN_ID, member, zero));
+        assertThrows(RuntimeException.class, () -> voteService.updateVote(PLAN_ID, 10L, member, tooLate));
+        verify(voteRepository, never()).save(any());
+    }
+}
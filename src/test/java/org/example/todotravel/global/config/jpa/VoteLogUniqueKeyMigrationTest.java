@@ -0,0 +1,78 @@
+package org.example.todotravel.global.config.jpa;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// information_schema 조회와 MySQL 전용 DELETE JOIN을 쓰므로 실제 MySQL로 확인
+@Testcontainers(disabledWithoutDocker = true)
+class VoteLogUniqueKeyMigrationTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS vote_logs");
+    }
+
+    private int keyCount() {
+        return jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'vote_logs' AND index_name = ?
+            """, Integer.class, VoteLogUniqueKeyMigration.KEY_NAME);
+    }
+
+    @Test
+    @DisplayName("중복 투표 기록이 있는 기존 테이블은 중복을 정리한 뒤 unique 키를 추가한다")
+    void removesDuplicatesThenAddsKey() {
+        // given - unique 키 도입 이전 테이블 (같은 사용자의 기록이 여러 행)
+        jdbcTemplate.execute("""
+            CREATE TABLE vote_logs (log_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+            vote_id BIGINT NOT NULL, user_id BIGINT NOT NULL, is_voted BIT NOT NULL)
+            """);
+        jdbcTemplate.update("INSERT INTO vote_logs (vote_id, user_id, is_voted) VALUES (1, 1, 1), (1, 1, 0), (1, 1, 1), (1, 2, 1), (2, 1, 0)");
+
+        // when
+        new VoteLogUniqueKeyMigration(dataSource).afterPropertiesSet();
+
+        // then - 가장 먼저 생긴 행만 남고, 이후 같은 사용자의 행은 추가되지 않음
+        List<Long> logIds = jdbcTemplate.queryForList("SELECT log_id FROM vote_logs ORDER BY log_id", Long.class);
+        assertEquals(List.of(1L, 4L, 5L), logIds);
+        assertEquals(1, keyCount());
+        assertThrows(DuplicateKeyException.class,
+            () -> jdbcTemplate.update("INSERT INTO vote_logs (vote_id, user_id, is_voted) VALUES (1, 1, 1)"));
+
+        // 다시 시작해도 아무것도 하지 않음
+        assertDoesNotThrow(() -> new VoteLogUniqueKeyMigration(dataSource).afterPropertiesSet());
+    }
+
+    @Test
+    @DisplayName("테이블이 없는 새 DB에서는 아무것도 하지 않는다 (Hibernate가 키를 포함해 생성)")
+    void skipsWhenTableDoesNotExist() {
+        // when
+        new VoteLogUniqueKeyMigration(dataSource).afterPropertiesSet();
+
+        // then
+        assertEquals(0, jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.tables
+            WHERE table_schema = DATABASE() AND table_name = 'vote_logs'
+            """, Integer.class));
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.todotravel.global.config.socket;
+
+import org.example.todotravel.domain.plan.entity.PlanUser;
+import org.example.todotravel.domain.plan.repository.PlanRepository;
+import org.example.todotravel.domain.plan.repository.PlanUserRepository;
+import org.example.todotravel.global.jwt.util.JwtTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.security.Principal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StompAuthChannelInterceptorTest {
+    private PlanRepository planRepository;
+    private PlanUserRepository planUserRepository;
+    private StompAuthChannelInterceptor interceptor;
+    private final Principal member = () -> "member";
+
+    @BeforeEach
+    void setUp() {
+        planRepository = mock(PlanRepository.class);
+        planUserRepository = mock(PlanUserRepository.class);
+        interceptor = new StompAuthChannelInterceptor(mock(JwtTokenizer.class), planRepository, planUserRepository);
+        when(planRepository.findIsPublicByPlanId(1L)).thenReturn(Optional.of(true));
+        when(planRepository.findIsPublicByPlanId(2L)).thenReturn(Optional.of(false));
+        when(planUserRepository.existsMemberByPlanIdAndUsername(2L, "member", PlanUser.StatusType.ACCEPTED)).thenReturn(true);
+    }
+
+    @Test
+    void publicPlanTopicsAreOpenToAnyone() {
+        assertDoesNotThrow(() -> interceptor.checkSubscription("/sub/plan/1", null));
+        assertDoesNotThrow(() -> interceptor.checkSubscription("/sub/plan/1/vote", null));
+    }
+
+    @Test
+    void privatePlanTopicsRequireParticipant() {
+        assertThrows(AccessDeniedException.class, () -> interceptor.checkSubscription("/sub/plan/2", null));
+        assertThrows(AccessDeniedException.class, () -> interceptor.checkSubscription("/sub/plan/2/vote", () -> "stranger"));
+        assertDoesNotThrow(() -> interceptor.checkSubscription("/sub/plan/2/vote", member));
+    }
+
+    @Test
+    void unknownPlanIsDenied() {
+        when(planRepository.findIsPublicByPlanId(3L)).thenReturn(Optional.empty());
+        assertThrows(AccessDeniedException.class, () -> interceptor.checkSubscription("/sub/plan/3", member));
+    }
+
+    @Test
+    void otherTopicsAreNotChecked() {
+        assertDoesNotThrow(() -> interceptor.checkSubscription("/sub/chatroom/5", null));
+        verify(planRepository, never()).findIsPublicByPlanId(anyLong());
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.todotravel.global.handler;
+
+import org.example.todotravel.global.exception.EditConflictException;
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GlobalExceptionHandlerTest {
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConflictController())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void editConflictReturns409() throws Exception {
+        mockMvc.perform(get("/test/edit-conflict"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("다른 사용자가 먼저 수정한 일정입니다."));
+    }
+
+    @Test
+    void optimisticLockFailureReturns409() throws Exception {
+        mockMvc.perform(get("/test/optimistic-lock"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("다른 사용자가 먼저 수정했습니다. 최신 내용을 확인 후 다시 시도해주세요."));
+    }
+
+    @Test
+    void serverBusyReturns503WithRetryAfter() throws Exception {
+        mockMvc.perform(get("/test/busy"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "5"))
+            .andExpect(jsonPath("$.message").value("요청이 많아 잠시 후 다시 시도해주세요."));
+    }
+
+    @RestController
+    static class ConflictController {
+        @GetMapping("/test/edit-conflict")
+        public void editConflict() {
+            throw new EditConflictException("다른 사용자가 먼저 수정한 일정입니다.");
+        }
+
+        @GetMapping("/test/optimistic-lock")
+        public void optimisticLock() {
+            throw new ObjectOptimisticLockingFailureException("Schedule", 10L);
+        }
+
+        @GetMapping("/test/busy")
+        public void busy() {
+            throw new ServerBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
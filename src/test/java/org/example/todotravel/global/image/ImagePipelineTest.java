@@ -0,0 +1,98 @@
+package org.example.todotravel.global.image;
+
+import org.example.todotravel.global.exception.ServerBusyException;
+import org.example.todotravel.global.storage.ObjectDeletionQueue;
+import org.example.todotravel.global.storage.ObjectStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ImagePipelineTest {
+    private final ObjectStorage objectStorage = mock(ObjectStorage.class);
+
+    private ImagePipeline pipeline(ExecutorService executor, long maxQueuedBytes) {
+        return new ImagePipeline(objectStorage, mock(ObjectDeletionQueue.class), executor,
+            mock(PlatformTransactionManager.class), 20 * 1024 * 1024, 40_000_000, maxQueuedBytes);
+    }
+
+    private static byte[] png() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+    @Test
+    @DisplayName("변환 대기 중인 원본이 한도를 넘으면 업로드 접수 단계에서 거절한다")
+    void readUploadRejectsWhenQueuedBytesExceeded() throws IOException {
+        // given
+        byte[] bytes = png();
+        ImagePipeline pipeline = pipeline(mock(ExecutorService.class), bytes.length - 1);
+
+        // when & then
+        assertThrows(ServerBusyException.class,
+            () -> pipeline.readUpload(new MockMultipartFile("file", "a.png", "image/png", bytes)));
+    }
+
+    @Test
+    @DisplayName("실행기 대기열이 가득 차면 업로드 접수 단계에서 거절한다")
+    void readUploadRejectsWhenExecutorQueueIsFull() throws Exception {
+        // given - 스레드 하나가 작업 중이고 대기열(1)도 찬 상태
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(1));
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> { });
+            ImagePipeline pipeline = pipeline(executor, Long.MAX_VALUE);
+
+            // when & then
+            assertThrows(ServerBusyException.class,
+                () -> pipeline.readUpload(new MockMultipartFile("file", "a.png", "image/png", png())));
+            assertThrows(ServerBusyException.class, () -> pipeline.checkStagedUpload("uploads/a"));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("실행기가 작업을 거절하면 호출한 스레드에서 변환하지 않고 건너뛴다")
+    void rejectedJobIsNotRunOnCallerThread() throws Exception {
+        // given
+        ExecutorService executor = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException("full")).when(executor).execute(any());
+        ImageAttachHandler handler = mock(ImageAttachHandler.class);
+        ImagePipeline pipeline = pipeline(executor, Long.MAX_VALUE);
+
+        // when
+        assertDoesNotThrow(() -> pipeline.submitAfterCommit(png(), EnumSet.allOf(ImageRendition.class), List.of(), handler));
+
+        // then
+        verify(objectStorage, never()).put(anyString(), any(byte[].class), anyString());
+        verifyNoInteractions(handler);
+    }
+}
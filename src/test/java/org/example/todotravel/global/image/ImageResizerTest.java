@@ -0,0 +1,113 @@
+package org.example.todotravel.global.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResizerTest {
+
+    @Test
+    @DisplayName("가로 최대 크기에 맞춰 비율을 유지하며 축소한 JPEG을 만든다")
+    void resizesKeepingAspectRatio() throws IOException {
+        // given
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        byte[] jpeg = ImageResizer.toJpeg(source, ImageRendition.CARD.getMaxWidth());
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertEquals(720, result.getWidth());
+        assertEquals(360, result.getHeight());
+    }
+
+    @Test
+    @DisplayName("원본이 최대 크기보다 작으면 확대하지 않는다")
+    void doesNotUpscale() throws IOException {
+        // given
+        BufferedImage source = new BufferedImage(100, 80, BufferedImage.TYPE_INT_ARGB);
+
+        // when
+        byte[] jpeg = ImageResizer.toJpeg(source, ImageRendition.FULL.getMaxWidth());
+
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertEquals(100, result.getWidth());
+        assertEquals(80, result.getHeight());
+    }
+
+    @Test
+    @DisplayName("허용 픽셀 수를 넘는 이미지는 디코딩하지 않는다")
+    void rejectsTooManyPixels() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB), "png", out);
+        byte[] png = out.toByteArray();
+
+        // when & then
+        assertThrows(IOException.class, () -> ImageResizer.read(png, 10_000));
+        assertEquals(300, ImageResizer.read(png, 90_000).getWidth());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 예외가 발생한다")
+    void rejectsNonImage() {
+        assertThrows(IOException.class, () -> ImageResizer.read("hello".getBytes(), 10_000));
+    }
+
+    @Test
+    @DisplayName("리더가 없는 형식(WebP 등)은 헤더 확인 단계에서 거절한다")
+    void checkRejectsUnsupportedFormat() {
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes();
+        assertThrows(IOException.class, () -> ImageResizer.check(new ByteArrayInputStream(webp), 10_000));
+    }
+
+    @Test
+    @DisplayName("EXIF 방향이 시계 90도인 JPEG은 회전해서 디코딩한다")
+    void appliesExifOrientation() throws IOException {
+        // given - 왼쪽 절반 빨강, 오른쪽 절반 파랑인 40x20 이미지에 방향 6(시계 90도) 태그 추가
+        BufferedImage source = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 40; x++) {
+            for (int y = 0; y < 20; y++) {
+                source.setRGB(x, y, x < 20 ? 0xFF0000 : 0x0000FF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(source, "jpg", out);
+        byte[] jpeg = withOrientation(out.toByteArray(), 6);
+
+        // when
+        BufferedImage result = ImageResizer.read(jpeg, 10_000);
+
+        // then - 세로로 세워지고 왼쪽(빨강)이 위로 감
+        assertEquals(20, result.getWidth());
+        assertEquals(40, result.getHeight());
+        assertTrue((result.getRGB(10, 5) >> 16 & 0xFF) > 200);
+        assertTrue((result.getRGB(10, 35) & 0xFF) > 200);
+    }
+
+    // JFIF(APP0) 바로 뒤에 Orientation 태그 하나만 있는 Exif(APP1) 세그먼트 삽입
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        int insertAt = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        byte[] tiff = {'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1, 0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, 0, 0, 0, 0};
+        int length = 2 + 6 + tiff.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, insertAt);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, insertAt, jpeg.length - insertAt);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.todotravel.global.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalObjectStorageTest {
+
+    @TempDir
+    Path rootDir;
+
+    private LocalObjectStorage storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalObjectStorage(rootDir.toString(), "http://localhost:8080/", "test-key");
+    }
+
+    @Test
+    @DisplayName("스트림을 저장하고 공개 URL로 다시 키를 찾는다")
+    void putAndOpen() throws IOException {
+        // given
+        byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String url = storage.put("uploads/1/a", new ByteArrayInputStream(content), content.length, "image/png");
+
+        // then
+        assertEquals("http://localhost:8080/files/uploads/1/a", url);
+        assertEquals("uploads/1/a", storage.keyOf(url));
+        assertTrue(storage.exists("uploads/1/a"));
+        try (InputStream input = storage.open("uploads/1/a")) {
+            assertArrayEquals(content, input.readAllBytes());
+        }
+
+        storage.delete("uploads/1/a");
+        assertFalse(storage.exists("uploads/1/a"));
+    }
+
+    @Test
+    @DisplayName("여러 파일을 한 번에 삭제하고 남은 파일만 순회한다")
+    void deleteAllAndList() throws IOException {
+        // given
+        byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+        for (String key : List.of("images/a.jpg", "images/b.jpg", "uploads/1/c")) {
+            storage.put(key, new ByteArrayInputStream(content), content.length, "image/jpeg");
+        }
+
+        // when
+        Map<String, String> failed = storage.deleteAll(List.of("images/a.jpg", "images/missing.jpg", "../x"));
+
+        // then
+        assertEquals(Set.of("../x"), failed.keySet());
+        List<String> keys = new ArrayList<>();
+        storage.forEachObject("", (key, lastModified) -> keys.add(key));
+        assertEquals(Set.of("images/b.jpg", "uploads/1/c"), Set.copyOf(keys));
+
+        List<String> images = new ArrayList<>();
+        storage.forEachObject("images/", (key, lastModified) -> images.add(key));
+        assertEquals(List.of("images/b.jpg"), images);
+    }
+
+    @Test
+    @DisplayName("요청한 크기와 실제 크기가 다르면 저장하지 않는다")
+    void rejectsLengthMismatch() {
+        byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class,
+            () -> storage.put("uploads/1/b", new ByteArrayInputStream(content), 100, "image/png"));
+        assertFalse(storage.exists("uploads/1/b"));
+    }
+
+    @Test
+    @DisplayName("요청한 크기보다 긴 본문은 읽기를 중단하고 쓰던 파일을 남기지 않는다")
+    void stopsReadingOversizedBody() throws IOException {
+        // given - 5바이트로 서명했지만 본문은 1MB
+        byte[] content = new byte[1024 * 1024];
+        ByteArrayInputStream body = new ByteArrayInputStream(content);
+
+        // when & then
+        assertThrows(IOException.class, () -> storage.put("uploads/1/big", body, 5, "image/png"));
+        assertTrue(body.available() > 0);
+        assertFalse(storage.exists("uploads/1/big"));
+        try (Stream<Path> files = Files.walk(rootDir)) {
+            assertTrue(files.noneMatch(Files::isRegularFile));
+        }
+    }
+
+    @Test
+    @DisplayName("루트 디렉터리 밖을 가리키는 키와 외부 URL은 거부한다")
+    void rejectsInvalidKeys() {
+        assertThrows(IllegalArgumentException.class,
+            () -> storage.put("../secret", new ByteArrayInputStream(new byte[0]), 0, "image/png"));
+        assertNull(storage.keyOf("https://example.com/files/a.jpg"));
+        assertNull(storage.keyOf("http://localhost:8080/files/../a.jpg"));
+    }
+
+    @Test
+    @DisplayName("업로드 URL 서명은 키, Content-Type, Content-Length, 만료 시각이 모두 일치해야 유효하다")
+    void verifiesPresignedUpload() {
+        // given
+        PresignedUpload upload = storage.presignUpload("uploads/1/c", "image/jpeg", 1024, Duration.ofMinutes(10));
+        long expires = upload.expiresAt().getEpochSecond();
+        String signature = upload.uploadUrl().substring(upload.uploadUrl().indexOf("signature=") + "signature=".length());
+
+        // then
+        assertTrue(upload.uploadUrl().startsWith("http://localhost:8080/api/storage/local/uploads/1/c?"));
+        assertEquals(1024, upload.contentLength());
+        assertTrue(storage.verifyUpload("uploads/1/c", "image/jpeg", 1024, expires, signature));
+        assertFalse(storage.verifyUpload("uploads/2/c", "image/jpeg", 1024, expires, signature));
+        assertFalse(storage.verifyUpload("uploads/1/c", "image/png", 1024, expires, signature));
+        assertFalse(storage.verifyUpload("uploads/1/c", "image/jpeg", 1024 * 1024, expires, signature));
+        assertFalse(storage.verifyUpload("uploads/1/c", "image/jpeg", 1024, expires + 1, signature));
+        assertFalse(storage.verifyUpload("uploads/1/c", "image/jpeg", 1024, 0, signature));
+    }
+}
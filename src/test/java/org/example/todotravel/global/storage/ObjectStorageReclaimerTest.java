@@ -0,0 +1,130 @@
+package org.example.todotravel.global.storage;
+
+import org.example.todotravel.global.storage.entity.PendingObjectDeletion;
+import org.example.todotravel.global.storage.repository.PendingObjectDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ObjectStorageReclaimerTest {
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private ObjectStorage objectStorage;
+    private PendingObjectDeletionRepository repository;
+    private ObjectDeletionQueue objectDeletionQueue;
+    private ObjectStorageReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        objectStorage = mock(ObjectStorage.class);
+        repository = mock(PendingObjectDeletionRepository.class);
+        objectDeletionQueue = mock(ObjectDeletionQueue.class);
+        reclaimer = new ObjectStorageReclaimer(objectStorage, repository, objectDeletionQueue,
+            mock(PlatformTransactionManager.class), BATCH_SIZE, MAX_ATTEMPTS, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 1분부터 두 배씩 늘어나고 6시간을 넘지 않는다")
+    void backoffDoublesUpToSixHours() {
+        assertEquals(Duration.ofMinutes(1), ObjectStorageReclaimer.backoff(1));
+        assertEquals(Duration.ofMinutes(2), ObjectStorageReclaimer.backoff(2));
+        assertEquals(Duration.ofMinutes(256), ObjectStorageReclaimer.backoff(9));
+        assertEquals(Duration.ofHours(6), ObjectStorageReclaimer.backoff(10));
+        assertEquals(Duration.ofHours(6), ObjectStorageReclaimer.backoff(100));
+    }
+
+    @Test
+    @DisplayName("삭제에 성공한 행은 지우고 실패한 행은 시도 횟수와 다음 시도 시각을 늘린다")
+    void failedDeletionsAreRescheduled() {
+        // given
+        PendingObjectDeletion ok = deletion("images/a.jpg", 0);
+        PendingObjectDeletion failing = deletion("images/b.jpg", 1);
+        when(repository.findDueForUpdate(any(), eq(MAX_ATTEMPTS), eq(BATCH_SIZE))).thenReturn(List.of(ok, failing));
+        when(objectStorage.deleteAll(List.of("images/a.jpg", "images/b.jpg"))).thenReturn(Map.of("images/b.jpg", "SlowDown"));
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        reclaimer.reclaim();
+
+        // then
+        verify(repository).deleteAllInBatch(List.of(ok));
+        assertEquals(2, failing.getAttempts());
+        assertEquals("SlowDown", failing.getLastError());
+        assertFalse(failing.getNextAttemptAt().isBefore(before.plusMinutes(2)));
+    }
+
+    @Test
+    @DisplayName("재시도 한도에 도달하면 더 이상 조회되지 않도록 시도 횟수가 한도와 같아진다")
+    void deletionIsParkedAtMaxAttempts() {
+        // given
+        PendingObjectDeletion failing = deletion("images/c.jpg", MAX_ATTEMPTS - 1);
+        when(repository.findDueForUpdate(any(), eq(MAX_ATTEMPTS), eq(BATCH_SIZE))).thenReturn(List.of(failing));
+        when(objectStorage.deleteAll(List.of("images/c.jpg"))).thenReturn(Map.of("images/c.jpg", "AccessDenied"));
+
+        // when
+        reclaimer.reclaim();
+
+        // then
+        assertEquals(MAX_ATTEMPTS, failing.getAttempts());
+        verify(repository).deleteAllInBatch(List.of());
+        verify(repository).countByAttemptsGreaterThanEqual(MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("고아 파일 정리는 images/, uploads/ 아래의 오래되고 참조되지 않는 파일만 다시 예약한다")
+    void sweepOnlyScansOwnedPrefixes() throws Exception {
+        // given
+        Instant old = Instant.now().minus(Duration.ofDays(2));
+        Instant recent = Instant.now();
+        when(repository.findReferencedObjectUrls()).thenReturn(List.of("https://bucket/images/used.jpg"));
+        when(objectStorage.keyOf(anyString())).thenAnswer(invocation ->
+            ((String) invocation.getArgument(0)).substring("https://bucket/".length()));
+        doAnswer(invocation -> {
+            String prefix = invocation.getArgument(0);
+            BiConsumer<String, Instant> visitor = invocation.getArgument(1);
+            if (prefix.equals(UploadKeys.IMAGE_PREFIX)) {
+                visitor.accept("images/used.jpg", old);
+                visitor.accept("images/orphan.jpg", old);
+                visitor.accept("images/new.jpg", recent);
+            } else if (prefix.equals(UploadKeys.STAGING_PREFIX)) {
+                visitor.accept("uploads/1/stale", old);
+            }
+            return null;
+        }).when(objectStorage).forEachObject(anyString(), any());
+
+        // when
+        reclaimer.sweepOrphans();
+
+        // then - 재시도 한도를 넘겨 멈춘 키도 enqueue에서 초기화되어 다시 시도됨
+        verify(objectDeletionQueue).enqueueKeys(List.of("images/orphan.jpg", "uploads/1/stale"));
+        verify(objectStorage, never()).forEachObject(eq(""), any());
+    }
+
+    private static PendingObjectDeletion deletion(String key, int attempts) {
+        return PendingObjectDeletion.builder()
+            .objectKey(key)
+            .attempts(attempts)
+            .nextAttemptAt(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.todotravel.global.storage.repository;
+
+import org.example.todotravel.global.storage.entity.PendingObjectDeletion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ON DUPLICATE KEY UPDATE, FOR UPDATE SKIP LOCKED 등 MySQL 전용 구문이라 실제 MySQL로 확인
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class PendingObjectDeletionRepositoryTest {
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PendingObjectDeletionRepository repository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("재시도 한도를 넘겨 멈춘 키를 다시 예약하면 시도 횟수가 초기화되어 다시 조회된다")
+    void reEnqueueRevivesParkedDeletion() {
+        // given - 한도까지 실패해 멈춘 행
+        LocalDateTime created = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        repository.enqueue("images/a.jpg", created);
+        PendingObjectDeletion parked = repository.findAll().get(0);
+        parked.setAttempts(MAX_ATTEMPTS);
+        parked.setNextAttemptAt(created.plusHours(6));
+        parked.setLastError("AccessDenied");
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        assertTrue(repository.findDueForUpdate(now, MAX_ATTEMPTS, 10).isEmpty());
+
+        // when
+        repository.enqueue("images/a.jpg", now);
+        entityManager.clear();
+
+        // then - 행은 하나뿐이고, 바로 다시 시도할 차례가 됨
+        List<PendingObjectDeletion> rows = repository.findAll();
+        assertEquals(1, rows.size());
+        assertEquals(0, rows.get(0).getAttempts());
+        assertEquals(now, rows.get(0).getNextAttemptAt());
+        assertNull(rows.get(0).getLastError());
+        assertEquals(created, rows.get(0).getCreatedAt());
+        assertEquals(1, repository.findDueForUpdate(now, MAX_ATTEMPTS, 10).size());
+    }
+}